@@ -109,6 +109,32 @@ jar.apply {
     }
 }
 
+val jmh: SourceSet = sourceSets.create("jmh") {
+    compileClasspath += sourceSets["test"].output + sourceSets["test"].compileClasspath
+    runtimeClasspath += output + compileClasspath + sourceSets["test"].runtimeClasspath
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.23")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.23")
+}
+
+// runs the benchmarks in src/jmh headless, e.g. gradlew jmh -PjmhArgs="RecipeMapBenchmark -f 1"
+val jmhTask: JavaExec = tasks.create("jmh", JavaExec::class.java) {
+    group = "verification"
+    description = "Runs the JMH benchmarks against bootstrapped registries"
+    dependsOn(jmh.classesTaskName)
+    classpath = jmh.runtimeClasspath
+    main = "org.openjdk.jmh.Main"
+    workingDir = file("run")
+    if (project.hasProperty("jmhArgs")) {
+        args((project.property("jmhArgs") as String).split(" "))
+    }
+    doFirst {
+        workingDir.mkdirs()
+    }
+}
+
 tasks.withType<Test>() {
     testLogging {
         events("failed")
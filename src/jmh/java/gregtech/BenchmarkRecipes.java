@@ -0,0 +1,99 @@
+package gregtech;
+
+import gregtech.api.recipes.CountableIngredient;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.builders.SimpleRecipeBuilder;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builds deterministic, fully populated recipe maps for the benchmarks,
+ * using every registered item and fluid available after {@link Bootstrap#perform()}
+ */
+public class BenchmarkRecipes {
+
+    private static int mapCounter = 0;
+
+    public static RecipeMap<SimpleRecipeBuilder> createPopulatedMap(int recipeCount) {
+        Bootstrap.perform();
+        RecipeMap<SimpleRecipeBuilder> map = new RecipeMap<>("benchmark_" + mapCounter++,
+                1, 3, 1, 1, 0, 2, 0, 1,
+                new SimpleRecipeBuilder(), true);
+
+        List<ItemStack> items = collectItems();
+        List<Fluid> fluids = new ArrayList<>(FluidRegistry.getRegisteredFluids().values());
+        fluids.sort((a, b) -> a.getName().compareTo(b.getName()));
+
+        for (int i = 0; map.getRecipeList().size() < recipeCount && i < recipeCount * 4; i++) {
+            SimpleRecipeBuilder builder = map.recipeBuilder()
+                    .inputs(copyWithCount(items.get(i % items.size()), 1 + i % 4))
+                    .outputs(new ItemStack(Blocks.STONE))
+                    .EUt(1 + i % 512).duration(20 + i % 200);
+            if (i % 3 != 0) {
+                builder.inputs(copyWithCount(items.get((i * 7 + 3) % items.size()), 1 + i % 2));
+            }
+            if (i % 2 == 0) {
+                builder.fluidInputs(new FluidStack(fluids.get(i % fluids.size()), 100 + i % 1000));
+            }
+            builder.buildAndRegister();
+        }
+        return map;
+    }
+
+    /**
+     * @return item inputs exactly satisfying given recipe
+     */
+    public static List<ItemStack> itemInputsFor(Recipe recipe) {
+        List<ItemStack> inputs = new ArrayList<>();
+        for (CountableIngredient ingredient : recipe.getInputs()) {
+            ItemStack[] matchingStacks = ingredient.getIngredient().getMatchingStacks();
+            if (matchingStacks.length > 0) {
+                inputs.add(copyWithCount(matchingStacks[0], ingredient.getCount()));
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * @return fluid inputs exactly satisfying given recipe
+     */
+    public static List<FluidStack> fluidInputsFor(Recipe recipe) {
+        List<FluidStack> inputs = new ArrayList<>();
+        for (FluidStack fluidStack : recipe.getFluidInputs()) {
+            inputs.add(new FluidStack(fluidStack.getFluid(), fluidStack.amount));
+        }
+        if (inputs.isEmpty()) {
+            return Collections.singletonList(null);
+        }
+        return inputs;
+    }
+
+    private static List<ItemStack> collectItems() {
+        List<ItemStack> items = new ArrayList<>();
+        for (Item item : Item.REGISTRY) {
+            int variants = item.getHasSubtypes() ? 4 : 1;
+            for (int meta = 0; meta < variants; meta++) {
+                ItemStack itemStack = new ItemStack(item, 1, meta);
+                if (!itemStack.isEmpty()) {
+                    items.add(itemStack);
+                }
+            }
+        }
+        return items;
+    }
+
+    private static ItemStack copyWithCount(ItemStack itemStack, int count) {
+        ItemStack copy = itemStack.copy();
+        copy.setCount(count);
+        return copy;
+    }
+}
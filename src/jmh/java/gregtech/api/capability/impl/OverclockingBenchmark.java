@@ -0,0 +1,75 @@
+package gregtech.api.capability.impl;
+
+import gregtech.Bootstrap;
+import gregtech.api.GTValues;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.MetaTileEntityHolder;
+import gregtech.api.metatileentity.SimpleMachineMetaTileEntity;
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.builders.SimpleRecipeBuilder;
+import gregtech.api.recipes.recipeproperties.RecipePropertyStorage;
+import net.minecraft.util.ResourceLocation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OverclockingBenchmark {
+
+    @Param({"1", "5", "9"})
+    public int machineTier;
+
+    private AbstractRecipeLogic recipeLogic;
+    private final RecipePropertyStorage propertyStorage = new RecipePropertyStorage();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Bootstrap.perform();
+        RecipeMap<SimpleRecipeBuilder> map = new RecipeMap<>("overclocking_benchmark",
+                0, 2, 0, 2, 0, 3, 0, 2,
+                new SimpleRecipeBuilder().EUt(30),
+                true);
+        MetaTileEntity machine = new SimpleMachineMetaTileEntity(
+                new ResourceLocation(GTValues.MODID, "overclocking_benchmark." + GTValues.VN[machineTier].toLowerCase()),
+                map, null, machineTier, false);
+        MetaTileEntity holderMachine = new MetaTileEntityHolder().setMetaTileEntity(machine);
+        final long maxVoltage = GTValues.V[machineTier];
+
+        this.recipeLogic = new AbstractRecipeLogic(holderMachine, map) {
+            @Override
+            protected long getEnergyInputPerSecond() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            protected long getEnergyStored() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            protected long getEnergyCapacity() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            protected boolean drawEnergy(int recipeEUt, boolean simulate) {
+                return true;
+            }
+
+            @Override
+            protected long getMaxVoltage() {
+                return maxVoltage;
+            }
+        };
+    }
+
+    @Benchmark
+    public int[] runOverclockingLogic() {
+        return recipeLogic.runOverclockingLogic(propertyStorage, 7, recipeLogic.getMaximumOverclockVoltage(), 400, machineTier);
+    }
+}
@@ -0,0 +1,69 @@
+package gregtech.api.recipes;
+
+import gregtech.BenchmarkRecipes;
+import gregtech.api.recipes.builders.SimpleRecipeBuilder;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeMapBenchmark {
+
+    @Param({"1000", "10000"})
+    public int recipeCount;
+
+    private RecipeMap<SimpleRecipeBuilder> map;
+    private Recipe[] recipes;
+    private final List<List<ItemStack>> itemInputs = new ArrayList<>();
+    private final List<List<FluidStack>> fluidInputs = new ArrayList<>();
+    private final List<ItemStack> missingItemInputs = Collections.singletonList(new ItemStack(Blocks.BEDROCK, 64));
+    private final List<FluidStack> missingFluidInputs = Collections.singletonList(null);
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.map = BenchmarkRecipes.createPopulatedMap(recipeCount);
+        this.recipes = map.getRecipeList().toArray(new Recipe[0]);
+        for (Recipe recipe : recipes) {
+            itemInputs.add(BenchmarkRecipes.itemInputsFor(recipe));
+            fluidInputs.add(BenchmarkRecipes.fluidInputsFor(recipe));
+        }
+        // compile the lookup outside of the measurement
+        map.findRecipe(Long.MAX_VALUE, missingItemInputs, missingFluidInputs, Integer.MAX_VALUE);
+    }
+
+    private int next() {
+        if (++cursor >= recipes.length) {
+            cursor = 0;
+        }
+        return cursor;
+    }
+
+    @Benchmark
+    public Recipe findRecipe() {
+        int index = next();
+        return map.findRecipe(Long.MAX_VALUE, itemInputs.get(index), fluidInputs.get(index), Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public Recipe findRecipeNoMatch() {
+        return map.findRecipe(Long.MAX_VALUE, missingItemInputs, missingFluidInputs, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        int index = next();
+        return recipes[index].matches(false, itemInputs.get(index), fluidInputs.get(index));
+    }
+}
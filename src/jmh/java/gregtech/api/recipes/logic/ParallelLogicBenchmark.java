@@ -0,0 +1,90 @@
+package gregtech.api.recipes.logic;
+
+import gregtech.Bootstrap;
+import gregtech.api.GTValues;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeBuilder;
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.builders.BlastRecipeBuilder;
+import gregtech.api.unification.material.Materials;
+import gregtech.api.util.OverlayedItemHandler;
+import gregtech.common.metatileentities.multi.multiblockpart.MetaTileEntityFluidHatch;
+import gregtech.common.metatileentities.multi.multiblockpart.MetaTileEntityItemBus;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelLogicBenchmark {
+
+    @Param({"4", "64", "256"})
+    public int parallelLimit;
+
+    private RecipeMap<BlastRecipeBuilder> map;
+    private Recipe recipe;
+    private MetaTileEntityItemBus importItemBus;
+    private MetaTileEntityItemBus exportItemBus;
+    private MetaTileEntityFluidHatch importFluidBus;
+    private MetaTileEntityFluidHatch exportFluidBus;
+    private OverlayedItemHandler overlayedExport;
+
+    private static ResourceLocation gregtechId(String name) {
+        return new ResourceLocation(GTValues.MODID, name);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Bootstrap.perform();
+        this.map = new RecipeMap<>("electric_blast_furnace_benchmark",
+                1, 3, 1, 2, 0, 1, 0, 1,
+                new BlastRecipeBuilder(), true);
+        this.recipe = map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.COBBLESTONE))
+                .fluidInputs(Materials.Acetone.getFluid(100))
+                .outputs(new ItemStack(Blocks.STONE), new ItemStack(Items.FLINT))
+                .blastFurnaceTemp(1000)
+                .EUt(30).duration(100)
+                .build().getResult();
+
+        this.importItemBus = new MetaTileEntityItemBus(gregtechId("item_bus.import.iv"), GTValues.IV, false);
+        this.exportItemBus = new MetaTileEntityItemBus(gregtechId("item_bus.export.iv"), GTValues.IV, true);
+        this.importFluidBus = new MetaTileEntityFluidHatch(gregtechId("fluid_hatch.import.iv"), GTValues.IV, false);
+        this.exportFluidBus = new MetaTileEntityFluidHatch(gregtechId("fluid_hatch.export.iv"), GTValues.IV, true);
+
+        for (int i = 0; i < importItemBus.getImportItems().getSlots(); i++) {
+            importItemBus.getImportItems().insertItem(i, new ItemStack(Blocks.COBBLESTONE, 64), false);
+        }
+        importFluidBus.getImportFluids().fill(Materials.Acetone.getFluid(64000), true);
+        // leave the export bus partially filled, so merging has to account for existing stacks
+        exportItemBus.getExportItems().insertItem(0, new ItemStack(Blocks.STONE, 32), false);
+        exportItemBus.getExportItems().insertItem(1, new ItemStack(Items.FLINT, 16), false);
+        this.overlayedExport = new OverlayedItemHandler(exportItemBus.getExportItems());
+    }
+
+    @Benchmark
+    public RecipeBuilder<?> doParallelRecipes() {
+        return ParallelLogic.doParallelRecipes(recipe, map,
+                importItemBus.getImportItems(), importFluidBus.getImportFluids(),
+                exportItemBus.getExportItems(), exportFluidBus.getExportFluids(),
+                parallelLimit, GTValues.V[GTValues.MAX], importItemBus);
+    }
+
+    @Benchmark
+    public int limitParallelByItems() {
+        return ParallelLogic.limitParallelByItems(recipe, overlayedExport, parallelLimit);
+    }
+
+    @Benchmark
+    public int getMaxRecipeMultiplier() {
+        return ParallelLogic.getMaxRecipeMultiplier(recipe, importItemBus.getImportItems(), importFluidBus.getImportFluids(), parallelLimit);
+    }
+}
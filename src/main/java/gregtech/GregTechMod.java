@@ -12,6 +12,7 @@ import gregtech.api.items.gui.PlayerInventoryUIFactory;
 import gregtech.api.metatileentity.MetaTileEntityUIFactory;
 import gregtech.api.net.NetworkHandler;
 import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.lookup.RecipeLookupSnapshot;
 import gregtech.api.sound.GTSounds;
 import gregtech.api.unification.OreDictUnifier;
 import gregtech.api.unification.material.Materials;
@@ -23,6 +24,7 @@ import gregtech.api.util.input.KeyBind;
 import gregtech.api.worldgen.bedrockFluids.BedrockFluidVeinHandler;
 import gregtech.api.worldgen.bedrockFluids.BedrockFluidVeinSaveData;
 import gregtech.api.worldgen.config.WorldGenRegistry;
+import gregtech.api.worldgen.generator.CachedGridEntry;
 import gregtech.client.utils.BloomEffectUtil;
 import gregtech.common.CommonProxy;
 import gregtech.common.ConfigHolder;
@@ -208,6 +210,14 @@ public class GregTechMod {
                 BedrockFluidVeinSaveData.setInstance(saveData);
             }
         }
+        if (ConfigHolder.misc.recipeLookupSnapshot) {
+            RecipeLookupSnapshot.saveIfOutdated();
+        }
+    }
+
+    @Mod.EventHandler
+    public void onServerStopping(FMLServerStoppingEvent event) {
+        CachedGridEntry.clearCaches();
     }
 
     @Mod.EventHandler
@@ -0,0 +1,61 @@
+package gregtech.api.capability;
+
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.items.IItemHandler;
+
+/**
+ * For item and fluid handlers counting the changes of their contents, so pollers
+ * can skip comparing them while nothing changed.
+ * <p>
+ * Stacks returned by the handler and changed in place are only counted after {@link #markContentsChanged()}.
+ */
+public interface IRevisionTracker {
+
+    /**
+     * Returned by handlers which cannot count the changes of all their contents
+     */
+    long UNTRACKED = -1;
+
+    /**
+     * @return a number increasing with every change of the contents, or {@link #UNTRACKED}
+     */
+    long getRevision();
+
+    /**
+     * @return a number increasing with every change of the slot or tank, or {@link #UNTRACKED}
+     */
+    long getSlotRevision(int slot);
+
+    /**
+     * Counts a change of every slot or tank, for contents which were changed without the handler
+     */
+    void markContentsChanged();
+
+    /**
+     * @return the revision of the handler, or {@link #UNTRACKED} if it does not count its changes.
+     * Handlers without any slot or tank never change, so their revision is always 0
+     */
+    static long getRevision(Object handler) {
+        if (handler instanceof IRevisionTracker) {
+            return ((IRevisionTracker) handler).getRevision();
+        }
+        if (handler instanceof IItemHandler && ((IItemHandler) handler).getSlots() == 0 ||
+                handler instanceof IFluidHandler && ((IFluidHandler) handler).getTankProperties().length == 0) {
+            return 0;
+        }
+        return UNTRACKED;
+    }
+
+    /**
+     * @return the revision of a slot or tank of the handler, or {@link #UNTRACKED} if it does not count its changes
+     */
+    static long getSlotRevision(Object handler, int slot) {
+        return handler instanceof IRevisionTracker ? ((IRevisionTracker) handler).getSlotRevision(slot) : UNTRACKED;
+    }
+
+    static void markContentsChanged(Object handler) {
+        if (handler instanceof IRevisionTracker) {
+            ((IRevisionTracker) handler).markContentsChanged();
+        }
+    }
+}
@@ -151,6 +151,13 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        if (progressTime > 0 || isActive || wasActiveAndNeedsUpdate) return false;
+        // waiting for inventory notifications, which wake the machine
+        return !workingEnabled || ((invalidInputsForRecipes || isOutputsFull) && !hasNotifiedInputs() && !hasNotifiedOutputs());
+    }
+
     /**
      * DO NOT use the recipeMap field directly, EVER
      *
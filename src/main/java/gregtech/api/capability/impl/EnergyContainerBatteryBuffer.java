@@ -9,7 +9,6 @@ import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.energy.IEnergyStorage;
@@ -87,11 +86,7 @@ public class EnergyContainerBatteryBuffer extends EnergyContainerHandler {
         }
 
         EnumFacing outFacing = metaTileEntity.getFrontFacing();
-        TileEntity tileEntity = metaTileEntity.getWorld().getTileEntity(metaTileEntity.getPos().offset(outFacing));
-        if (tileEntity == null) {
-            return;
-        }
-        IEnergyContainer energyContainer = tileEntity.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, outFacing.getOpposite());
+        IEnergyContainer energyContainer = metaTileEntity.getNeighborCapability(outFacing, GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER);
         if (energyContainer == null) {
             return;
         }
@@ -11,7 +11,6 @@ import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.energy.CapabilityEnergy;
@@ -204,14 +203,11 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
             long amperesUsed = 0;
             for (EnumFacing side : EnumFacing.VALUES) {
                 if (!outputsEnergy(side)) continue;
-                TileEntity tileEntity = metaTileEntity.getWorld().getTileEntity(metaTileEntity.getPos().offset(side));
                 EnumFacing oppositeSide = side.getOpposite();
-                if (tileEntity != null && tileEntity.hasCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, oppositeSide)) {
-                    IEnergyContainer energyContainer = tileEntity.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, oppositeSide);
-                    if (energyContainer == null || !energyContainer.inputsEnergy(oppositeSide)) continue;
-                    amperesUsed += energyContainer.acceptEnergyFromNetwork(oppositeSide, outputVoltage, outputAmperes - amperesUsed);
-                    if (amperesUsed == outputAmperes) break;
-                }
+                IEnergyContainer energyContainer = metaTileEntity.getNeighborCapability(side, GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER);
+                if (energyContainer == null || !energyContainer.inputsEnergy(oppositeSide)) continue;
+                amperesUsed += energyContainer.acceptEnergyFromNetwork(oppositeSide, outputVoltage, outputAmperes - amperesUsed);
+                if (amperesUsed == outputAmperes) break;
             }
             if (amperesUsed > 0) {
                 setEnergyStored(getEnergyStored() - amperesUsed * outputVoltage);
@@ -219,6 +215,13 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        // energy flow statistics must run out before sleeping, inserting or extracting energy marks the machine dirty and wakes it
+        return (getOutputVoltage() <= 0 || getOutputAmperage() <= 0) &&
+                energyInputPerSec == 0 && energyOutputPerSec == 0 && lastEnergyInputPerSec == 0 && lastEnergyOutputPerSec == 0;
+    }
+
     @Override
     public long acceptEnergyFromNetwork(EnumFacing side, long voltage, long amperage) {
         if(amps >= getInputAmperage()) return 0;
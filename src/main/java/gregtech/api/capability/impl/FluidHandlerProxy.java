@@ -1,6 +1,7 @@
 package gregtech.api.capability.impl;
 
 import com.google.common.collect.Lists;
+import gregtech.api.capability.IRevisionTracker;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
@@ -9,7 +10,7 @@ import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 
-public class FluidHandlerProxy implements IFluidHandler {
+public class FluidHandlerProxy implements IFluidHandler, IRevisionTracker {
 
     public IFluidHandler input;
     public IFluidHandler output;
@@ -50,4 +51,27 @@ public class FluidHandlerProxy implements IFluidHandler {
     public FluidStack drain(int maxDrain, boolean doDrain) {
         return output.drain(maxDrain, doDrain);
     }
+
+    @Override
+    public long getRevision() {
+        long inputRevision = IRevisionTracker.getRevision(input);
+        long outputRevision = IRevisionTracker.getRevision(output);
+        if (inputRevision == UNTRACKED || outputRevision == UNTRACKED) return UNTRACKED;
+        return inputRevision + outputRevision;
+    }
+
+    /**
+     * Tanks are numbered like {@link #getTankProperties()}
+     */
+    @Override
+    public long getSlotRevision(int tank) {
+        int inputTanks = input.getTankProperties().length;
+        return tank < inputTanks ? IRevisionTracker.getSlotRevision(input, tank) : IRevisionTracker.getSlotRevision(output, tank - inputTanks);
+    }
+
+    @Override
+    public void markContentsChanged() {
+        IRevisionTracker.markContentsChanged(input);
+        IRevisionTracker.markContentsChanged(output);
+    }
 }
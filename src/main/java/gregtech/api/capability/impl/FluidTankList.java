@@ -1,6 +1,7 @@
 package gregtech.api.capability.impl;
 
 import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.capability.IRevisionTracker;
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -20,7 +21,7 @@ import java.util.*;
  * Recommended to use this with {@link NotifiableFluidTankFromList} to ensure
  * proper behavior of the "allowSameFluidFill" setting, but not required.
  */
-public class FluidTankList implements IFluidHandler, IMultipleTankHandler, INBTSerializable<NBTTagCompound> {
+public class FluidTankList implements IFluidHandler, IMultipleTankHandler, INBTSerializable<NBTTagCompound>, IRevisionTracker {
 
     protected final List<IFluidTank> fluidTanks;
     protected IFluidTankProperties[] properties;
@@ -224,4 +225,30 @@ public class FluidTankList implements IFluidHandler, IMultipleTankHandler, INBTS
     public boolean allowSameFluidFill() {
         return allowSameFluidFill;
     }
+
+    /**
+     * @return the sum of the revisions of all tanks, or {@link #UNTRACKED} if any of them does not count its changes
+     */
+    @Override
+    public long getRevision() {
+        long revision = 0;
+        for (IFluidTank fluidTank : fluidTanks) {
+            long tankRevision = IRevisionTracker.getRevision(fluidTank);
+            if (tankRevision == UNTRACKED) return UNTRACKED;
+            revision += tankRevision;
+        }
+        return revision;
+    }
+
+    @Override
+    public long getSlotRevision(int tank) {
+        return IRevisionTracker.getRevision(fluidTanks.get(tank));
+    }
+
+    @Override
+    public void markContentsChanged() {
+        for (IFluidTank fluidTank : fluidTanks) {
+            IRevisionTracker.markContentsChanged(fluidTank);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package gregtech.api.capability.impl;
 
 import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
+import gregtech.api.capability.IRevisionTracker;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
@@ -14,7 +15,7 @@ import java.util.Map;
 /**
  * Efficiently delegates calls into multiple item handlers
  */
-public class ItemHandlerList implements IItemHandlerModifiable {
+public class ItemHandlerList implements IItemHandlerModifiable, IRevisionTracker {
 
     private final TIntObjectMap<IItemHandler> handlerBySlotIndex = new TIntObjectHashMap<>();
     private final Map<IItemHandler, Integer> baseIndexOffset = new IdentityHashMap<>();
@@ -75,4 +76,30 @@ public class ItemHandlerList implements IItemHandlerModifiable {
         return itemHandler.extractItem(slot - baseIndexOffset.get(itemHandler), amount, simulate);
     }
 
+    /**
+     * @return the sum of the revisions of all handlers, or {@link #UNTRACKED} if any of them does not count its changes
+     */
+    @Override
+    public long getRevision() {
+        long revision = 0;
+        for (IItemHandler itemHandler : baseIndexOffset.keySet()) {
+            long handlerRevision = IRevisionTracker.getRevision(itemHandler);
+            if (handlerRevision == UNTRACKED) return UNTRACKED;
+            revision += handlerRevision;
+        }
+        return revision;
+    }
+
+    @Override
+    public long getSlotRevision(int slot) {
+        IItemHandler itemHandler = handlerBySlotIndex.get(slot);
+        return IRevisionTracker.getSlotRevision(itemHandler, slot - baseIndexOffset.get(itemHandler));
+    }
+
+    @Override
+    public void markContentsChanged() {
+        for (IItemHandler itemHandler : baseIndexOffset.keySet()) {
+            IRevisionTracker.markContentsChanged(itemHandler);
+        }
+    }
 }
@@ -1,11 +1,12 @@
 package gregtech.api.capability.impl;
 
+import gregtech.api.capability.IRevisionTracker;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 
 import javax.annotation.Nonnull;
 
-public class ItemHandlerProxy implements IItemHandler {
+public class ItemHandlerProxy implements IItemHandler, IRevisionTracker {
 
     private final IItemHandler insertHandler;
     private final IItemHandler extractHandler;
@@ -42,4 +43,23 @@ public class ItemHandlerProxy implements IItemHandler {
     public int getSlotLimit(int slot) {
         return slot < insertHandler.getSlots() ? insertHandler.getSlotLimit(slot) : extractHandler.getSlotLimit(slot - insertHandler.getSlots());
     }
+
+    @Override
+    public long getRevision() {
+        long insertRevision = IRevisionTracker.getRevision(insertHandler);
+        long extractRevision = IRevisionTracker.getRevision(extractHandler);
+        if (insertRevision == UNTRACKED || extractRevision == UNTRACKED) return UNTRACKED;
+        return insertRevision + extractRevision;
+    }
+
+    @Override
+    public long getSlotRevision(int slot) {
+        return slot < insertHandler.getSlots() ? IRevisionTracker.getSlotRevision(insertHandler, slot) : IRevisionTracker.getSlotRevision(extractHandler, slot - insertHandler.getSlots());
+    }
+
+    @Override
+    public void markContentsChanged() {
+        IRevisionTracker.markContentsChanged(insertHandler);
+        IRevisionTracker.markContentsChanged(extractHandler);
+    }
 }
@@ -1,16 +1,19 @@
 package gregtech.api.capability.impl;
 
 import gregtech.api.capability.INotifiableHandler;
+import gregtech.api.capability.IRevisionTracker;
 import gregtech.api.metatileentity.MetaTileEntity;
+import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 
 import java.util.ArrayList;
 import java.util.List;
 
-public class NotifiableFluidTank extends FluidTank implements INotifiableHandler {
+public class NotifiableFluidTank extends FluidTank implements INotifiableHandler, IRevisionTracker {
 
     List<MetaTileEntity> notifiableEntities = new ArrayList<>();
     private final boolean isExport;
+    private long revision;
 
     public NotifiableFluidTank(int capacity, MetaTileEntity entityToNotify, boolean isExport) {
         super(capacity);
@@ -18,9 +21,16 @@ public class NotifiableFluidTank extends FluidTank implements INotifiableHandler
         this.isExport = isExport;
     }
 
+    @Override
+    public void setFluid(FluidStack fluid) {
+        super.setFluid(fluid);
+        this.revision++;
+    }
+
     @Override
     protected void onContentsChanged() {
         super.onContentsChanged();
+        this.revision++;
         for (MetaTileEntity metaTileEntity : notifiableEntities) {
             if (metaTileEntity != null && metaTileEntity.isValid()) {
                 addToNotifiedList(metaTileEntity, this, isExport);
@@ -37,4 +47,19 @@ public class NotifiableFluidTank extends FluidTank implements INotifiableHandler
     public void removeNotifiableMetaTileEntity(MetaTileEntity metaTileEntity) {
         this.notifiableEntities.remove(metaTileEntity);
     }
+
+    @Override
+    public long getRevision() {
+        return revision;
+    }
+
+    @Override
+    public long getSlotRevision(int slot) {
+        return revision;
+    }
+
+    @Override
+    public void markContentsChanged() {
+        this.revision++;
+    }
 }
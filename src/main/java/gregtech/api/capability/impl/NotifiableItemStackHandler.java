@@ -1,17 +1,21 @@
 package gregtech.api.capability.impl;
 
 import gregtech.api.capability.INotifiableHandler;
+import gregtech.api.capability.IRevisionTracker;
 import gregtech.api.metatileentity.MetaTileEntity;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.ItemStackHandler;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
-public class NotifiableItemStackHandler extends ItemStackHandler implements IItemHandlerModifiable, INotifiableHandler {
+public class NotifiableItemStackHandler extends ItemStackHandler implements IItemHandlerModifiable, INotifiableHandler, IRevisionTracker {
 
     List<MetaTileEntity> notifiableEntities = new ArrayList<>();
     private final boolean isExport;
+    private long revision;
+    private long[] slotRevisions;
 
     public NotifiableItemStackHandler(int slots, MetaTileEntity entityToNotify, boolean isExport) {
         super(slots);
@@ -19,11 +23,27 @@ public class NotifiableItemStackHandler extends ItemStackHandler implements IIte
             this.notifiableEntities.add(entityToNotify);
         }
         this.isExport = isExport;
+        this.slotRevisions = new long[slots];
+    }
+
+    @Override
+    public void setSize(int size) {
+        super.setSize(size);
+        this.slotRevisions = new long[size];
+        markContentsChanged();
+    }
+
+    @Override
+    protected void onLoad() {
+        super.onLoad();
+        markContentsChanged();
     }
 
     @Override
     public void onContentsChanged(int slot) {
         super.onContentsChanged(slot);
+        this.revision++;
+        slotRevisions[slot] = revision;
         for (MetaTileEntity metaTileEntity : notifiableEntities) {
             if (metaTileEntity != null && metaTileEntity.isValid()) {
                 addToNotifiedList(metaTileEntity, this, isExport);
@@ -41,4 +61,20 @@ public class NotifiableItemStackHandler extends ItemStackHandler implements IIte
     public void removeNotifiableMetaTileEntity(MetaTileEntity metaTileEntity) {
         this.notifiableEntities.remove(metaTileEntity);
     }
+
+    @Override
+    public long getRevision() {
+        return revision;
+    }
+
+    @Override
+    public long getSlotRevision(int slot) {
+        return slotRevisions[slot];
+    }
+
+    @Override
+    public void markContentsChanged() {
+        this.revision++;
+        Arrays.fill(slotRevisions, revision);
+    }
 }
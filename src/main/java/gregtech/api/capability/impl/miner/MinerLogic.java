@@ -11,9 +11,11 @@ import gregtech.api.recipes.RecipeMap;
 import gregtech.api.util.GTTransferUtils;
 import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.texture.Textures;
+import gregtech.api.unification.BlockStateOreInfo;
 import gregtech.api.unification.OreDictUnifier;
 import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.util.GTUtility;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
@@ -24,20 +26,24 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.BlockStatePaletteHashMap;
+import net.minecraft.world.chunk.BlockStatePaletteLinear;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IBlockStatePalette;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class MinerLogic {
 
-    private static final short MAX_SPEED = Short.MAX_VALUE;
-    private static final byte POWER = 5;
-    private static final byte TICK_TOLERANCE = 20;
-    private static final double DIVIDEND = MAX_SPEED * Math.pow(TICK_TOLERANCE, POWER);
+    // the largest block state palette which is not the global registry, as used by sections with up to 8 bits per block
+    private static final int MAX_LOCAL_PALETTE_SIZE = 1 << 8;
 
     protected final MetaTileEntity metaTileEntity;
     protected final IMiner miner;
@@ -48,7 +54,8 @@ public class MinerLogic {
 
     private final ICubeRenderer PIPE_TEXTURE;
 
-    private final LinkedList<BlockPos> blocksToMine = new LinkedList<>();
+    // positions as BlockPos#toLong()
+    private final LongArrayFIFOQueue blocksToMine = new LongArrayFIFOQueue();
 
     private final AtomicInteger x = new AtomicInteger(Integer.MAX_VALUE);
     private final AtomicInteger y = new AtomicInteger(Integer.MAX_VALUE);
@@ -133,20 +140,21 @@ public class MinerLogic {
         // if there are blocks to mine and the correct amount of time has passed, do the mining
         if (metaTileEntity.getOffsetTimer() % this.speed == 0 && !blocksToMine.isEmpty()) {
             NonNullList<ItemStack> blockDrops = NonNullList.create();
-            IBlockState blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
+            BlockPos blockToMine = BlockPos.fromLong(blocksToMine.firstLong());
+            IBlockState blockState = metaTileEntity.getWorld().getBlockState(blockToMine);
 
             // if the block is not air, harvest it
             if (blockState != Blocks.AIR.getDefaultState()) {
                 // get the small ore drops, if a small ore
-                getSmallOreBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getSmallOreBlockDrops(blockDrops, world, blockToMine, blockState);
                 // get the block's drops.
-                getRegularBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getRegularBlockDrops(blockDrops, world, blockToMine, blockState);
                 // try to insert them
-                mineAndInsertItems(blockDrops, world);
+                mineAndInsertItems(blockDrops, world, blockToMine);
             } else {
                 // the block attempted to mine was air, so remove it from the queue and move on
                 // This can occur because of block destruction when lowering the pipe
-                blocksToMine.removeFirst();
+                blocksToMine.dequeueLong();
             }
 
         } else if (blocksToMine.isEmpty()) {
@@ -156,7 +164,7 @@ public class MinerLogic {
             z.set(mineZ.get());
 
             // attempt to get more blocks to mine, if there are none, the miner is done mining
-            blocksToMine.addAll(getBlocksToMine());
+            findBlocksToMine();
             if (blocksToMine.isEmpty()) {
                 this.isDone = true;
                 this.wasActiveAndNeedsUpdate = true;
@@ -234,18 +242,19 @@ public class MinerLogic {
      *
      * @param blockDrops the List of items to insert
      * @param world the {@link WorldServer} the miner is in
+     * @param blockToMine the {@link BlockPos} of the block being mined, the first in the mining queue
      */
-    private void mineAndInsertItems(NonNullList<ItemStack> blockDrops, WorldServer world) {
+    private void mineAndInsertItems(NonNullList<ItemStack> blockDrops, WorldServer world, BlockPos blockToMine) {
         // If the block's drops can fit in the inventory, move the previously mined position to the block
         // replace the ore block with cobblestone instead of breaking it to prevent mob spawning
         // remove the ore block's position from the mining queue
         if (GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), true, blockDrops)) {
             GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), false, blockDrops);
-            world.setBlockState(blocksToMine.getFirst(), Blocks.COBBLESTONE.getDefaultState());
-            mineX.set(blocksToMine.getFirst().getX());
-            mineZ.set(blocksToMine.getFirst().getZ());
-            mineY.set(blocksToMine.getFirst().getY());
-            blocksToMine.removeFirst();
+            world.setBlockState(blockToMine, Blocks.COBBLESTONE.getDefaultState());
+            mineX.set(blockToMine.getX());
+            mineZ.set(blockToMine.getZ());
+            mineY.set(blockToMine.getY());
+            blocksToMine.dequeueLong();
             onMineOperation();
 
             // if the inventory was previously considered full, mark it as not since an item was able to fit
@@ -292,63 +301,82 @@ public class MinerLogic {
      */
     public void checkBlocksToMine() {
         if (blocksToMine.isEmpty())
-            blocksToMine.addAll(getBlocksToMine());
-    }
-
-    /**
-     * Gets the blocks to mine
-     * @return a {@link LinkedList} of {@link BlockPos} for each ore to mine
-     */
-    private LinkedList<BlockPos> getBlocksToMine() {
-        LinkedList<BlockPos> blocks = new LinkedList<>();
-
-        // determine how many blocks to retrieve this time
-        double quotient = getQuotient(GTUtility.getMeanTickTime(metaTileEntity.getWorld()));
-        int calcAmount = quotient < 1 ? 1 : (int) (Math.min(quotient, Short.MAX_VALUE));
-        int calculated = 0;
+            findBlocksToMine();
+    }
+
+    /**
+     * Queues the ores of the next layer of chunk sections containing any, moving down from the current position.
+     * <p>
+     * Sections whose block state palette has no ore states are skipped without looking at their blocks.
+     */
+    private void findBlocksToMine() {
+        World world = metaTileEntity.getWorld();
+        int minX = startX.get();
+        int minZ = startZ.get();
+        int maxX = minX + currentRadius * 2;
+        int maxZ = minZ + currentRadius * 2;
+        int minChunkX = minX >> 4;
+        int minChunkZ = minZ >> 4;
+        int chunksX = (maxX >> 4) - minChunkX + 1;
+        int chunksZ = (maxZ >> 4) - minChunkZ + 1;
+        ExtendedBlockStorage[] sections = new ExtendedBlockStorage[chunksX * chunksZ];
+
+        // moving down the y-axis one section layer at a time, until ores were found
+        while (blocksToMine.isEmpty() && y.get() > 0) {
+            int layerTop = y.get();
+            int layerBottom = Math.max(1, layerTop & ~15);
+            for (int chunkZ = 0; chunkZ < chunksZ; chunkZ++) {
+                for (int chunkX = 0; chunkX < chunksX; chunkX++) {
+                    ExtendedBlockStorage section = world.getChunk(minChunkX + chunkX, minChunkZ + chunkZ).getBlockStorageArray()[layerTop >> 4];
+                    sections[chunkZ * chunksX + chunkX] = mayContainOres(section) ? section : null;
+                }
+            }
 
-        // keep getting blocks until the target amount is reached
-        while (calculated < calcAmount) {
-            // moving down the y-axis
-            if (y.get() > 0) {
-                // moving across the z-axis
-                if (z.get() <= startZ.get() + currentRadius * 2) {
-                    // check every block along the x-axis
-                    if (x.get() <= startX.get() + currentRadius * 2) {
-                        BlockPos blockPos = new BlockPos(x.get(), y.get(), z.get());
-                        IBlockState state = metaTileEntity.getWorld().getBlockState(blockPos);
-                        if (state.getBlock().blockHardness >= 0 && metaTileEntity.getWorld().getTileEntity(blockPos) == null && GTUtility.isOre(GTUtility.toItem(state))) {
-                            blocks.addLast(blockPos);
+            // the first row continues from the current position, all others start at the corner of the area
+            for (int blockY = layerTop; blockY >= layerBottom; blockY--) {
+                int fromZ = blockY == layerTop ? z.get() : minZ;
+                for (int blockZ = fromZ; blockZ <= maxZ; blockZ++) {
+                    int fromX = blockY == layerTop && blockZ == fromZ ? x.get() : minX;
+                    for (int blockX = fromX; blockX <= maxX; blockX++) {
+                        ExtendedBlockStorage section = sections[((blockZ >> 4) - minChunkZ) * chunksX + (blockX >> 4) - minChunkX];
+                        if (section == null) {
+                            // skip the rest of the row inside this section
+                            blockX |= 15;
+                            continue;
+                        }
+                        IBlockState state = section.get(blockX & 15, blockY & 15, blockZ & 15);
+                        if (BlockStateOreInfo.get(state).isOre() && state.getBlock().blockHardness >= 0) {
+                            BlockPos blockPos = new BlockPos(blockX, blockY, blockZ);
+                            if (world.getTileEntity(blockPos) == null) {
+                                blocksToMine.enqueue(blockPos.toLong());
+                            }
                         }
-                        // move to the next x position
-                        x.incrementAndGet();
-                    } else {
-                        // reset x and move to the next z layer
-                        x.set(x.get() - currentRadius * 2);
-                        z.incrementAndGet();
                     }
-                } else {
-                    // reset z and move to the next y layer
-                    z.set(z.get() - currentRadius * 2);
-                    y.decrementAndGet();
                 }
-            } else
-                return blocks;
+            }
 
-            // only count iterations where blocks were found
-            if (!blocks.isEmpty())
-                calculated++;
+            x.set(minX);
+            z.set(minZ);
+            y.set(layerBottom - 1);
         }
-        return blocks;
     }
 
     /**
-     * gets the quotient for determining the amount of blocks to mine
-     * @param base is a value used for calculation, intended to be the mean tick time of the world the miner is in
-     * @return the quotient
+     * @param section the chunk section to check, null if it was never filled
+     * @return false if the section has no ore blocks for certain, else true
      */
-    private static double getQuotient(double base) {
-        return DIVIDEND / Math.pow(base, POWER);
+    private static boolean mayContainOres(@Nullable ExtendedBlockStorage section) {
+        if (section == Chunk.NULL_BLOCK_STORAGE || section.isEmpty()) return false;
+        IBlockStatePalette palette = section.getData().palette;
+        // the registry palette knows every block state, so it tells nothing about the section
+        if (!(palette instanceof BlockStatePaletteLinear) && !(palette instanceof BlockStatePaletteHashMap)) return true;
+        // local palettes hand out their IDs in order, so the first missing one ends the palette
+        for (int id = 0; id < MAX_LOCAL_PALETTE_SIZE; id++) {
+            IBlockState state = palette.getBlockState(id);
+            if (state == null) return false;
+            if (BlockStateOreInfo.get(state).isOre()) return true;
+        }
+        return false;
     }
 
     /**
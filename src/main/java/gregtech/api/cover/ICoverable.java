@@ -14,6 +14,7 @@ import gregtech.client.utils.RenderUtil;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -24,6 +25,7 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -44,6 +46,25 @@ public interface ICoverable {
 
     <T> T getCapability(Capability<T> capability, EnumFacing side);
 
+    /**
+     * @return the tile entity next to this one on the given side, or null if there is none or it is not loaded
+     */
+    @Nullable
+    default TileEntity getNeighbor(EnumFacing side) {
+        World world = getWorld();
+        BlockPos pos = getPos().offset(side);
+        return world.isBlockLoaded(pos) ? world.getTileEntity(pos) : null;
+    }
+
+    /**
+     * @return the capability of the tile entity next to this one on the given side, queried from the side facing this one
+     */
+    @Nullable
+    default <T> T getNeighborCapability(EnumFacing side, Capability<T> capability) {
+        TileEntity neighbor = getNeighbor(side);
+        return neighbor == null ? null : neighbor.getCapability(capability, side.getOpposite());
+    }
+
     boolean placeCoverOnSide(EnumFacing side, ItemStack itemStack, CoverDefinition definition, EntityPlayer player);
 
     boolean removeCover(EnumFacing side);
@@ -0,0 +1,77 @@
+package gregtech.api.cover;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.capabilities.Capability;
+
+import javax.annotation.Nullable;
+
+/**
+ * Remembers the tile entities next to an {@link ICoverable}, so covers and machines moving things every tick
+ * do not look them up in the world again.
+ * <p>
+ * Neighbours are dropped once they are invalidated or their chunk unloads, and the owner drops all of them
+ * on neighbour changes and when its own chunk unloads. Missing neighbours are not remembered, since they may
+ * appear without a neighbour change. Capabilities are queried from the neighbour on every call, as tile entities
+ * like tank valves and hatches swap their handlers in place when their multiblock forms or breaks.
+ */
+public final class NeighborCache {
+
+    private final ICoverable holder;
+    private final TileEntity[] neighbors = new TileEntity[6];
+    private final Chunk[] neighborChunks = new Chunk[6];
+
+    public NeighborCache(ICoverable holder) {
+        this.holder = holder;
+    }
+
+    /**
+     * @return the tile entity next to the holder on the given side, or null if there is none or its chunk is not loaded
+     */
+    @Nullable
+    public TileEntity getNeighbor(EnumFacing side) {
+        int index = side.getIndex();
+        TileEntity neighbor = neighbors[index];
+        if (neighbor != null) {
+            if (!neighbor.isInvalid() && neighborChunks[index].isLoaded()) {
+                return neighbor;
+            }
+            invalidate(side);
+        }
+        World world = holder.getWorld();
+        BlockPos pos = holder.getPos().offset(side);
+        if (!world.isBlockLoaded(pos)) {
+            return null;
+        }
+        neighbor = world.getTileEntity(pos);
+        if (neighbor != null) {
+            this.neighbors[index] = neighbor;
+            this.neighborChunks[index] = world.getChunk(pos);
+        }
+        return neighbor;
+    }
+
+    /**
+     * @return the capability of the neighbour on the given side, queried from the side facing the holder
+     */
+    @Nullable
+    public <T> T getCapability(EnumFacing side, Capability<T> capability) {
+        TileEntity neighbor = getNeighbor(side);
+        return neighbor == null ? null : neighbor.getCapability(capability, side.getOpposite());
+    }
+
+    public void invalidate(EnumFacing side) {
+        int index = side.getIndex();
+        this.neighbors[index] = null;
+        this.neighborChunks[index] = null;
+    }
+
+    public void invalidate() {
+        for (EnumFacing side : EnumFacing.VALUES) {
+            invalidate(side);
+        }
+    }
+}
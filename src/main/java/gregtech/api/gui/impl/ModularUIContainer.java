@@ -8,6 +8,7 @@ import gregtech.api.gui.widgets.WidgetUIAccess;
 import gregtech.api.net.NetworkHandler;
 import gregtech.api.net.packets.CPacketUIClientAction;
 import gregtech.api.net.packets.SPacketUIWidgetUpdate;
+import gregtech.api.net.packets.SPacketUIWidgetUpdates;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.PerTickIntCounter;
 import io.netty.buffer.Unpooled;
@@ -109,7 +110,7 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     @Override
     public void addListener(@Nonnull IContainerListener listener) {
         super.addListener(listener);
-        modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        detectAndSendWidgetChanges();
     }
 
     @Override
@@ -134,7 +135,21 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     public void detectAndSendChanges() {
         super.detectAndSendChanges();
         if (listeners.size() > 0) {
-            modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+            detectAndSendWidgetChanges();
+        }
+    }
+
+    /**
+     * Sends the updates written by all widgets in one packet, instead of one packet per update
+     */
+    private void detectAndSendWidgetChanges() {
+        this.accumulateWidgetUpdateData = true;
+        modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        this.accumulateWidgetUpdateData = false;
+        if (!accumulatedUpdates.isEmpty()) {
+            SPacketUIWidgetUpdates widgetUpdates = new SPacketUIWidgetUpdates(windowId, accumulatedUpdates);
+            NetworkHandler.channel.sendTo(widgetUpdates.toFMLPacket(), (EntityPlayerMP) modularUI.entityPlayer);
+            accumulatedUpdates.clear();
         }
     }
 
@@ -4,6 +4,9 @@ import gregtech.api.gui.IRenderContext;
 import gregtech.api.gui.Widget;
 import gregtech.api.util.Position;
 import gregtech.api.util.Size;
+import gregtech.api.util.TextComponentCodec;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.gui.GuiScreen;
@@ -41,6 +44,8 @@ public class AdvancedTextWidget extends Widget {
     protected final Consumer<List<ITextComponent>> textSupplier;
     protected BiConsumer<String, ClickData> clickHandler;
     private List<ITextComponent> displayText = new ArrayList<>();
+    // client-only, the lines as received from the server, before they are wrapped into displayText
+    private final List<ITextComponent> receivedText = new ArrayList<>();
     private final int color;
 
     public AdvancedTextWidget(int xPosition, int yPosition, Consumer<List<ITextComponent>> text, int color) {
@@ -114,12 +119,22 @@ public class AdvancedTextWidget extends Widget {
     public void detectAndSendChanges() {
         ArrayList<ITextComponent> textBuffer = new ArrayList<>();
         textSupplier.accept(textBuffer);
-        if (!displayText.equals(textBuffer)) {
+        IntList changedLines = new IntArrayList();
+        for (int i = 0; i < textBuffer.size(); i++) {
+            if (i >= displayText.size() || !displayText.get(i).equals(textBuffer.get(i))) {
+                changedLines.add(i);
+            }
+        }
+        if (!changedLines.isEmpty() || textBuffer.size() != displayText.size()) {
             this.displayText = textBuffer;
+            // only lines which were added or changed are sent
             writeUpdateInfo(1, buffer -> {
                 buffer.writeVarInt(displayText.size());
-                for (ITextComponent textComponent : displayText) {
-                    buffer.writeString(ITextComponent.Serializer.componentToJson(textComponent));
+                buffer.writeVarInt(changedLines.size());
+                for (int i = 0; i < changedLines.size(); i++) {
+                    int line = changedLines.getInt(i);
+                    buffer.writeVarInt(line);
+                    TextComponentCodec.writeComponent(buffer, displayText.get(line));
                 }
             });
         }
@@ -163,7 +178,7 @@ public class AdvancedTextWidget extends Widget {
     private void formatDisplayText() {
         FontRenderer fontRenderer = Minecraft.getMinecraft().fontRenderer;
         int maxTextWidthResult = maxWidthLimit == 0 ? Integer.MAX_VALUE : maxWidthLimit;
-        this.displayText = displayText.stream()
+        this.displayText = receivedText.stream()
                 .flatMap(c -> GuiUtilRenderComponents.splitText(c, maxTextWidthResult, fontRenderer, true, true).stream())
                 .collect(Collectors.toList());
     }
@@ -171,11 +186,18 @@ public class AdvancedTextWidget extends Widget {
     @Override
     public void readUpdateInfo(int id, PacketBuffer buffer) {
         if (id == 1) {
-            this.displayText.clear();
-            int count = buffer.readVarInt();
-            for (int i = 0; i < count; i++) {
-                String jsonText = buffer.readString(32767);
-                this.displayText.add(ITextComponent.Serializer.jsonToComponent(jsonText));
+            int lineCount = buffer.readVarInt();
+            if (receivedText.size() > lineCount) {
+                receivedText.subList(lineCount, receivedText.size()).clear();
+            }
+            while (receivedText.size() < lineCount) {
+                // new lines are always among the changed lines
+                receivedText.add(null);
+            }
+            int changedCount = buffer.readVarInt();
+            for (int i = 0; i < changedCount; i++) {
+                int line = buffer.readVarInt();
+                receivedText.set(line, TextComponentCodec.readComponent(buffer));
             }
             formatDisplayText();
             updateComponentTextSize();
@@ -32,6 +32,14 @@ public abstract class MTETrait {
     public void update() {
     }
 
+    /**
+     * @return true if {@link #update()} currently has nothing to do, so the machine may sleep
+     * @see MetaTileEntity#updateSleeping()
+     */
+    public boolean isIdle() {
+        return false;
+    }
+
     public NBTTagCompound serializeNBT() {
         return new NBTTagCompound();
     }
@@ -17,12 +17,14 @@ import gregtech.api.capability.impl.*;
 import gregtech.api.cover.CoverBehavior;
 import gregtech.api.cover.CoverDefinition;
 import gregtech.api.cover.ICoverable;
+import gregtech.api.cover.NeighborCache;
 import gregtech.api.gui.ModularUI;
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.sound.GTSoundManager;
 import gregtech.api.util.GTTransferUtils;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.TickProfiler;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.utils.BloomEffectUtil;
 import gregtech.common.ConfigHolder;
@@ -40,7 +42,6 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.*;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.BlockPos.PooledMutableBlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
@@ -99,12 +100,14 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     protected boolean isFragile = false;
 
     private final CoverBehavior[] coverBehaviors = new CoverBehavior[6];
+    private final NeighborCache neighborCache = new NeighborCache(this);
     protected List<IItemHandlerModifiable> notifiedItemOutputList = new ArrayList<>();
     protected List<IItemHandlerModifiable> notifiedItemInputList = new ArrayList<>();
     protected List<IFluidHandler> notifiedFluidInputList = new ArrayList<>();
     protected List<IFluidHandler> notifiedFluidOutputList = new ArrayList<>();
 
     protected boolean muffled = false;
+    private boolean sleeping = false;
 
     private int playSoundCooldown = 0;
 
@@ -138,6 +141,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
     public void markDirty() {
+        wakeUp();
         if (holder != null) {
             holder.markAsDirty();
         }
@@ -263,6 +267,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
     public <T> void addNotifiedInput(T input) {
+        wakeUp();
         if (input instanceof IItemHandlerModifiable) {
             if (!notifiedItemInputList.contains(input)) {
                 this.notifiedItemInputList.add((IItemHandlerModifiable) input);
@@ -275,6 +280,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
     public <T> void addNotifiedOutput(T output) {
+        wakeUp();
         if (output instanceof IItemHandlerModifiable) {
             if (!notifiedItemOutputList.contains(output)) {
                 this.notifiedItemOutputList.add((IItemHandlerModifiable) output);
@@ -566,6 +572,25 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     public void onNeighborChanged() {
     }
 
+    @Nullable
+    @Override
+    public final TileEntity getNeighbor(EnumFacing side) {
+        return neighborCache.getNeighbor(side);
+    }
+
+    @Nullable
+    @Override
+    public final <T> T getNeighborCapability(EnumFacing side, Capability<T> capability) {
+        return neighborCache.getCapability(side, capability);
+    }
+
+    /**
+     * Forgets the remembered neighbours, called when a neighbour changes and when the chunk unloads
+     */
+    public final void invalidateNeighborCache() {
+        neighborCache.invalidate();
+    }
+
     public void updateInputRedstoneSignals() {
         for (EnumFacing side : EnumFacing.VALUES) {
             int redstoneValue = GTUtility.getRedstonePower(getWorld(), getPos(), side);
@@ -625,7 +650,9 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
         if (!getWorld().isRemote) {
             for (CoverBehavior coverBehavior : coverBehaviors) {
                 if (coverBehavior instanceof ITickable) {
+                    long profileStart = TickProfiler.startSample(getWorld());
                     ((ITickable) coverBehavior).update();
+                    TickProfiler.endSample(profileStart, coverBehavior);
                 }
             }
             if (getOffsetTimer() % 5 == 0L) {
@@ -643,6 +670,42 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
         return true;
     }
 
+    /**
+     * Override to allow this machine to sleep while it has nothing to do besides its traits and covers.
+     * Sleeping machines are not updated until {@link #wakeUp()} is called.
+     *
+     * @return true if {@link #update()} currently has nothing to do
+     */
+    protected boolean canSleep() {
+        return false;
+    }
+
+    /**
+     * Puts this machine to sleep if it, all of its traits and all of its covers are idle.
+     * Called periodically on the server by the holder.
+     */
+    public void updateSleeping() {
+        if (!ConfigHolder.machines.sleepingIdleMachines || !canSleep()) return;
+        for (MTETrait mteTrait : this.mteTraits) {
+            if (!mteTrait.isIdle()) return;
+        }
+        for (CoverBehavior coverBehavior : coverBehaviors) {
+            if (coverBehavior instanceof ITickable) return;
+        }
+        this.sleeping = true;
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * Resumes updating this machine, called on inventory notifications, {@link #markDirty()} and neighbour changes
+     */
+    public void wakeUp() {
+        this.sleeping = false;
+    }
+
     @SideOnly(Side.CLIENT)
     private void updateSound() {
         if (!ConfigHolder.machines.machineSounds || isMuffled()) {
@@ -958,19 +1021,15 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
     private <T> void transferToNearby(Capability<T> capability, BiConsumer<T, T> transfer, EnumFacing... allowedFaces) {
-        PooledMutableBlockPos blockPos = PooledMutableBlockPos.retain();
         for (EnumFacing nearbyFacing : allowedFaces) {
-            blockPos.setPos(getPos()).move(nearbyFacing);
-            TileEntity tileEntity = getWorld().getTileEntity(blockPos);
-            if (tileEntity == null) {
+            if (getNeighbor(nearbyFacing) == null) {
                 continue;
             }
-            T otherCap = tileEntity.getCapability(capability, nearbyFacing.getOpposite());
+            T otherCap = getNeighborCapability(nearbyFacing, capability);
             //use getCoverCapability so item/ore dictionary filter covers will work properly
             T thisCap = getCoverCapability(capability, nearbyFacing);
             transfer.accept(thisCap, otherCap);
         }
-        blockPos.release();
     }
 
     public final int getOutputRedstoneSignal(@Nullable EnumFacing side) {
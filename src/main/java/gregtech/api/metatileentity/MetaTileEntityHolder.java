@@ -10,6 +10,7 @@ import gregtech.api.net.NetworkHandler;
 import gregtech.api.net.packets.CPacketRecoverMTE;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.TickProfiler;
 import gregtech.client.particle.GTNameTagParticle;
 import gregtech.client.particle.GTParticleManager;
 import net.minecraft.block.state.IBlockState;
@@ -157,7 +158,14 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
     public void update() {
         long tickTime = System.nanoTime();
         if (metaTileEntity != null) {
-            metaTileEntity.update();
+            if (!metaTileEntity.isSleeping()) {
+                long profileStart = TickProfiler.startSample(world);
+                metaTileEntity.update();
+                TickProfiler.endSample(profileStart, metaTileEntity, world, pos);
+                if (!world.isRemote && getOffsetTimer() % 20 == 0) {
+                    metaTileEntity.updateSleeping();
+                }
+            }
         } else if (world.isRemote) { // recover the mte
             NetworkHandler.channel.sendToServer(new CPacketRecoverMTE(world.provider.getDimension(), getPos()).toFMLPacket());
         } else { // remove the block
@@ -307,6 +315,7 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
     public void onChunkUnload() {
         super.onChunkUnload();
         if (metaTileEntity != null) {
+            metaTileEntity.invalidateNeighborCache();
             metaTileEntity.onUnload();
         }
     }
@@ -78,8 +78,8 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity im
                                        Function<Integer, Integer> tankScalingFunction) {
         super(metaTileEntityId, recipeMap, renderer, tier, tankScalingFunction);
         this.hasFrontFacing = hasFrontFacing;
-        this.chargerInventory = new ItemStackHandler(1);
-        this.circuitInventory = new ItemStackHandler(1);
+        this.chargerInventory = new WakingItemStackHandler();
+        this.circuitInventory = new WakingItemStackHandler();
     }
 
     @Override
@@ -167,6 +167,22 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity im
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        if (!chargerInventory.getStackInSlot(0).isEmpty()) return false;
+        if (isAutoOutputItems()) {
+            for (int i = 0; i < exportItems.getSlots(); i++) {
+                if (!exportItems.getStackInSlot(i).isEmpty()) return false;
+            }
+        }
+        if (isAutoOutputFluids()) {
+            for (int i = 0; i < exportFluids.getTanks(); i++) {
+                if (exportFluids.getTankAt(i).getFluidAmount() > 0) return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean onScrewdriverClick(EntityPlayer playerIn, EnumHand hand, EnumFacing facing, CuboidRayTraceResult hitResult) {
         EnumFacing hitFacing = ICoverable.determineGridSideHit(hitResult);
@@ -340,6 +356,7 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity im
     public void setAllowInputFromOutputSideItems(boolean allowInputFromOutputSide) {
         this.allowInputFromOutputSideItems = allowInputFromOutputSide;
         if (!getWorld().isRemote) {
+            notifyBlockUpdate();
             markDirty();
         }
     }
@@ -347,6 +364,7 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity im
     public void setAllowInputFromOutputSideFluids(boolean allowInputFromOutputSide) {
         this.allowInputFromOutputSideFluids = allowInputFromOutputSide;
         if (!getWorld().isRemote) {
+            notifyBlockUpdate();
             markDirty();
         }
     }
@@ -489,4 +507,19 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity im
             tooltip.add(1, mainKey);
         }
     }
+
+    /**
+     * Wakes the machine up when changed, as these slots do not notify it
+     */
+    private class WakingItemStackHandler extends ItemStackHandler {
+
+        private WakingItemStackHandler() {
+            super(1);
+        }
+
+        @Override
+        protected void onContentsChanged(int slot) {
+            wakeUp();
+        }
+    }
 }
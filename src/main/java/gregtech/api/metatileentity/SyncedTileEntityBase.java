@@ -1,6 +1,9 @@
 package gregtech.api.metatileentity;
 
 import gregtech.api.block.BlockStateTileEntity;
+import gregtech.api.net.TileEntityUpdateBatcher;
+import gregtech.api.net.packets.SPacketTileEntityUpdates;
+import gregtech.common.ConfigHolder;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
@@ -33,11 +36,31 @@ public abstract class SyncedTileEntityBase extends BlockStateTileEntity {
         dataWriter.accept(new PacketBuffer(backedBuffer));
         byte[] updateData = Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
         updates.put(discriminator, updateData);
+        if (ConfigHolder.machines.batchedTileEntityUpdates && !world.isRemote) {
+            TileEntityUpdateBatcher.queueUpdate(this);
+            return;
+        }
         @SuppressWarnings("deprecation")
         IBlockState blockState = getBlockType().getStateFromMeta(getBlockMetadata());
         world.notifyBlockUpdate(getPos(), blockState, blockState, 0);
     }
 
+    /**
+     * Writes the custom data written since the last update and clears it, read by {@link SPacketTileEntityUpdates}
+     */
+    public void writeQueuedCustomData(PacketBuffer buf) {
+        if (this.updates.isEmpty()) {
+            return;
+        }
+        buf.writeLong(getPos().toLong());
+        buf.writeVarInt(updates.size());
+        for (Int2ObjectMap.Entry<byte[]> entry : updates.int2ObjectEntrySet()) {
+            buf.writeVarInt(entry.getIntKey());
+            buf.writeByteArray(entry.getValue());
+        }
+        this.updates.clear();
+    }
+
     @Override
     public SPacketUpdateTileEntity getUpdatePacket() {
         if (this.updates.isEmpty()) {
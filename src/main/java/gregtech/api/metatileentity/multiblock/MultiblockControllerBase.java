@@ -55,6 +55,8 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     private final Map<MultiblockAbility<Object>, List<Object>> multiblockAbilities = new HashMap<>();
     private final List<IMultiblockPart> multiblockParts = new ArrayList<>();
     private boolean structureFormed;
+    // set when a block of the formed structure changed, or when it is not watched by MultiblockStructureWatcher
+    private boolean structureChanged = true;
 
     public MultiblockControllerBase(ResourceLocation metaTileEntityId) {
         super(metaTileEntityId);
@@ -68,13 +70,14 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
 
     public void reinitializeStructurePattern() {
         this.structurePattern = createStructurePattern();
+        this.structureChanged = true;
     }
 
     @Override
     public void update() {
         super.update();
         if (!getWorld().isRemote) {
-            if (getOffsetTimer() % 20 == 0 || isFirstTick()) {
+            if ((getOffsetTimer() % 20 == 0 && (structureChanged || !structureFormed)) || isFirstTick()) {
                 checkStructurePattern();
             }
             // DummyWorld is the world for the JEI preview. We do not want to update the Multi in this world,
@@ -261,6 +264,27 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         } else if (context == null && structureFormed) {
             invalidateStructure();
         }
+        if (structureFormed) {
+            watchStructure();
+        }
+    }
+
+    private void watchStructure() {
+        // previews are never unloaded, so they are not watched and are rechecked as before
+        if (getWorld().isRemote || getWorld() instanceof DummyWorld) return;
+        MultiblockStructureWatcher.get(getWorld()).watch(this, structurePattern.cache.keySet());
+        this.structureChanged = false;
+    }
+
+    /**
+     * Called by {@link MultiblockStructureWatcher} when a block in a watched chunk section changed
+     *
+     * @param pos the changed position, or null if the whole chunk was loaded or unloaded
+     */
+    void onStructureBlockChanged(@Nullable BlockPos pos) {
+        if (pos == null || structurePattern == null || structurePattern.cache.containsKey(pos.toLong())) {
+            this.structureChanged = true;
+        }
     }
 
     protected void formStructure(PatternMatchContext context) {
@@ -271,6 +295,8 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         this.multiblockAbilities.clear();
         this.multiblockParts.clear();
         this.structureFormed = false;
+        MultiblockStructureWatcher.unwatch(this);
+        this.structureChanged = true;
         writeCustomData(STRUCTURE_FORMED, buf -> buf.writeBoolean(false));
     }
 
@@ -282,6 +308,15 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         }
     }
 
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        if (!getWorld().isRemote) {
+            MultiblockStructureWatcher.unwatch(this);
+            this.structureChanged = true;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public <T> List<T> getAbilities(MultiblockAbility<T> ability) {
         List<T> rawList = (List<T>) multiblockAbilities.getOrDefault(ability, Collections.emptyList());
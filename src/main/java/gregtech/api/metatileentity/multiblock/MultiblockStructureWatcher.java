@@ -0,0 +1,191 @@
+package gregtech.api.metatileentity.multiblock;
+
+import gregtech.api.GTValues;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the blocks of formed multiblocks, so their controllers only recheck the structure after one of them changed.
+ * <p>
+ * Controllers are registered per chunk section. Block changes are received as a world event listener,
+ * loading and unloading chunks marks every controller watching them as changed.
+ */
+@ParametersAreNonnullByDefault
+@EventBusSubscriber(modid = GTValues.MODID)
+public class MultiblockStructureWatcher implements IWorldEventListener {
+
+    private static final Map<World, MultiblockStructureWatcher> watchers = new HashMap<>();
+
+    // keyed like BlockPos#toLong(), but with the coordinates of the chunk section
+    private final Long2ObjectOpenHashMap<List<MultiblockControllerBase>> controllersBySection = new Long2ObjectOpenHashMap<>();
+    private final Reference2ObjectOpenHashMap<MultiblockControllerBase, long[]> sectionsByController = new Reference2ObjectOpenHashMap<>();
+
+    public static MultiblockStructureWatcher get(World world) {
+        MultiblockStructureWatcher watcher = watchers.get(world);
+        if (watcher == null) {
+            watcher = new MultiblockStructureWatcher();
+            watchers.put(world, watcher);
+            world.addEventListener(watcher);
+        }
+        return watcher;
+    }
+
+    /**
+     * Stops notifying the controller, if it was watched at all
+     */
+    public static void unwatch(MultiblockControllerBase controller) {
+        MultiblockStructureWatcher watcher = watchers.get(controller.getWorld());
+        if (watcher != null) {
+            watcher.removeController(controller);
+        }
+    }
+
+    /**
+     * Notifies the controller when a block at any of the given positions changes, replacing the positions it watched before
+     *
+     * @param positions as {@link BlockPos#toLong()}
+     */
+    public void watch(MultiblockControllerBase controller, LongSet positions) {
+        removeController(controller);
+        LongOpenHashSet sections = new LongOpenHashSet();
+        for (LongIterator iterator = positions.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            sections.add(getSectionKey((int) (pos >> 38), (int) (pos << 26 >> 52), (int) (pos << 38 >> 38)));
+        }
+        long[] sectionKeys = sections.toLongArray();
+        for (long sectionKey : sectionKeys) {
+            List<MultiblockControllerBase> controllers = controllersBySection.get(sectionKey);
+            if (controllers == null) {
+                controllers = new ArrayList<>(1);
+                controllersBySection.put(sectionKey, controllers);
+            }
+            controllers.add(controller);
+        }
+        sectionsByController.put(controller, sectionKeys);
+    }
+
+    private void removeController(MultiblockControllerBase controller) {
+        long[] sectionKeys = sectionsByController.remove(controller);
+        if (sectionKeys == null) return;
+        for (long sectionKey : sectionKeys) {
+            List<MultiblockControllerBase> controllers = controllersBySection.get(sectionKey);
+            if (controllers != null && controllers.remove(controller) && controllers.isEmpty()) {
+                controllersBySection.remove(sectionKey);
+            }
+        }
+    }
+
+    private static long getSectionKey(int x, int y, int z) {
+        // same layout as BlockPos#toLong()
+        return ((long) (x >> 4) & 0x3FFFFFFL) << 38 | ((long) (y >> 4) & 0xFFFL) << 26 | (long) (z >> 4) & 0x3FFFFFFL;
+    }
+
+    private void onChunkChanged(Chunk chunk) {
+        for (int y = 0; y < 16; y++) {
+            List<MultiblockControllerBase> controllers = controllersBySection.get(getSectionKey(chunk.x << 4, y << 4, chunk.z << 4));
+            if (controllers != null) {
+                controllers.forEach(controller -> controller.onStructureBlockChanged(null));
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        MultiblockStructureWatcher watcher = watchers.get(event.getWorld());
+        if (watcher != null) {
+            watcher.onChunkChanged(event.getChunk());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        MultiblockStructureWatcher watcher = watchers.get(event.getWorld());
+        if (watcher != null) {
+            watcher.onChunkChanged(event.getChunk());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        watchers.remove(event.getWorld());
+    }
+
+    @Override
+    public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+        // tile entities use it with unchanged states to send their data to clients
+        if (oldState == newState) return;
+        List<MultiblockControllerBase> controllers = controllersBySection.get(getSectionKey(pos.getX(), pos.getY(), pos.getZ()));
+        if (controllers != null) {
+            for (MultiblockControllerBase controller : controllers) {
+                controller.onStructureBlockChanged(pos);
+            }
+        }
+    }
+
+    @Override
+    public void notifyLightSet(BlockPos pos) {
+    }
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+    }
+
+    @Override
+    public void playSoundToAllNearExcept(@Nullable EntityPlayer player, SoundEvent soundIn, SoundCategory category, double x, double y, double z, float volume, float pitch) {
+    }
+
+    @Override
+    public void playRecord(SoundEvent soundIn, BlockPos pos) {
+    }
+
+    @Override
+    public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+    }
+
+    @Override
+    public void spawnParticle(int id, boolean ignoreRange, boolean p_190570_3_, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+    }
+
+    @Override
+    public void onEntityAdded(Entity entityIn) {
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entityIn) {
+    }
+
+    @Override
+    public void broadcastSound(int soundID, BlockPos pos, int data) {
+    }
+
+    @Override
+    public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) {
+    }
+
+    @Override
+    public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) {
+    }
+}
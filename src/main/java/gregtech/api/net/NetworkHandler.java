@@ -39,6 +39,8 @@ public class NetworkHandler {
         registerPacket(CPacketFluidVeinList.class);
         registerPacket(SPacketNotifyCapeChange.class);
         registerPacket(SPacketReloadShaders.class);
+        registerPacket(SPacketTileEntityUpdates.class);
+        registerPacket(SPacketUIWidgetUpdates.class);
 
         initServer();
         if (FMLCommonHandler.instance().getSide().isClient()) {
@@ -65,6 +67,8 @@ public class NetworkHandler {
         registerClientExecutor(CPacketFluidVeinList.class);
         registerClientExecutor(SPacketNotifyCapeChange.class);
         registerClientExecutor(SPacketReloadShaders.class);
+        registerClientExecutor(SPacketTileEntityUpdates.class);
+        registerClientExecutor(SPacketUIWidgetUpdates.class);
     }
 
 
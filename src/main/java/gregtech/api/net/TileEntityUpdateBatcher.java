@@ -0,0 +1,107 @@
+package gregtech.api.net;
+
+import gregtech.api.GTValues;
+import gregtech.api.metatileentity.SyncedTileEntityBase;
+import gregtech.api.net.packets.SPacketTileEntityUpdates;
+import io.netty.buffer.PooledByteBufAllocator;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sends the custom data of {@link SyncedTileEntityBase}s with one {@link SPacketTileEntityUpdates} per chunk and tick,
+ * instead of one vanilla tile entity update packet per tile entity.
+ * <p>
+ * Tile entities are sent one tick after they were queued, after the block changes of that tick were sent.
+ * This keeps updates of newly placed blocks from arriving before the blocks themselves, like vanilla does.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class TileEntityUpdateBatcher {
+
+    private static final Map<World, Set<SyncedTileEntityBase>> queuedTiles = new HashMap<>();
+    private static final Map<World, Set<SyncedTileEntityBase>> readyTiles = new HashMap<>();
+
+    public static void queueUpdate(SyncedTileEntityBase tileEntity) {
+        queuedTiles.computeIfAbsent(tileEntity.getWorld(), key -> new LinkedHashSet<>()).add(tileEntity);
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(WorldTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.world.isRemote)
+            return;
+        Set<SyncedTileEntityBase> tiles = readyTiles.remove(event.world);
+        if (tiles != null) {
+            sendUpdates((WorldServer) event.world, tiles);
+        }
+        Set<SyncedTileEntityBase> queued = queuedTiles.remove(event.world);
+        if (queued != null) {
+            readyTiles.put(event.world, queued);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        queuedTiles.remove(event.getWorld());
+        readyTiles.remove(event.getWorld());
+    }
+
+    private static void sendUpdates(WorldServer world, Set<SyncedTileEntityBase> tiles) {
+        Long2ObjectOpenHashMap<List<SyncedTileEntityBase>> tilesByChunk = new Long2ObjectOpenHashMap<>();
+        for (SyncedTileEntityBase tileEntity : tiles) {
+            if (tileEntity.isInvalid()) continue;
+            BlockPos pos = tileEntity.getPos();
+            long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+            List<SyncedTileEntityBase> chunkTiles = tilesByChunk.get(chunkKey);
+            if (chunkTiles == null) {
+                chunkTiles = new ArrayList<>();
+                tilesByChunk.put(chunkKey, chunkTiles);
+            }
+            chunkTiles.add(tileEntity);
+        }
+
+        for (Long2ObjectMap.Entry<List<SyncedTileEntityBase>> entry : tilesByChunk.long2ObjectEntrySet()) {
+            long chunkKey = entry.getLongKey();
+            // updates of chunks nobody has received yet are kept, like vanilla does
+            PlayerChunkMapEntry chunkEntry = world.getPlayerChunkMap().getEntry((int) chunkKey, (int) (chunkKey >> 32));
+            if (chunkEntry == null || !chunkEntry.isSentToPlayers()) continue;
+
+            PacketBuffer updateData = new PacketBuffer(PooledByteBufAllocator.DEFAULT.buffer());
+            try {
+                for (SyncedTileEntityBase tileEntity : entry.getValue()) {
+                    tileEntity.writeQueuedCustomData(updateData);
+                }
+                if (!updateData.isReadable()) continue;
+                // encoded once per chunk, every player gets a view of the same bytes as sending consumes the payload
+                FMLProxyPacket packet = new SPacketTileEntityUpdates(updateData).toFMLPacket();
+                for (EntityPlayer player : world.playerEntities) {
+                    if (chunkEntry.containsPlayer((EntityPlayerMP) player)) {
+                        PacketBuffer payload = new PacketBuffer(packet.payload().duplicate());
+                        NetworkHandler.channel.sendTo(new FMLProxyPacket(payload, packet.channel()), (EntityPlayerMP) player);
+                    }
+                }
+            } finally {
+                updateData.release();
+            }
+        }
+    }
+}
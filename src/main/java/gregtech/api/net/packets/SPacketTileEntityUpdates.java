@@ -0,0 +1,56 @@
+package gregtech.api.net.packets;
+
+import gregtech.api.metatileentity.SyncedTileEntityBase;
+import gregtech.api.net.IPacket;
+import gregtech.api.net.NetworkUtils;
+import lombok.NoArgsConstructor;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Custom data of all {@link SyncedTileEntityBase}s of a chunk, as written by {@link SyncedTileEntityBase#writeQueuedCustomData(PacketBuffer)}
+ */
+@NoArgsConstructor
+public class SPacketTileEntityUpdates implements IPacket {
+
+    private PacketBuffer updateData;
+
+    public SPacketTileEntityUpdates(PacketBuffer updateData) {
+        this.updateData = updateData;
+    }
+
+    @Override
+    public void encode(PacketBuffer buf) {
+        // encoded once per chunk, the update data is left unread as the batcher releases it afterwards
+        buf.writeVarInt(updateData.readableBytes());
+        buf.writeBytes(updateData, updateData.readerIndex(), updateData.readableBytes());
+    }
+
+    @Override
+    public void decode(PacketBuffer buf) {
+        this.updateData = NetworkUtils.readPacketBuffer(buf);
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public void executeClient(NetHandlerPlayClient handler) {
+        World world = Minecraft.getMinecraft().world;
+        while (updateData.isReadable()) {
+            TileEntity tileEntity = world.getTileEntity(BlockPos.fromLong(updateData.readLong()));
+            int updateCount = updateData.readVarInt();
+            for (int i = 0; i < updateCount; i++) {
+                int discriminator = updateData.readVarInt();
+                PacketBuffer buf = new PacketBuffer(updateData.readSlice(updateData.readVarInt()));
+                if (tileEntity instanceof SyncedTileEntityBase) {
+                    ((SyncedTileEntityBase) tileEntity).receiveCustomData(discriminator, buf);
+                }
+            }
+        }
+    }
+}
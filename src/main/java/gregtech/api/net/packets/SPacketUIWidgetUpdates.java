@@ -0,0 +1,62 @@
+package gregtech.api.net.packets;
+
+import gregtech.api.gui.impl.ModularUIGui;
+import gregtech.api.net.IPacket;
+import gregtech.api.net.NetworkUtils;
+import lombok.NoArgsConstructor;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiScreen;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * All widget updates of one window during one tick, in the order they were written
+ */
+@NoArgsConstructor
+public class SPacketUIWidgetUpdates implements IPacket {
+
+    private int windowId;
+    private List<SPacketUIWidgetUpdate> widgetUpdates;
+
+    public SPacketUIWidgetUpdates(int windowId, List<SPacketUIWidgetUpdate> widgetUpdates) {
+        this.windowId = windowId;
+        this.widgetUpdates = widgetUpdates;
+    }
+
+    @Override
+    public void encode(PacketBuffer buf) {
+        buf.writeVarInt(windowId);
+        buf.writeVarInt(widgetUpdates.size());
+        for (SPacketUIWidgetUpdate widgetUpdate : widgetUpdates) {
+            buf.writeVarInt(widgetUpdate.widgetId);
+            NetworkUtils.writePacketBuffer(buf, widgetUpdate.updateData);
+        }
+    }
+
+    @Override
+    public void decode(PacketBuffer buf) {
+        this.windowId = buf.readVarInt();
+        int updateCount = buf.readVarInt();
+        this.widgetUpdates = new ArrayList<>(updateCount);
+        for (int i = 0; i < updateCount; i++) {
+            int widgetId = buf.readVarInt();
+            this.widgetUpdates.add(new SPacketUIWidgetUpdate(windowId, widgetId, NetworkUtils.readPacketBuffer(buf)));
+        }
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public void executeClient(NetHandlerPlayClient handler) {
+        GuiScreen currentScreen = Minecraft.getMinecraft().currentScreen;
+        if (currentScreen instanceof ModularUIGui) {
+            for (SPacketUIWidgetUpdate widgetUpdate : widgetUpdates) {
+                ((ModularUIGui) currentScreen).handleWidgetUpdate(widgetUpdate);
+            }
+        }
+    }
+}
@@ -4,25 +4,37 @@ import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.TObjectIntMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
 import gnu.trove.map.hash.TObjectIntHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.INBTSerializable;
 
-import java.util.*;
-import java.util.Map.Entry;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCompound> {
 
     protected final WorldPipeNet<NodeDataType, PipeNet<NodeDataType>> worldData;
-    private final Map<BlockPos, Node<NodeDataType>> nodeByBlockPos = new HashMap<>();
-    private final Map<BlockPos, Node<NodeDataType>> unmodifiableNodeByBlockPos = Collections.unmodifiableMap(nodeByBlockPos);
-    private final Map<ChunkPos, Integer> ownedChunks = new HashMap<>();
+    // nodes and chunks are keyed by BlockPos#toLong() and ChunkPos#asLong()
+    private final Long2ObjectOpenHashMap<Node<NodeDataType>> nodeByBlockPos = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<Node<NodeDataType>> unmodifiableNodeByBlockPos = Long2ObjectMaps.unmodifiable(nodeByBlockPos);
+    private final Long2IntOpenHashMap ownedChunks = new Long2IntOpenHashMap();
     private long lastUpdate;
     boolean isValid = false;
 
@@ -31,8 +43,23 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         this.worldData = (WorldPipeNet<NodeDataType, PipeNet<NodeDataType>>) world;
     }
 
+    /**
+     * @return the chunks containing nodes of this net, as {@link ChunkPos#asLong(int, int)}
+     */
+    public LongSet getContainedChunkKeys() {
+        return LongSets.unmodifiable(ownedChunks.keySet());
+    }
+
+    /**
+     * @return a copy of the chunks containing nodes of this net, prefer {@link #getContainedChunkKeys()}
+     */
     public Set<ChunkPos> getContainedChunks() {
-        return Collections.unmodifiableSet(ownedChunks.keySet());
+        Set<ChunkPos> chunks = new HashSet<>();
+        for (LongIterator iterator = ownedChunks.keySet().iterator(); iterator.hasNext(); ) {
+            long chunkKey = iterator.nextLong();
+            chunks.add(new ChunkPos((int) chunkKey, (int) (chunkKey >> 32)));
+        }
+        return Collections.unmodifiableSet(chunks);
     }
 
     public World getWorldData() {
@@ -60,24 +87,57 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     public void onPipeConnectionsUpdate() {
     }
 
+    /**
+     * Is called when connections of the pipe at given position change
+     * Delegates to {@link #onPipeConnectionsUpdate()} by default, override it to update caches only partially
+     */
+    public void onPipeConnectionsUpdate(BlockPos pipePos) {
+        onPipeConnectionsUpdate();
+    }
+
     public void onNeighbourUpdate(BlockPos fromPos) {
     }
 
-    public Map<BlockPos, Node<NodeDataType>> getAllNodes() {
+    /**
+     * @return all nodes of this net, keyed by {@link BlockPos#toLong()}
+     */
+    public Long2ObjectMap<Node<NodeDataType>> getAllNodesByKey() {
         return unmodifiableNodeByBlockPos;
     }
 
+    /**
+     * @return a copy of all nodes of this net, prefer {@link #getAllNodesByKey()}
+     */
+    public Map<BlockPos, Node<NodeDataType>> getAllNodes() {
+        Map<BlockPos, Node<NodeDataType>> nodes = new HashMap<>();
+        for (Long2ObjectMap.Entry<Node<NodeDataType>> entry : nodeByBlockPos.long2ObjectEntrySet()) {
+            nodes.put(BlockPos.fromLong(entry.getLongKey()), entry.getValue());
+        }
+        return Collections.unmodifiableMap(nodes);
+    }
+
     public Node<NodeDataType> getNodeAt(BlockPos blockPos) {
-        return nodeByBlockPos.get(blockPos);
+        return nodeByBlockPos.get(blockPos.toLong());
+    }
+
+    Node<NodeDataType> getNodeAt(long nodePos) {
+        return nodeByBlockPos.get(nodePos);
     }
 
     public boolean containsNode(BlockPos blockPos) {
-        return nodeByBlockPos.containsKey(blockPos);
+        return nodeByBlockPos.containsKey(blockPos.toLong());
     }
 
     protected void addNodeSilently(BlockPos nodePos, Node<NodeDataType> node) {
+        addNodeSilently(nodePos.toLong(), node);
+    }
+
+    private void addNodeSilently(long nodePos, Node<NodeDataType> node) {
         this.nodeByBlockPos.put(nodePos, node);
         checkAddedInChunk(nodePos);
+        if (isValid()) {
+            worldData.onNodeAdded(nodePos, this);
+        }
     }
 
     protected void addNode(BlockPos nodePos, Node<NodeDataType> node) {
@@ -87,34 +147,46 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     protected Node<NodeDataType> removeNodeWithoutRebuilding(BlockPos nodePos) {
+        return removeNodeWithoutRebuilding(nodePos.toLong());
+    }
+
+    private Node<NodeDataType> removeNodeWithoutRebuilding(long nodePos) {
         Node<NodeDataType> removedNode = this.nodeByBlockPos.remove(nodePos);
         ensureRemovedFromChunk(nodePos);
+        if (isValid()) {
+            worldData.onNodeRemoved(nodePos, this);
+        }
         worldData.markDirty();
         return removedNode;
     }
 
     protected void removeNode(BlockPos nodePos) {
-        if (nodeByBlockPos.containsKey(nodePos)) {
+        if (containsNode(nodePos)) {
             Node<NodeDataType> selfNode = removeNodeWithoutRebuilding(nodePos);
             rebuildNetworkOnNodeRemoval(nodePos, selfNode);
         }
     }
 
-    protected void checkAddedInChunk(BlockPos nodePos) {
-        ChunkPos chunkPos = new ChunkPos(nodePos);
-        int newValue = this.ownedChunks.compute(chunkPos, (pos, old) -> (old == null ? 0 : old) + 1);
-        if (newValue == 1 && isValid()) {
-            this.worldData.addPipeNetToChunk(chunkPos, this);
+    private static long getChunkKey(long nodePos) {
+        // BlockPos#toLong() packs 26 bits of x, 12 bits of y and 26 bits of z
+        int x = (int) (nodePos >> 38);
+        int z = (int) (nodePos << 38 >> 38);
+        return ChunkPos.asLong(x >> 4, z >> 4);
+    }
+
+    protected void checkAddedInChunk(long nodePos) {
+        long chunkKey = getChunkKey(nodePos);
+        if (this.ownedChunks.addTo(chunkKey, 1) == 0 && isValid()) {
+            this.worldData.addPipeNetToChunk(chunkKey, this);
         }
     }
 
-    protected void ensureRemovedFromChunk(BlockPos nodePos) {
-        ChunkPos chunkPos = new ChunkPos(nodePos);
-        int newValue = this.ownedChunks.compute(chunkPos, (pos, old) -> old == null ? 0 : old - 1);
-        if (newValue == 0) {
-            this.ownedChunks.remove(chunkPos);
+    protected void ensureRemovedFromChunk(long nodePos) {
+        long chunkKey = getChunkKey(nodePos);
+        if (this.ownedChunks.addTo(chunkKey, -1) <= 1) {
+            this.ownedChunks.remove(chunkKey);
             if (isValid()) {
-                this.worldData.removePipeNetFromChunk(chunkPos, this);
+                this.worldData.removePipeNetFromChunk(chunkKey, this);
             }
         }
     }
@@ -144,17 +216,9 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                 //need to unblock node before doing canNodesConnectCheck
                 setBlocked(selfNode, facing, false);
                 if (canNodesConnect(selfNode, facing, getNodeAt(offsetPos), this)) {
-                    //now block again to call findAllConnectedBlocks
+                    //now block again and check if both nodes are still connected in some other way
                     setBlocked(selfNode, facing, true);
-                    HashMap<BlockPos, Node<NodeDataType>> thisENet = findAllConnectedBlocks(nodePos);
-                    if (!getAllNodes().equals(thisENet)) {
-                        //node visibility has changed, split network into 2
-                        //node that code below is similar to removeNodeInternal, but only for 2 networks, and without node removal
-                        PipeNet<NodeDataType> newPipeNet = worldData.createNetInstance();
-                        thisENet.keySet().forEach(this::removeNodeWithoutRebuilding);
-                        newPipeNet.transferNodeData(thisENet, this);
-                        worldData.addPipeNet(newPipeNet);
-                    }
+                    splitOffDisconnected(nodePos.toLong(), offsetPos.toLong());
                 }
             }
             //there is another network on that side
@@ -178,11 +242,12 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         if (!containsNode(nodePos)) {
             return;
         }
-        HashMap<BlockPos, Node<NodeDataType>> selfConnectedBlocks = null;
         Node<NodeDataType> selfNode = getNodeAt(nodePos);
         int oldMark = selfNode.mark;
         selfNode.mark = newMark;
         for (EnumFacing facing : EnumFacing.VALUES) {
+            //the remarked node may have been split off into another network by previous sides
+            PipeNet<NodeDataType> selfPipeNet = worldData.getNetFromPos(nodePos);
             BlockPos offsetPos = nodePos.offset(facing);
             PipeNet<NodeDataType> otherPipeNet = worldData.getNetFromPos(offsetPos);
             Node<NodeDataType> secondNode = otherPipeNet == null ? null : otherPipeNet.getNodeAt(offsetPos);
@@ -196,29 +261,14 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
             if (areMarksCompatible(newMark, secondNode.mark)) {
                 //if marks are compatible now, and offset network is different network, merge them
                 //if it is same network, just update mask and paths
-                if (otherPipeNet != this) {
-                    uniteNetworks(otherPipeNet);
+                if (otherPipeNet != selfPipeNet) {
+                    selfPipeNet.uniteNetworks(otherPipeNet);
                 }
                 //marks are incompatible now, and this net is connected with it
-            } else if (otherPipeNet == this) {
-                //search connected nodes from newly marked node
-                //populate self connected blocks lazily only once
-                if (selfConnectedBlocks == null) {
-                    selfConnectedBlocks = findAllConnectedBlocks(nodePos);
-                }
-                if (getAllNodes().equals(selfConnectedBlocks)) {
-                    continue; //if this node is still connected to this network, just continue
-                }
-                //otherwise, it is not connected
-                HashMap<BlockPos, Node<NodeDataType>> offsetConnectedBlocks = findAllConnectedBlocks(offsetPos);
-                //if in the result of remarking offset node has separated from main network,
-                //and it is also separated from current cable too, form new network for it
-                if (!offsetConnectedBlocks.equals(selfConnectedBlocks)) {
-                    offsetConnectedBlocks.keySet().forEach(this::removeNodeWithoutRebuilding);
-                    PipeNet<NodeDataType> offsetPipeNet = worldData.createNetInstance();
-                    offsetPipeNet.transferNodeData(offsetConnectedBlocks, this);
-                    worldData.addPipeNet(offsetPipeNet);
-                }
+            } else if (otherPipeNet == selfPipeNet) {
+                //if the remarked node and offset node are no longer connected in some other way,
+                //form new network for the smaller part
+                selfPipeNet.splitOffDisconnected(nodePos.toLong(), offsetPos.toLong());
             }
         }
         onNodeConnectionsUpdate();
@@ -244,10 +294,36 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     protected final void uniteNetworks(PipeNet<NodeDataType> unitedPipeNet) {
-        Map<BlockPos, Node<NodeDataType>> allNodes = new HashMap<>(unitedPipeNet.getAllNodes());
+        long startTime = System.nanoTime();
+        Long2ObjectMap<Node<NodeDataType>> allNodes = new Long2ObjectOpenHashMap<>(unitedPipeNet.getAllNodesByKey());
         worldData.removePipeNet(unitedPipeNet);
-        allNodes.keySet().forEach(unitedPipeNet::removeNodeWithoutRebuilding);
+        unitedPipeNet.removeNodesWithoutRebuilding(allNodes);
         transferNodeData(allNodes, unitedPipeNet);
+        PipeNetConnectivity.onMerge(this, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Moves every part of this network which is no longer connected to the rest into a new network
+     *
+     * @param seeds positions of the nodes which lost a connection to each other
+     */
+    private void splitOffDisconnected(long... seeds) {
+        long startTime = System.nanoTime();
+        List<Long2ObjectMap<Node<NodeDataType>>> parts = PipeNetConnectivity.findDisconnectedParts(this, seeds);
+        for (Long2ObjectMap<Node<NodeDataType>> part : parts) {
+            PipeNet<NodeDataType> newPipeNet = worldData.createNetInstance();
+            removeNodesWithoutRebuilding(part);
+            newPipeNet.transferNodeData(part, this);
+            worldData.addPipeNet(newPipeNet);
+        }
+        PipeNetConnectivity.onSplit(this, System.nanoTime() - startTime, parts.size());
+    }
+
+    private void removeNodesWithoutRebuilding(Long2ObjectMap<Node<NodeDataType>> nodes) {
+        LongIterator iterator = nodes.keySet().iterator();
+        while (iterator.hasNext()) {
+            removeNodeWithoutRebuilding(iterator.nextLong());
+        }
     }
 
     private boolean areNodeBlockedConnectionsCompatible(Node<NodeDataType> first, EnumFacing firstFacing, Node<NodeDataType> second) {
@@ -269,69 +345,21 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                 areNodesCustomContactable(first.data, second.data, secondPipeNet);
     }
 
-    //we need to search only this network
-    protected HashMap<BlockPos, Node<NodeDataType>> findAllConnectedBlocks(BlockPos startPos) {
-        HashMap<BlockPos, Node<NodeDataType>> observedSet = new HashMap<>();
-        observedSet.put(startPos, getNodeAt(startPos));
-        Node<NodeDataType> firstNode = getNodeAt(startPos);
-        MutableBlockPos currentPos = new MutableBlockPos(startPos);
-        Stack<EnumFacing> moveStack = new Stack<>();
-        main:
-        while (true) {
-            for (EnumFacing facing : EnumFacing.VALUES) {
-                currentPos.move(facing);
-                Node<NodeDataType> secondNode = getNodeAt(currentPos);
-                //if there is node, and it can connect with previous node, add it to list, and set previous node as current
-                if (secondNode != null && canNodesConnect(firstNode, facing, secondNode, this) && !observedSet.containsKey(currentPos)) {
-                    observedSet.put(currentPos.toImmutable(), getNodeAt(currentPos));
-                    firstNode = secondNode;
-                    moveStack.push(facing.getOpposite());
-                    continue main;
-                } else currentPos.move(facing.getOpposite());
-            }
-            if (!moveStack.isEmpty()) {
-                currentPos.move(moveStack.pop());
-                firstNode = getNodeAt(currentPos);
-            } else break;
-        }
-        return observedSet;
-    }
-
     //called when node is removed to rebuild network
     protected void rebuildNetworkOnNodeRemoval(BlockPos nodePos, Node<NodeDataType> selfNode) {
-        int amountOfConnectedSides = 0;
-        for (EnumFacing facing : EnumFacing.values()) {
+        LongArrayList connectedNeighbours = new LongArrayList(EnumFacing.VALUES.length);
+        for (EnumFacing facing : EnumFacing.VALUES) {
             BlockPos offsetPos = nodePos.offset(facing);
-            if (containsNode(offsetPos))
-                amountOfConnectedSides++;
-        }
-        //if we are connected only on one side or not connected at all, we don't need to find connected blocks
-        //because they are only on on side or doesn't exist at all
-        //this saves a lot of performance in big networks, which are quite big to depth-first them fastly
-        if (amountOfConnectedSides >= 2) {
-            for (EnumFacing facing : EnumFacing.VALUES) {
-                BlockPos offsetPos = nodePos.offset(facing);
-                Node<NodeDataType> secondNode = getNodeAt(offsetPos);
-                if (secondNode == null || !canNodesConnect(selfNode, facing, secondNode, this)) {
-                    //if there isn't any neighbour node, or it wasn't connected with us, just skip it
-                    continue;
-                }
-                HashMap<BlockPos, Node<NodeDataType>> thisENet = findAllConnectedBlocks(offsetPos);
-                if (getAllNodes().equals(thisENet)) {
-                    //if cable on some direction contains all nodes of this network
-                    //the network didn't change so keep it as is
-                    break;
-                } else {
-                    //and use them to create new network with caching active nodes set
-                    PipeNet<NodeDataType> energyNet = worldData.createNetInstance();
-                    //remove blocks that aren't connected with this network
-                    thisENet.keySet().forEach(this::removeNodeWithoutRebuilding);
-                    energyNet.transferNodeData(thisENet, this);
-                    worldData.addPipeNet(energyNet);
-                }
+            Node<NodeDataType> secondNode = getNodeAt(offsetPos);
+            if (secondNode != null && canNodesConnect(selfNode, facing, secondNode, this)) {
+                connectedNeighbours.add(offsetPos.toLong());
             }
         }
-        if (getAllNodes().isEmpty()) {
+        //if we were connected only on one side or not connected at all, the network can't fall apart
+        if (connectedNeighbours.size() >= 2) {
+            splitOffDisconnected(connectedNeighbours.toLongArray());
+        }
+        if (getAllNodesByKey().isEmpty()) {
             //if this energy net is empty now, remove it
             worldData.removePipeNet(this);
         }
@@ -354,8 +382,10 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
      * from parent network and add it to it's own tank, keeping network contents when old network is split
      * Note that it should be called when parent net doesn't have transferredNodes in allNodes already
      */
-    protected void transferNodeData(Map<BlockPos, Node<NodeDataType>> transferredNodes, PipeNet<NodeDataType> parentNet) {
-        transferredNodes.forEach(this::addNodeSilently);
+    protected void transferNodeData(Long2ObjectMap<Node<NodeDataType>> transferredNodes, PipeNet<NodeDataType> parentNet) {
+        for (Long2ObjectMap.Entry<Node<NodeDataType>> entry : transferredNodes.long2ObjectEntrySet()) {
+            addNodeSilently(entry.getLongKey(), entry.getValue());
+        }
         onNodeConnectionsUpdate();
         worldData.markDirty();
     }
@@ -413,15 +443,15 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         }
     }
 
-    protected NBTTagCompound serializeAllNodeList(Map<BlockPos, Node<NodeDataType>> allNodes) {
+    protected NBTTagCompound serializeAllNodeList(Long2ObjectMap<Node<NodeDataType>> allNodes) {
         NBTTagCompound compound = new NBTTagCompound();
         NBTTagList allNodesList = new NBTTagList();
         NBTTagList wirePropertiesList = new NBTTagList();
         TObjectIntMap<NodeDataType> alreadyWritten = new TObjectIntHashMap<>(10, 0.5f, -1);
         int currentIndex = 0;
 
-        for (Entry<BlockPos, Node<NodeDataType>> entry : allNodes.entrySet()) {
-            BlockPos nodePos = entry.getKey();
+        for (Long2ObjectMap.Entry<Node<NodeDataType>> entry : allNodes.long2ObjectEntrySet()) {
+            BlockPos nodePos = BlockPos.fromLong(entry.getLongKey());
             Node<NodeDataType> node = entry.getValue();
             NBTTagCompound nodeTag = new NBTTagCompound();
             nodeTag.setInteger("x", nodePos.getX());
@@ -0,0 +1,200 @@
+package gregtech.api.pipenet;
+
+import gregtech.api.util.GTLog;
+import gregtech.common.ConfigHolder;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Finds the parts a pipe net falls apart into after connections between its nodes were removed.
+ * <p>
+ * A breadth-first search is started from every node which lost a connection, all advancing one node at a time.
+ * Searches which meet are united, so walking stops as soon as all of them are united (nothing was split),
+ * or when every part but one was walked completely. The cost is bound by the smaller parts instead of the whole net.
+ * <p>
+ * Also keeps timings of splits and merges, which are shown by {@code /gregtech profile report}
+ * and logged in debug mode when they get slow.
+ */
+public final class PipeNetConnectivity {
+
+    private static final long SLOW_OPERATION_NANOS = 1_000_000L;
+
+    private static long splitCount;
+    private static long splitNanos;
+    private static long mergeCount;
+    private static long mergeNanos;
+
+    private PipeNetConnectivity() {
+    }
+
+    /**
+     * @param seeds positions of nodes of the net which may have been disconnected from each other
+     * @return the node sets which are no longer connected to the rest of the net, the biggest part is never included
+     */
+    static <NodeDataType> List<Long2ObjectMap<Node<NodeDataType>>> findDisconnectedParts(PipeNet<NodeDataType> net, long[] seeds) {
+        int searchCount = seeds.length;
+        int[] parents = new int[searchCount];
+        boolean[] finished = new boolean[searchCount];
+        LongArrayFIFOQueue[] queues = new LongArrayFIFOQueue[searchCount];
+        Long2IntOpenHashMap visitedBy = new Long2IntOpenHashMap();
+        visitedBy.defaultReturnValue(-1);
+
+        int unfinished = 0;
+        for (int i = 0; i < searchCount; i++) {
+            parents[i] = i;
+            queues[i] = new LongArrayFIFOQueue();
+            int owner = visitedBy.get(seeds[i]);
+            if (owner == -1) {
+                visitedBy.put(seeds[i], i);
+                queues[i].enqueue(seeds[i]);
+                unfinished++;
+            } else {
+                parents[i] = find(parents, owner);
+            }
+        }
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        while (unfinished > 1) {
+            for (int i = 0; i < searchCount; i++) {
+                if (queues[i].isEmpty() || finished[find(parents, i)]) continue;
+                long currentPos = queues[i].dequeueLong();
+                Node<NodeDataType> currentNode = net.getNodeAt(currentPos);
+                int x = (int) (currentPos >> 38);
+                int y = (int) (currentPos << 26 >> 52);
+                int z = (int) (currentPos << 38 >> 38);
+                for (EnumFacing facing : EnumFacing.VALUES) {
+                    pos.setPos(x + facing.getXOffset(), y + facing.getYOffset(), z + facing.getZOffset());
+                    Node<NodeDataType> nextNode = net.getNodeAt(pos);
+                    if (nextNode == null || !net.canNodesConnect(currentNode, facing, nextNode, net)) continue;
+                    long nextPos = pos.toLong();
+                    int owner = visitedBy.get(nextPos);
+                    if (owner == -1) {
+                        visitedBy.put(nextPos, i);
+                        queues[i].enqueue(nextPos);
+                    } else {
+                        int ownerRoot = find(parents, owner);
+                        int root = find(parents, i);
+                        if (ownerRoot != root) {
+                            // two searches met, they walk the same part
+                            parents[ownerRoot] = root;
+                            unfinished--;
+                        }
+                    }
+                }
+            }
+            for (int root = 0; root < searchCount; root++) {
+                if (parents[root] != root || finished[root]) continue;
+                boolean exhausted = true;
+                for (int i = 0; i < searchCount && exhausted; i++) {
+                    exhausted = queues[i].isEmpty() || find(parents, i) != root;
+                }
+                if (exhausted) {
+                    finished[root] = true;
+                    unfinished--;
+                }
+            }
+        }
+
+        int keptRoot = -1;
+        for (int root = 0; root < searchCount; root++) {
+            if (parents[root] == root && !finished[root]) {
+                keptRoot = root;
+            }
+        }
+        if (keptRoot == -1) {
+            // every part was walked completely, keep the biggest one
+            keptRoot = findBiggestPart(visitedBy, parents, searchCount);
+        }
+
+        List<Long2ObjectMap<Node<NodeDataType>>> parts = new ArrayList<>();
+        Long2ObjectOpenHashMap<Node<NodeDataType>>[] partByRoot = null;
+        for (Long2IntMap.Entry entry : visitedBy.long2IntEntrySet()) {
+            int root = find(parents, entry.getIntValue());
+            if (root == keptRoot) continue;
+            if (partByRoot == null) {
+                //noinspection unchecked
+                partByRoot = new Long2ObjectOpenHashMap[searchCount];
+            }
+            if (partByRoot[root] == null) {
+                partByRoot[root] = new Long2ObjectOpenHashMap<>();
+                parts.add(partByRoot[root]);
+            }
+            partByRoot[root].put(entry.getLongKey(), net.getNodeAt(entry.getLongKey()));
+        }
+        return parts.isEmpty() ? Collections.emptyList() : parts;
+    }
+
+    private static int findBiggestPart(Long2IntOpenHashMap visitedBy, int[] parents, int searchCount) {
+        int[] sizes = new int[searchCount];
+        for (Long2IntMap.Entry entry : visitedBy.long2IntEntrySet()) {
+            sizes[find(parents, entry.getIntValue())]++;
+        }
+        int biggest = 0;
+        for (int root = 1; root < searchCount; root++) {
+            if (sizes[root] > sizes[biggest]) {
+                biggest = root;
+            }
+        }
+        return biggest;
+    }
+
+    private static int find(int[] parents, int search) {
+        while (parents[search] != search) {
+            parents[search] = parents[parents[search]];
+            search = parents[search];
+        }
+        return search;
+    }
+
+    static void onSplit(PipeNet<?> net, long nanos, int splitParts) {
+        splitCount++;
+        splitNanos += nanos;
+        if (nanos >= SLOW_OPERATION_NANOS && ConfigHolder.misc.debug) {
+            GTLog.logger.info("Splitting {} into {} parts took {} us, {} nodes left", net.getClass().getSimpleName(),
+                    splitParts + 1, nanos / 1000, net.getAllNodesByKey().size());
+        }
+    }
+
+    static void onMerge(PipeNet<?> net, long nanos) {
+        mergeCount++;
+        mergeNanos += nanos;
+        if (nanos >= SLOW_OPERATION_NANOS && ConfigHolder.misc.debug) {
+            GTLog.logger.info("Merging {} took {} us, {} nodes in united net", net.getClass().getSimpleName(),
+                    nanos / 1000, net.getAllNodesByKey().size());
+        }
+    }
+
+    /**
+     * @return amount of connectivity checks done after nodes were removed or disconnected
+     */
+    public static long getSplitCount() {
+        return splitCount;
+    }
+
+    /**
+     * @return total time spent on connectivity checks and splitting, in nanoseconds
+     */
+    public static long getSplitNanos() {
+        return splitNanos;
+    }
+
+    public static long getMergeCount() {
+        return mergeCount;
+    }
+
+    /**
+     * @return total time spent merging nets, in nanoseconds
+     */
+    public static long getMergeNanos() {
+        return mergeNanos;
+    }
+}
@@ -1,23 +1,28 @@
 package gregtech.api.pipenet;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.WorldSavedData;
 import net.minecraftforge.common.util.Constants.NBT;
 
 import javax.annotation.Nonnull;
 import java.lang.ref.WeakReference;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>> extends WorldSavedData {
 
     private WeakReference<World> worldRef = new WeakReference<>(null);
     protected List<T> pipeNets = new ArrayList<>();
-    protected final Map<ChunkPos, List<T>> pipeNetsByChunk = new HashMap<>();
+    // keyed by ChunkPos#asLong(int, int)
+    protected final Long2ObjectOpenHashMap<List<T>> pipeNetsByChunk = new Long2ObjectOpenHashMap<>();
+    // net owning the node at each BlockPos#toLong()
+    private final Long2ObjectOpenHashMap<T> pipeNetByPos = new Long2ObjectOpenHashMap<>();
 
     public WorldPipeNet(String name) {
         super(name);
@@ -51,7 +56,7 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         for (EnumFacing facing : EnumFacing.VALUES) {
             BlockPos offsetPos = nodePos.offset(facing);
             T pipeNet = getNetFromPos(offsetPos);
-            Node<NodeDataType> secondNode = pipeNet == null ? null : pipeNet.getAllNodes().get(offsetPos);
+            Node<NodeDataType> secondNode = pipeNet == null ? null : pipeNet.getNodeAt(offsetPos);
             if (pipeNet != null && pipeNet.canAttachNode(nodeData) &&
                     pipeNet.canNodesConnect(secondNode, facing.getOpposite(), node, null)) {
                 if (myPipeNet == null) {
@@ -71,16 +76,32 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         }
     }
 
-    protected void addPipeNetToChunk(ChunkPos chunkPos, T pipeNet) {
-        this.pipeNetsByChunk.computeIfAbsent(chunkPos, any -> new ArrayList<>()).add(pipeNet);
+    protected void addPipeNetToChunk(long chunkPos, T pipeNet) {
+        List<T> list = this.pipeNetsByChunk.get(chunkPos);
+        if (list == null) {
+            list = new ArrayList<>();
+            this.pipeNetsByChunk.put(chunkPos, list);
+        }
+        list.add(pipeNet);
     }
 
-    protected void removePipeNetFromChunk(ChunkPos chunkPos, T pipeNet) {
+    protected void removePipeNetFromChunk(long chunkPos, T pipeNet) {
         List<T> list = this.pipeNetsByChunk.get(chunkPos);
-        if (list != null) list.remove(pipeNet);
+        if (list == null) return;
+        list.remove(pipeNet);
         if (list.isEmpty()) this.pipeNetsByChunk.remove(chunkPos);
     }
 
+    void onNodeAdded(long nodePos, T pipeNet) {
+        this.pipeNetByPos.put(nodePos, pipeNet);
+    }
+
+    void onNodeRemoved(long nodePos, T pipeNet) {
+        if (this.pipeNetByPos.get(nodePos) == pipeNet) {
+            this.pipeNetByPos.remove(nodePos);
+        }
+    }
+
     public void removeNode(BlockPos nodePos) {
         T pipeNet = getNetFromPos(nodePos);
         if (pipeNet != null) {
@@ -92,7 +113,7 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         T pipeNet = getNetFromPos(nodePos);
         if (pipeNet != null) {
             pipeNet.updateBlockedConnections(nodePos, side, isBlocked);
-            pipeNet.onPipeConnectionsUpdate();
+            pipeNet.onPipeConnectionsUpdate(nodePos);
         }
     }
 
@@ -104,12 +125,7 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     }
 
     public T getNetFromPos(BlockPos blockPos) {
-        List<T> pipeNetsInChunk = pipeNetsByChunk.getOrDefault(new ChunkPos(blockPos), Collections.emptyList());
-        for (T pipeNet : pipeNetsInChunk) {
-            if (pipeNet.containsNode(blockPos))
-                return pipeNet;
-        }
-        return null;
+        return pipeNetByPos.get(blockPos.toLong());
     }
 
     protected void addPipeNet(T pipeNet) {
@@ -118,13 +134,23 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
 
     protected void addPipeNetSilently(T pipeNet) {
         this.pipeNets.add(pipeNet);
-        pipeNet.getContainedChunks().forEach(chunkPos -> addPipeNetToChunk(chunkPos, pipeNet));
+        for (LongIterator iterator = pipeNet.getContainedChunkKeys().iterator(); iterator.hasNext(); ) {
+            addPipeNetToChunk(iterator.nextLong(), pipeNet);
+        }
+        for (LongIterator iterator = pipeNet.getAllNodesByKey().keySet().iterator(); iterator.hasNext(); ) {
+            onNodeAdded(iterator.nextLong(), pipeNet);
+        }
         pipeNet.isValid = true;
     }
 
     protected void removePipeNet(T pipeNet) {
         this.pipeNets.remove(pipeNet);
-        pipeNet.getContainedChunks().forEach(chunkPos -> removePipeNetFromChunk(chunkPos, pipeNet));
+        for (LongIterator iterator = pipeNet.getContainedChunkKeys().iterator(); iterator.hasNext(); ) {
+            removePipeNetFromChunk(iterator.nextLong(), pipeNet);
+        }
+        for (LongIterator iterator = pipeNet.getAllNodesByKey().keySet().iterator(); iterator.hasNext(); ) {
+            onNodeRemoved(iterator.nextLong(), pipeNet);
+        }
         pipeNet.isValid = false;
     }
 
@@ -133,6 +159,8 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     @Override
     public void readFromNBT(NBTTagCompound nbt) {
         this.pipeNets = new ArrayList<>();
+        this.pipeNetsByChunk.clear();
+        this.pipeNetByPos.clear();
         NBTTagList allEnergyNets = nbt.getTagList("PipeNets", NBT.TAG_COMPOUND);
         for (int i = 0; i < allEnergyNets.tagCount(); i++) {
             NBTTagCompound pNetTag = allEnergyNets.getCompoundTagAt(i);
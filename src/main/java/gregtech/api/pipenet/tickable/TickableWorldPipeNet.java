@@ -2,18 +2,19 @@ package gregtech.api.pipenet.tickable;
 
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType> & ITickable> extends WorldPipeNet<NodeDataType, T> {
 
-    private final Map<T, List<ChunkPos>> loadedChunksByPipeNet = new HashMap<>();
+    private final Map<T, LongList> loadedChunksByPipeNet = new HashMap<>();
     private final Set<T> tickingPipeNets = new HashSet<>();
     private final Set<T> removeLater = new HashSet<>();
 
@@ -21,10 +22,11 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
         super(name);
     }
 
-    private boolean isChunkLoaded(ChunkPos chunkPos) {
+    private boolean isChunkLoaded(long chunkPos) {
         WorldServer worldServer = (WorldServer) getWorld();
         if (worldServer == null) return false;
-        return worldServer.getChunkProvider().chunkExists(chunkPos.x, chunkPos.z);
+        // unpacks ChunkPos#asLong(int, int)
+        return worldServer.getChunkProvider().chunkExists((int) chunkPos, (int) (chunkPos >> 32));
     }
 
     protected abstract int getUpdateRate();
@@ -40,11 +42,11 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     }
 
     public void onChunkLoaded(Chunk chunk) {
-        ChunkPos chunkPos = chunk.getPos();
+        long chunkPos = ChunkPos.asLong(chunk.x, chunk.z);
         List<T> pipeNetsInThisChunk = this.pipeNetsByChunk.get(chunkPos);
         if (pipeNetsInThisChunk == null) return;
         for (T pipeNet : pipeNetsInThisChunk) {
-            List<ChunkPos> loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
+            LongList loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
             if (loadedChunks.isEmpty()) {
                 this.tickingPipeNets.add(pipeNet);
             }
@@ -53,13 +55,12 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     }
 
     public void onChunkUnloaded(Chunk chunk) {
-        ChunkPos chunkPos = chunk.getPos();
+        long chunkPos = ChunkPos.asLong(chunk.x, chunk.z);
         List<T> pipeNetsInThisChunk = this.pipeNetsByChunk.get(chunkPos);
         if (pipeNetsInThisChunk == null) return;
         for (T pipeNet : pipeNetsInThisChunk) {
-            List<ChunkPos> loadedChunks = this.loadedChunksByPipeNet.get(pipeNet);
-            if (loadedChunks != null && loadedChunks.contains(chunkPos)) {
-                loadedChunks.remove(chunkPos);
+            LongList loadedChunks = this.loadedChunksByPipeNet.get(pipeNet);
+            if (loadedChunks != null && loadedChunks.rem(chunkPos)) {
                 if (loadedChunks.isEmpty()) {
                     removeFromTicking(pipeNet);
                 }
@@ -70,30 +71,34 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     @Override
     protected void onWorldSet() {
         super.onWorldSet();
-        Map<T, List<ChunkPos>> pipeNetByLoadedChunks = pipeNets.stream()
-                .map(pipeNet -> Pair.of(pipeNet, getPipeNetLoadedChunks(pipeNet)))
-                .filter(pair -> !pair.getRight().isEmpty())
-                .collect(Collectors.toMap(Pair::getLeft, Pair::getRight));
-        if (!pipeNetByLoadedChunks.isEmpty()) {
-            this.tickingPipeNets.addAll(pipeNetByLoadedChunks.keySet());
-            this.loadedChunksByPipeNet.putAll(pipeNetByLoadedChunks);
+        for (T pipeNet : pipeNets) {
+            LongList loadedChunks = getPipeNetLoadedChunks(pipeNet);
+            if (!loadedChunks.isEmpty()) {
+                this.tickingPipeNets.add(pipeNet);
+                this.loadedChunksByPipeNet.put(pipeNet, loadedChunks);
+            }
         }
     }
 
     @Override
     protected void addPipeNet(T pipeNet) {
         super.addPipeNet(pipeNet);
-        List<ChunkPos> loadedChunks = getPipeNetLoadedChunks(pipeNet);
+        LongList loadedChunks = getPipeNetLoadedChunks(pipeNet);
         if (!loadedChunks.isEmpty()) {
             this.loadedChunksByPipeNet.put(pipeNet, loadedChunks);
             this.tickingPipeNets.add(pipeNet);
         }
     }
 
-    private List<ChunkPos> getPipeNetLoadedChunks(T pipeNet) {
-        return pipeNet.getContainedChunks().stream()
-                .filter(this::isChunkLoaded)
-                .collect(Collectors.toList());
+    private LongList getPipeNetLoadedChunks(T pipeNet) {
+        LongList loadedChunks = new LongArrayList();
+        for (LongIterator iterator = pipeNet.getContainedChunkKeys().iterator(); iterator.hasNext(); ) {
+            long chunkPos = iterator.nextLong();
+            if (isChunkLoaded(chunkPos)) {
+                loadedChunks.add(chunkPos);
+            }
+        }
+        return loadedChunks;
     }
 
     @Override
@@ -109,15 +114,15 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
         this.removeLater.add(pipeNet);
     }
 
-    private List<ChunkPos> getOrCreateChunkListForPipeNet(T pipeNet) {
-        return this.loadedChunksByPipeNet.computeIfAbsent(pipeNet, k -> new ArrayList<>());
+    private LongList getOrCreateChunkListForPipeNet(T pipeNet) {
+        return this.loadedChunksByPipeNet.computeIfAbsent(pipeNet, k -> new LongArrayList());
     }
 
     @Override
-    protected void addPipeNetToChunk(ChunkPos chunkPos, T pipeNet) {
+    protected void addPipeNetToChunk(long chunkPos, T pipeNet) {
         super.addPipeNetToChunk(chunkPos, pipeNet);
         if (isChunkLoaded(chunkPos)) {
-            List<ChunkPos> loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
+            LongList loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
             if (loadedChunks.isEmpty()) {
                 this.tickingPipeNets.add(pipeNet);
             }
@@ -126,11 +131,10 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     }
 
     @Override
-    protected void removePipeNetFromChunk(ChunkPos chunkPos, T pipeNet) {
+    protected void removePipeNetFromChunk(long chunkPos, T pipeNet) {
         super.removePipeNetFromChunk(chunkPos, pipeNet);
-        List<ChunkPos> loadedChunks = this.loadedChunksByPipeNet.get(pipeNet);
-        if (loadedChunks != null && loadedChunks.contains(chunkPos)) {
-            loadedChunks.remove(chunkPos);
+        LongList loadedChunks = this.loadedChunksByPipeNet.get(pipeNet);
+        if (loadedChunks != null && loadedChunks.rem(chunkPos)) {
             if (loadedChunks.isEmpty()) {
                 removeFromTicking(pipeNet);
             }
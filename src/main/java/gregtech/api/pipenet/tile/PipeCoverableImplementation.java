@@ -4,8 +4,10 @@ import com.google.common.base.Preconditions;
 import gregtech.api.cover.CoverBehavior;
 import gregtech.api.cover.CoverDefinition;
 import gregtech.api.cover.ICoverable;
+import gregtech.api.cover.NeighborCache;
 import gregtech.api.pipenet.block.BlockPipe;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.TickProfiler;
 import gregtech.common.ConfigHolder;
 import gregtech.common.advancement.GTTriggers;
 import net.minecraft.block.Block;
@@ -15,6 +17,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.ResourceLocation;
@@ -34,6 +37,7 @@ public class PipeCoverableImplementation implements ICoverable {
     private final IPipeTile<?, ?> holder;
     private final CoverBehavior[] coverBehaviors = new CoverBehavior[6];
     private final int[] sidedRedstoneInput = new int[6];
+    private final NeighborCache neighborCache = new NeighborCache(this);
 
     public PipeCoverableImplementation(IPipeTile<?, ?> holder) {
         this.holder = holder;
@@ -180,6 +184,25 @@ public class PipeCoverableImplementation implements ICoverable {
         return false;
     }
 
+    @Nullable
+    @Override
+    public TileEntity getNeighbor(EnumFacing side) {
+        return neighborCache.getNeighbor(side);
+    }
+
+    @Nullable
+    @Override
+    public <T> T getNeighborCapability(EnumFacing side, Capability<T> capability) {
+        return neighborCache.getCapability(side, capability);
+    }
+
+    /**
+     * Forgets the remembered neighbours, called when a neighbour changes and when the chunk unloads
+     */
+    public void invalidateNeighborCache() {
+        neighborCache.invalidate();
+    }
+
     @Override
     public CoverBehavior getCoverAtSide(EnumFacing side) {
         return side == null ? null : coverBehaviors[side.getIndex()];
@@ -222,7 +245,9 @@ public class PipeCoverableImplementation implements ICoverable {
         if (!getWorld().isRemote) {
             for (CoverBehavior coverBehavior : coverBehaviors) {
                 if (coverBehavior instanceof ITickable) {
+                    long profileStart = TickProfiler.startSample(getWorld());
                     ((ITickable) coverBehavior).update();
+                    TickProfiler.endSample(profileStart, coverBehavior);
                 }
             }
         }
@@ -228,7 +228,7 @@ public abstract class TileEntityPipeBase<PipeType extends Enum<PipeType> & IPipe
             WorldPipeNet<?, ?> worldPipeNet = getPipeBlock().getWorldPipeNet(getWorld());
             PipeNet<?> net = worldPipeNet.getNetFromPos(pos);
             if (net != null) {
-                net.onPipeConnectionsUpdate();
+                net.onPipeConnectionsUpdate(pos);
             }
         }
     }
@@ -373,6 +373,12 @@ public abstract class TileEntityPipeBase<PipeType extends Enum<PipeType> & IPipe
         this.coverableImplementation.onLoad();
     }
 
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        this.coverableImplementation.invalidateNeighborCache();
+    }
+
     protected void writePipeProperties(PacketBuffer buf) {
         buf.writeVarInt(pipeType.ordinal());
     }
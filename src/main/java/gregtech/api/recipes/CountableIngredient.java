@@ -3,6 +3,7 @@ package gregtech.api.recipes;
 import gregtech.api.unification.material.Material;
 import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.unification.stack.UnificationEntry;
+import gregtech.api.util.DeferredRegistrations;
 import gregtech.api.util.IngredientHashStrategy;
 import gregtech.api.util.GTLog;
 import gregtech.common.ConfigHolder;
@@ -30,23 +31,19 @@ public class CountableIngredient {
     }
 
     public static CountableIngredient from(ItemStack stack) {
-        return new CountableIngredient(Ingredient.fromStacks(stack), stack.getCount());
+        return new CountableIngredient(DeferredRegistrations.createIngredient(() -> Ingredient.fromStacks(stack)), stack.getCount());
     }
 
     public static CountableIngredient from(ItemStack stack, int amount) {
-        return new CountableIngredient(Ingredient.fromStacks(stack), amount);
+        return new CountableIngredient(DeferredRegistrations.createIngredient(() -> Ingredient.fromStacks(stack)), amount);
     }
 
     public static CountableIngredient from(String oredict) {
-        if (ConfigHolder.misc.debug && OreDictionary.getOres(oredict).isEmpty())
-            GTLog.logger.error("Tried to access item with oredict " + oredict + ":", new IllegalArgumentException());
-        return new CountableIngredient(new OreIngredient(oredict), 1);
+        return from(oredict, 1);
     }
 
     public static CountableIngredient from(String oredict, int count) {
-        if (ConfigHolder.misc.debug && OreDictionary.getOres(oredict).isEmpty())
-            GTLog.logger.error("Tried to access item with oredict " + oredict + ":", new IllegalArgumentException());
-        return new CountableIngredient(new OreIngredient(oredict), count);
+        return new CountableIngredient(createOreIngredient(oredict), count);
     }
 
     public static CountableIngredient from(OrePrefix prefix, Material material) {
@@ -54,9 +51,16 @@ public class CountableIngredient {
     }
 
     public static CountableIngredient from(OrePrefix prefix, Material material, int count) {
-        if (ConfigHolder.misc.debug && OreDictionary.getOres(new UnificationEntry(prefix, material).toString()).isEmpty())
-            GTLog.logger.error("Tried to access item with oredict " + new UnificationEntry(prefix, material).toString() + ":", new IllegalArgumentException());
-        return new CountableIngredient(new OreIngredient(new UnificationEntry(prefix, material).toString()), count);
+        return from(new UnificationEntry(prefix, material).toString(), count);
+    }
+
+    // looking up an ore dictionary name the first time registers it, so material handlers running in parallel take turns
+    private static OreIngredient createOreIngredient(String oredict) {
+        return DeferredRegistrations.createIngredient(() -> {
+            if (ConfigHolder.misc.debug && OreDictionary.getOres(oredict).isEmpty())
+                GTLog.logger.error("Tried to access item with oredict " + oredict + ":", new IllegalArgumentException());
+            return new OreIngredient(oredict);
+        });
     }
 
     public Ingredient getIngredient() {
@@ -7,37 +7,56 @@ import javax.annotation.Nonnull;
 import java.lang.ref.WeakReference;
 import java.util.WeakHashMap;
 
+/**
+ * Interns {@link ItemStackKey}s, so equal stacks share the same key instance while it is in use.
+ * <p>
+ * Keys are spread over several maps by their hash, each guarded by its own lock,
+ * so recipe registration and lookups on different threads rarely wait for each other.
+ */
 public class KeySharedStack {
 
-    private static final WeakHashMap<ItemStackKey, WeakReference<ItemStackKey>> registeredItemStackKeys = new WeakHashMap<>();
+    // must be a power of two
+    private static final int STRIPES = 64;
+
+    private static final WeakHashMap<ItemStackKey, WeakReference<ItemStackKey>>[] registeredItemStackKeys = createStripes();
     public static ItemStackKey EMPTY = new ItemStackKey(ItemStack.EMPTY);
 
     private KeySharedStack() {
 
     }
 
-    public static synchronized ItemStackKey getRegisteredStack(final @Nonnull ItemStack itemStack) {
+    @SuppressWarnings("unchecked")
+    private static WeakHashMap<ItemStackKey, WeakReference<ItemStackKey>>[] createStripes() {
+        WeakHashMap<ItemStackKey, WeakReference<ItemStackKey>>[] stripes = new WeakHashMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new WeakHashMap<>();
+        }
+        return stripes;
+    }
+
+    /**
+     * Thread safe, does not modify the given stack
+     *
+     * @return the shared key of the stack, stack size is not part of the key
+     */
+    public static ItemStackKey getRegisteredStack(final @Nonnull ItemStack itemStack) {
         if (itemStack.isEmpty()) {
             return EMPTY;
         }
 
-        int oldStackSize = itemStack.getCount();
-        itemStack.setCount(1);
-
+        // the key equality ignores stack size, so the stack can be wrapped for lookup as it is
         ItemStackKey search = new ItemStackKey(itemStack, false);
-        WeakReference<ItemStackKey> weak = registeredItemStackKeys.get(search);
-        ItemStackKey ret = null;
-
-        if (weak != null) {
-            ret = weak.get();
-        }
-
-        if (ret == null) {
-            ret = new ItemStackKey(itemStack);
-            registeredItemStackKeys.put(ret, new WeakReference<>(ret));
+        int hash = search.hashCode();
+        WeakHashMap<ItemStackKey, WeakReference<ItemStackKey>> stripe = registeredItemStackKeys[(hash ^ hash >>> 16) & (STRIPES - 1)];
+
+        synchronized (stripe) {
+            WeakReference<ItemStackKey> weak = stripe.get(search);
+            ItemStackKey ret = weak == null ? null : weak.get();
+            if (ret == null) {
+                ret = new ItemStackKey(itemStack);
+                stripe.put(ret, new WeakReference<>(ret));
+            }
+            return ret;
         }
-        itemStack.setCount(oldStackSize);
-
-        return ret;
     }
 }
@@ -15,6 +15,7 @@ import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.unification.stack.ItemMaterialInfo;
 import gregtech.api.unification.stack.MaterialStack;
 import gregtech.api.unification.stack.UnificationEntry;
+import gregtech.api.util.DeferredRegistrations;
 import gregtech.api.util.DummyContainer;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.LocalizationUtils;
@@ -178,6 +179,7 @@ public class ModHandler {
      * Just simple Furnace smelting
      */
     public static void addSmeltingRecipe(ItemStack input, ItemStack output, float experience) {
+        if (DeferredRegistrations.defer(() -> addSmeltingRecipe(input, output, experience))) return;
         boolean skip = false;
         if (input.isEmpty()) {
             GTLog.logger.error("Input cannot be an empty ItemStack", new IllegalArgumentException());
@@ -236,9 +238,10 @@ public class ModHandler {
     }
 
     public static void addMirroredShapedRecipe(boolean withUnificationData, String regName, ItemStack result, Object... recipe) {
-        result = OreDictUnifier.getUnificated(result);
+        if (DeferredRegistrations.defer(() -> addMirroredShapedRecipe(withUnificationData, regName, result, recipe))) return;
+        ItemStack unificatedResult = OreDictUnifier.getUnificated(result);
         boolean skip = false;
-        if (result.isEmpty()) {
+        if (unificatedResult.isEmpty()) {
             GTLog.logger.error("Result cannot be an empty ItemStack. Recipe: {}", regName);
             GTLog.logger.error("Stacktrace:", new IllegalArgumentException());
             skip = true;
@@ -249,12 +252,12 @@ public class ModHandler {
             return;
         }
 
-        IRecipe shapedOreRecipe = new ShapedOreRecipe(new ResourceLocation(GTValues.MODID, "general"), result.copy(), finalizeShapedRecipeInput(recipe))
+        IRecipe shapedOreRecipe = new ShapedOreRecipe(new ResourceLocation(GTValues.MODID, "general"), unificatedResult.copy(), finalizeShapedRecipeInput(recipe))
                 .setMirrored(true)
                 .setRegistryName(regName);
         ForgeRegistries.RECIPES.register(shapedOreRecipe);
 
-        if (withUnificationData) OreDictUnifier.registerOre(result, getRecyclingIngredients(result.getCount(), recipe));
+        if (withUnificationData) OreDictUnifier.registerOre(unificatedResult, getRecyclingIngredients(unificatedResult.getCount(), recipe));
 
     }
 
@@ -291,6 +294,7 @@ public class ModHandler {
     }
 
     public static void addShapedRecipe(boolean withUnificationData, String regName, ItemStack result, Object... recipe) {
+        if (DeferredRegistrations.defer(() -> addShapedRecipe(withUnificationData, regName, result, recipe))) return;
         boolean skip = false;
         if (result.isEmpty()) {
             GTLog.logger.error("Result cannot be an empty ItemStack. Recipe: {}", regName);
@@ -312,6 +316,7 @@ public class ModHandler {
     }
 
     public static void addShapedEnergyTransferRecipe(String regName, ItemStack result, Predicate<ItemStack> chargePredicate, boolean overrideCharge, boolean transferMaxCharge, Object... recipe) {
+        if (DeferredRegistrations.defer(() -> addShapedEnergyTransferRecipe(regName, result, chargePredicate, overrideCharge, transferMaxCharge, recipe))) return;
         boolean skip = false;
         if (result.isEmpty()) {
             GTLog.logger.error("Result cannot be an empty ItemStack. Recipe: {}", regName);
@@ -492,6 +497,7 @@ public class ModHandler {
      * Add Shapeless Crafting Recipes
      */
     public static void addShapelessRecipe(String regName, ItemStack result, Object... recipe) {
+        if (DeferredRegistrations.defer(() -> addShapelessRecipe(regName, result, recipe))) return;
         boolean skip = false;
         if (result.isEmpty()) {
             GTLog.logger.error("Result cannot be an empty ItemStack. Recipe: {}", regName);
@@ -3,6 +3,7 @@ package gregtech.api.recipes;
 import com.google.common.collect.ImmutableList;
 import gregtech.api.GTValues;
 import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.capability.IRevisionTracker;
 import gregtech.api.recipes.recipeproperties.RecipeProperty;
 import gregtech.api.recipes.recipeproperties.RecipePropertyStorage;
 import gregtech.api.util.GTUtility;
@@ -150,7 +151,13 @@ public class Recipe {
     }
 
     public final boolean matches(boolean consumeIfSuccessful, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
-        return matches(consumeIfSuccessful, GTUtility.itemHandlerToList(inputs), GTUtility.fluidHandlerToList(fluidInputs));
+        boolean matches = matches(consumeIfSuccessful, GTUtility.itemHandlerToList(inputs), GTUtility.fluidHandlerToList(fluidInputs));
+        if (matches && consumeIfSuccessful) {
+            // inputs are consumed by changing the stacks in place
+            IRevisionTracker.markContentsChanged(inputs);
+            IRevisionTracker.markContentsChanged(fluidInputs);
+        }
+        return matches;
     }
 
     /**
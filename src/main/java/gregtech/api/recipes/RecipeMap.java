@@ -20,11 +20,13 @@ import gregtech.api.gui.widgets.SlotWidget;
 import gregtech.api.gui.widgets.TankWidget;
 import gregtech.api.recipes.crafttweaker.CTRecipe;
 import gregtech.api.recipes.crafttweaker.CTRecipeBuilder;
+import gregtech.api.recipes.lookup.RecipeIndex;
+import gregtech.api.recipes.lookup.RecipeLookup;
+import gregtech.api.recipes.lookup.RecipeLookupSnapshot;
 import gregtech.api.unification.material.Material;
 import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.util.*;
 import gregtech.common.ConfigHolder;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.SoundEvent;
 import net.minecraftforge.fluids.Fluid;
@@ -61,15 +63,15 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     protected MoveType moveType;
     public final boolean isHidden;
 
-    private final Object2ObjectOpenHashMap<FluidKey, Set<Recipe>> recipeFluidMap = new Object2ObjectOpenHashMap<>();
-    private final Object2ObjectOpenHashMap<ItemStackKey, Set<Recipe>> recipeItemMap = new Object2ObjectOpenHashMap<>();
-
     private static final Comparator<Recipe> RECIPE_DURATION_THEN_EU =
             Comparator.comparingInt(Recipe::getDuration)
                     .thenComparingInt(Recipe::getEUt)
                     .thenComparing(Recipe::hashCode);
 
-    private final Set<Recipe> recipeSet = new TreeSet<>(RECIPE_DURATION_THEN_EU);
+    private final RecipeIndex recipeIndex = new RecipeIndex(RECIPE_DURATION_THEN_EU);
+    private volatile RecipeLookup lookup;
+    // sorted view of all recipes, dropped with the lookup when recipes are added or removed
+    private volatile Collection<Recipe> recipeList;
 
     private Consumer<RecipeBuilder<?>> onRecipeBuildAction;
 
@@ -184,53 +186,30 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     }
 
     public Collection<Recipe> getRecipesForFluid(FluidStack fluid) {
-        return recipeFluidMap.getOrDefault(new FluidKey(fluid), Collections.emptySet());
+        return recipeIndex.getRecipesForFluid(new FluidKey(fluid));
     }
 
     public Collection<Recipe> getRecipesForFluid(FluidKey fluidKey) {
-        return recipeFluidMap.getOrDefault(fluidKey, Collections.emptySet());
+        return recipeIndex.getRecipesForFluid(fluidKey);
     }
 
     private static boolean foundInvalidRecipe = false;
 
     //internal usage only, use buildAndRegister()
     public void addRecipe(ValidationResult<Recipe> validationResult) {
-        validationResult = postValidateRecipe(validationResult);
-        switch (validationResult.getType()) {
+        if (DeferredRegistrations.defer(() -> addRecipe(validationResult))) return;
+        ValidationResult<Recipe> result = postValidateRecipe(validationResult);
+        switch (result.getType()) {
             case SKIP:
                 return;
             case INVALID:
                 setFoundInvalidRecipe(true);
                 return;
         }
-        Recipe recipe = validationResult.getResult();
-        if (recipeSet.add(recipe)) {
-            for (CountableIngredient countableIngredient : recipe.getInputs()) {
-                ItemStack[] stacks = countableIngredient.getIngredient().getMatchingStacks();
-                for (ItemStack itemStack : stacks) {
-                    ItemStackKey stackKey = KeySharedStack.getRegisteredStack(itemStack);
-                    recipeItemMap.computeIfPresent(stackKey, (k, v) -> {
-                        v.add(recipe);
-                        return v;
-                    });
-                    recipeItemMap.computeIfAbsent(stackKey, k -> new HashSet<>()).add(recipe);
-                }
-            }
-            for (FluidStack fluid : recipe.getFluidInputs()) {
-                if (fluid.tag != null && fluid.tag.hasKey("nonConsumable")) {
-                    fluid = fluid.copy();
-                    fluid.tag.removeTag("nonConsumable");
-                    if (fluid.tag.isEmpty()) {
-                        fluid.tag = null;
-                    }
-                }
-                FluidKey fluidKey = new FluidKey(fluid);
-                recipeFluidMap.computeIfPresent(fluidKey, (k, v) -> {
-                    v.add(recipe);
-                    return v;
-                });
-                recipeFluidMap.computeIfAbsent(fluidKey, k -> new HashSet<>()).add(recipe);
-            }
+        Recipe recipe = result.getResult();
+        if (recipeIndex.add(recipe)) {
+            this.lookup = null;
+            this.recipeList = null;
         } else if (ConfigHolder.misc.debug) {
             GTLog.logger.warn("Recipe: {} for Recipe Map {} is a duplicate and was not added", recipe.toString(), this.unlocalizedName);
             if(recipe.getIsCTRecipe()) {
@@ -241,13 +220,9 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
     public boolean removeRecipe(Recipe recipe) {
         //if we actually removed this recipe
-        if (recipeSet.remove(recipe)) {
-            //also iterate trough fluid mappings and remove recipe from them
-            recipeFluidMap.values().forEach(fluidMap ->
-                    fluidMap.removeIf(fluidRecipe -> fluidRecipe == recipe));
-            recipeItemMap.values().forEach(itemMap ->
-                    itemMap.removeIf(itemRecipe -> itemRecipe == recipe));
-
+        if (recipeIndex.remove(recipe)) {
+            this.lookup = null;
+            this.recipeList = null;
             return true;
         }
         return false;
@@ -327,7 +302,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
     @Nullable
     public Recipe findRecipe(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs, int outputFluidTankCapacity, boolean exactVoltage) {
-        if (recipeSet.isEmpty())
+        if (recipeIndex.isEmpty())
             return null;
         if (minFluidInputs > 0 && GTUtility.amountOfNonNullElements(fluidInputs) < minFluidInputs) {
             return null;
@@ -340,73 +315,22 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
     @Nullable
     private Recipe findByInputsAndFluids(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs, boolean exactVoltage) {
-        HashSet<Recipe> iteratedRecipes = new HashSet<>();
-        HashSet<ItemStackKey> searchedItems = new HashSet<>();
-        HashSet<FluidKey> searchedFluids = new HashSet<>();
-        HashMap<Integer, LinkedList<Recipe>> priorityRecipeMap = new HashMap<>();
-        HashMap<Recipe, Integer> promotedTimes = new HashMap<>();
-
-        for (ItemStack stack : inputs) {
-            if (!stack.isEmpty()) {
-                ItemStackKey itemStackKey = KeySharedStack.getRegisteredStack(stack);
-                if (!searchedItems.contains(itemStackKey) && recipeItemMap.containsKey(itemStackKey)) {
-                    searchedItems.add(itemStackKey);
-                    for (Recipe tmpRecipe : recipeItemMap.get(itemStackKey)) {
-                        if (!exactVoltage && voltage < tmpRecipe.getEUt()) {
-                            continue;
-                        } else if (exactVoltage && voltage != tmpRecipe.getEUt()) {
-                            continue;
-                        }
-                        calculateRecipePriority(tmpRecipe, promotedTimes, priorityRecipeMap);
-                    }
-                }
-            }
-        }
-
-        for (FluidStack fluidStack : fluidInputs) {
-            if (fluidStack != null) {
-                FluidKey fluidKey = new FluidKey(fluidStack);
-                if (!searchedFluids.contains(fluidKey) && recipeFluidMap.containsKey(fluidKey)) {
-                    searchedFluids.add(fluidKey);
-                    for (Recipe tmpRecipe : recipeFluidMap.get(fluidKey)) {
-                        if (!exactVoltage && voltage < tmpRecipe.getEUt()) {
-                            continue;
-                        } else if (exactVoltage && voltage != tmpRecipe.getEUt()) {
-                            continue;
-                        }
-                        calculateRecipePriority(tmpRecipe, promotedTimes, priorityRecipeMap);
-                    }
-                }
-            }
-        }
-
-        return prioritizedRecipe(priorityRecipeMap, iteratedRecipes, inputs, fluidInputs);
+        return getLookup().find(voltage, inputs, fluidInputs, exactVoltage);
     }
 
-    private Recipe prioritizedRecipe(Map<Integer, LinkedList<Recipe>> priorityRecipeMap, HashSet<Recipe> iteratedRecipes, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
-        for (int i = priorityRecipeMap.size() - 1; i >= 0; i--) {
-            if (priorityRecipeMap.containsKey(i)) {
-                for (Recipe tmpRecipe : priorityRecipeMap.get(i)) {
-                    if (iteratedRecipes.add(tmpRecipe)) {
-                        if (tmpRecipe.matches(false, inputs, fluidInputs)) {
-                            return tmpRecipe;
-                        }
-                    }
-                }
+    /**
+     * @return the precompiled lookup of this map, rebuilt lazily after recipes were added or removed
+     */
+    public RecipeLookup getLookup() {
+        RecipeLookup lookup = this.lookup;
+        if (lookup == null) {
+            lookup = RecipeLookupSnapshot.restore(unlocalizedName, recipeIndex);
+            if (lookup == null) {
+                lookup = RecipeLookup.compile(recipeIndex);
             }
+            this.lookup = lookup;
         }
-
-        return null;
-    }
-
-    private void calculateRecipePriority(Recipe recipe, HashMap<Recipe, Integer> promotedTimes, Map<Integer, LinkedList<Recipe>> priorityRecipeMap) {
-        Integer p = promotedTimes.get(recipe);
-        if (p == null) {
-            p = 0;
-        }
-        promotedTimes.put(recipe, p + 1);
-        priorityRecipeMap.computeIfAbsent(p, k -> new LinkedList<>());
-        priorityRecipeMap.get(p).add(recipe);
+        return lookup;
     }
 
     public ModularUI.Builder createJeiUITemplate(IItemHandlerModifiable importItems, IItemHandlerModifiable exportItems, FluidTankList importFluids, FluidTankList exportFluids, int yOffset) {
@@ -545,7 +469,12 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
 
     public Collection<Recipe> getRecipeList() {
-        return Collections.unmodifiableList(new ArrayList<>(recipeSet));
+        Collection<Recipe> recipeList = this.recipeList;
+        if (recipeList == null) {
+            recipeList = Collections.unmodifiableList(Arrays.asList(recipeIndex.getRecipes()));
+            this.recipeList = recipeList;
+        }
+        return recipeList;
     }
 
     public SoundEvent getSound() {
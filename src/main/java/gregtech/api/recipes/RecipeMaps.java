@@ -288,7 +288,7 @@ public class RecipeMaps {
      * Example:
      * <pre>
      *      RecipeMap.CHEMICAL_RECIPES.recipeBuilder()
-     * 				.notConsumable(new IntCircuitIngredient(1))
+     * 				.notConsumable(IntCircuitIngredient.create(1))
      * 				.fluidInputs(Materials.NitrogenDioxide.getFluid(3000))
      * 			    .fluidInputs(Materials.Water.getFluid(1000))
      * 				.fluidOutputs(Materials.NitricAcid.getFluid(2000))
@@ -414,7 +414,7 @@ public class RecipeMaps {
      * Example:
      * <pre>
      *      RecipeMap.CRACKING_RECIPES.recipeBuilder()
-     *              .notConsumable(new IntCircuitIngredient(1))
+     *              .notConsumable(IntCircuitIngredient.create(1))
      *         		.fluidInputs(Materials.HeavyFuel.getFluid(1000))
      *         	    .fluidInputs(Hydrogen.getFluid(2000))
      *         		.fluidOutputs(LightlyHydroCrackedHeavyFuel.getFluid(1000))
@@ -901,7 +901,7 @@ public class RecipeMaps {
      * 		RecipeMap.MIXER_RECIPES.recipeBuilder()
      * 				.input(OrePrefix.dust, Materials.Redstone, 5)
      * 				.input(OrePrefix.dust, Materials.Ruby, 4)
-     * 				.notConsumable(new IntCircuitIngredient(1))
+     * 				.notConsumable(IntCircuitIngredient.create(1))
      * 				.output(MetaItems.ENERGIUM_DUST, 9)
      * 				.duration(600).EUt(GTValues.VA[GTValues.MV])
      * 				.buildAndRegister();
@@ -919,7 +919,7 @@ public class RecipeMaps {
      * <pre>
      * 		RecipeMap.ORE_WASHER_RECIPES.recipeBuilder()
      * 				.input(OrePrefix.crushed, Materials.Aluminum)
-     * 				.notConsumable(new IntCircuitIngredient(2))
+     * 				.notConsumable(IntCircuitIngredient.create(2))
      * 				.fluidInputs(Materials.Water.getFluid(100))
      * 				.output(OrePrefix.crushedPurified, Materials.Aluminum)
      * 				.duration(8).EUt(4).buildAndRegister();
@@ -940,7 +940,7 @@ public class RecipeMaps {
      * <pre>
      * 		RecipeMap.PACKER_RECIPES.recipeBuilder()
      * 				.inputs(new ItemStack(Items.WHEAT, 9))
-     * 				.notConsumable(new IntCircuitIngredient(9))
+     * 				.notConsumable(IntCircuitIngredient.create(9))
      * 				.outputs(new ItemStack(Blocks.HAY_BLOCK))
      * 				.duration(200).EUt(2)
      * 				.buildAndRegister();
@@ -52,7 +52,7 @@ public class IntCircuitRecipeBuilder extends RecipeBuilder<IntCircuitRecipeBuild
     @Override
     protected EnumValidationResult finalizeAndValidate() {
         if (circuitMeta >= 0) {
-            inputs.add(new CountableIngredient(new IntCircuitIngredient(circuitMeta), 1).setNonConsumable());
+            inputs.add(new CountableIngredient(IntCircuitIngredient.create(circuitMeta), 1).setNonConsumable());
         }
         return super.finalizeAndValidate();
     }
@@ -72,7 +72,7 @@ public class CTRecipeBuilder {
     public CTRecipeBuilder circuit(int num) {
         if (num < 0 || num > IntCircuitIngredient.CIRCUIT_MAX)
             CraftTweakerAPI.logError("Given configuration number is out of range!", new IllegalArgumentException());
-        this.backingBuilder.notConsumable(new IntCircuitIngredient(num));
+        this.backingBuilder.notConsumable(IntCircuitIngredient.create(num));
         return this;
     }
 
@@ -1,6 +1,7 @@
 package gregtech.api.recipes.ingredients;
 
 import gregtech.api.items.gui.PlayerInventoryHolder;
+import gregtech.api.util.DeferredRegistrations;
 import gregtech.common.items.MetaItems;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
@@ -20,6 +21,13 @@ public class IntCircuitIngredient extends Ingredient {
         return stack;
     }
 
+    /**
+     * Creates an ingredient matching circuits of the given configurations, safe to call from material handlers running in parallel
+     */
+    public static IntCircuitIngredient create(int... matchingConfigurations) {
+        return DeferredRegistrations.createIngredient(() -> new IntCircuitIngredient(matchingConfigurations));
+    }
+
     public static void setCircuitConfiguration(ItemStack itemStack, int configuration) {
         if (!MetaItems.INTEGRATED_CIRCUIT.isItemEqual(itemStack))
             throw new IllegalArgumentException("Given item stack is not an integrated circuit!");
@@ -72,7 +80,7 @@ public class IntCircuitIngredient extends Ingredient {
 
     private final int[] matchingConfigurations;
 
-    public IntCircuitIngredient(int... matchingConfigurations) {
+    private IntCircuitIngredient(int... matchingConfigurations) {
         super(gatherMatchingCircuits(matchingConfigurations));
         this.matchingConfigurations = matchingConfigurations;
     }
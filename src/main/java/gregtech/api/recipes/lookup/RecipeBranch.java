@@ -0,0 +1,50 @@
+package gregtech.api.recipes.lookup;
+
+import gregtech.api.util.ItemStackKey;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+
+import javax.annotation.Nullable;
+
+/**
+ * Leaf of the {@link RecipeLookup} trie, holding the recipes keyed by a single
+ * ingredient (item + damage + NBT, or fluid + NBT)
+ */
+final class RecipeBranch {
+
+    final int id;
+    @Nullable
+    private final ItemStackKey itemKey;
+    @Nullable
+    private final NBTTagCompound fluidTag;
+    final int[] recipes;
+
+    RecipeBranch(int id, @Nullable ItemStackKey itemKey, @Nullable NBTTagCompound fluidTag, int[] recipes) {
+        this.id = id;
+        this.itemKey = itemKey;
+        this.fluidTag = fluidTag;
+        this.recipes = recipes;
+    }
+
+    @Nullable
+    ItemStackKey getItemKey() {
+        return itemKey;
+    }
+
+    @Nullable
+    NBTTagCompound getFluidTag() {
+        return fluidTag;
+    }
+
+    boolean matches(ItemStack itemStack) {
+        return itemKey != null && itemKey.isItemStackEqual(itemStack);
+    }
+
+    /**
+     * Mirrors {@link gregtech.api.recipes.FluidKey#equals(Object)} with the input fluid as the probe
+     */
+    boolean matches(FluidStack fluidStack) {
+        return fluidStack.tag == null ? fluidTag == null : fluidStack.tag.equals(fluidTag);
+    }
+}
@@ -0,0 +1,87 @@
+package gregtech.api.recipes.lookup;
+
+import gregtech.api.recipes.Recipe;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * IDs of the recipes of a {@link RecipeIndex} sharing one ingredient, kept in ascending order.
+ * <p>
+ * Also serves as a read only view of those recipes, so callers iterating the recipes of a fluid do not need a copy.
+ */
+final class RecipeBucket extends AbstractCollection<Recipe> {
+
+    private final RecipeIndex index;
+    private int[] ids = new int[2];
+    private int size;
+
+    RecipeBucket(RecipeIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * IDs are handed out in increasing order, so adding keeps the bucket sorted
+     *
+     * @return false if the recipe already was in the bucket
+     */
+    boolean add(int id) {
+        if (size > 0 && ids[size - 1] == id) return false;
+        if (size == ids.length) {
+            this.ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+        return true;
+    }
+
+    void remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) return;
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        this.size--;
+    }
+
+    /**
+     * Renumbers the IDs, the new IDs must have the same order as the old ones
+     */
+    void remap(int[] newIds) {
+        for (int i = 0; i < size; i++) {
+            ids[i] = newIds[ids[i]];
+        }
+        if (ids.length > size * 2) {
+            this.ids = Arrays.copyOf(ids, Math.max(size, 2));
+        }
+    }
+
+    int getId(int position) {
+        return ids[position];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<Recipe> iterator() {
+        return new Iterator<Recipe>() {
+
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return position < size;
+            }
+
+            @Override
+            public Recipe next() {
+                if (position >= size) throw new NoSuchElementException();
+                return index.getRecipe(ids[position++]);
+            }
+        };
+    }
+}
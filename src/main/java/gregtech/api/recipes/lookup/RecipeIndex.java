@@ -0,0 +1,212 @@
+package gregtech.api.recipes.lookup;
+
+import gregtech.api.recipes.CountableIngredient;
+import gregtech.api.recipes.FluidKey;
+import gregtech.api.recipes.KeySharedStack;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.util.ItemStackKey;
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenCustomHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mutable storage of the recipes of a {@link gregtech.api.recipes.RecipeMap}, compiled into a {@link RecipeLookup} for searching.
+ * <p>
+ * Every recipe gets an integer ID, its slot in a flat array. Recipes sharing an ingredient are kept as sorted ID arrays,
+ * and every recipe remembers its buckets, so removing it only touches the buckets it is in.
+ * IDs of removed recipes are reclaimed when the array runs full.
+ */
+public final class RecipeIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final Comparator<Recipe> order;
+    // recipes the order considers equal are duplicates, like in a tree set sorted by it
+    private final Object2IntOpenCustomHashMap<Recipe> recipeIds;
+    private final Object2ObjectOpenHashMap<ItemStackKey, RecipeBucket> itemBuckets = new Object2ObjectOpenHashMap<>();
+    private final Object2ObjectOpenHashMap<FluidKey, RecipeBucket> fluidBuckets = new Object2ObjectOpenHashMap<>();
+    private Recipe[] recipes = new Recipe[MIN_CAPACITY];
+    private RecipeBucket[][] bucketsById = new RecipeBucket[MIN_CAPACITY][];
+    private int nextId;
+
+    /**
+     * @param order the order of the compiled lookup, recipes it considers equal are not added twice
+     */
+    public RecipeIndex(Comparator<Recipe> order) {
+        this.order = order;
+        this.recipeIds = new Object2IntOpenCustomHashMap<>(new Hash.Strategy<Recipe>() {
+            @Override
+            public int hashCode(Recipe recipe) {
+                return recipe == null ? 0 : recipe.hashCode();
+            }
+
+            @Override
+            public boolean equals(Recipe a, Recipe b) {
+                return a == b || a != null && b != null && order.compare(a, b) == 0;
+            }
+        });
+        this.recipeIds.defaultReturnValue(-1);
+    }
+
+    /**
+     * @return false if an equal recipe was already added
+     */
+    public boolean add(Recipe recipe) {
+        if (recipeIds.containsKey(recipe)) return false;
+        if (nextId == recipes.length) {
+            compact();
+        }
+        int id = nextId++;
+        recipes[id] = recipe;
+        recipeIds.put(recipe, id);
+
+        List<RecipeBucket> buckets = new ArrayList<>();
+        for (CountableIngredient countableIngredient : recipe.getInputs()) {
+            for (ItemStack itemStack : countableIngredient.getIngredient().getMatchingStacks()) {
+                ItemStackKey stackKey = KeySharedStack.getRegisteredStack(itemStack);
+                RecipeBucket bucket = itemBuckets.get(stackKey);
+                if (bucket == null) {
+                    bucket = new RecipeBucket(this);
+                    itemBuckets.put(stackKey, bucket);
+                }
+                if (bucket.add(id)) {
+                    buckets.add(bucket);
+                }
+            }
+        }
+        for (FluidStack fluid : recipe.getFluidInputs()) {
+            if (fluid.tag != null && fluid.tag.hasKey("nonConsumable")) {
+                fluid = fluid.copy();
+                fluid.tag.removeTag("nonConsumable");
+                if (fluid.tag.isEmpty()) {
+                    fluid.tag = null;
+                }
+            }
+            FluidKey fluidKey = new FluidKey(fluid);
+            RecipeBucket bucket = fluidBuckets.get(fluidKey);
+            if (bucket == null) {
+                bucket = new RecipeBucket(this);
+                fluidBuckets.put(fluidKey, bucket);
+            }
+            if (bucket.add(id)) {
+                buckets.add(bucket);
+            }
+        }
+        bucketsById[id] = buckets.toArray(new RecipeBucket[0]);
+        return true;
+    }
+
+    /**
+     * @return false if no equal recipe was added
+     */
+    public boolean remove(Recipe recipe) {
+        int id = recipeIds.removeInt(recipe);
+        if (id == -1) return false;
+        for (RecipeBucket bucket : bucketsById[id]) {
+            bucket.remove(id);
+        }
+        recipes[id] = null;
+        bucketsById[id] = null;
+        return true;
+    }
+
+    /**
+     * Renumbers the recipes to close the gaps left by removed ones, then makes room for more
+     */
+    private void compact() {
+        int size = recipeIds.size();
+        if (size < nextId) {
+            int[] newIds = new int[nextId];
+            int newId = 0;
+            for (int id = 0; id < nextId; id++) {
+                if (recipes[id] == null) continue;
+                newIds[id] = newId;
+                recipes[newId] = recipes[id];
+                bucketsById[newId] = bucketsById[id];
+                recipeIds.put(recipes[newId], newId);
+                newId++;
+            }
+            Arrays.fill(recipes, newId, nextId, null);
+            Arrays.fill(bucketsById, newId, nextId, null);
+            this.nextId = newId;
+            remapBuckets(itemBuckets, newIds);
+            remapBuckets(fluidBuckets, newIds);
+        }
+        if (nextId * 2 > recipes.length) {
+            int capacity = Math.max(MIN_CAPACITY, recipes.length * 2);
+            this.recipes = Arrays.copyOf(recipes, capacity);
+            this.bucketsById = Arrays.copyOf(bucketsById, capacity);
+        }
+    }
+
+    private static void remapBuckets(Map<?, RecipeBucket> buckets, int[] newIds) {
+        buckets.values().removeIf(RecipeBucket::isEmpty);
+        for (RecipeBucket bucket : buckets.values()) {
+            bucket.remap(newIds);
+        }
+    }
+
+    public boolean isEmpty() {
+        return recipeIds.isEmpty();
+    }
+
+    public int size() {
+        return recipeIds.size();
+    }
+
+    /**
+     * @return a read only view of the recipes using the fluid
+     */
+    public Collection<Recipe> getRecipesForFluid(FluidKey fluidKey) {
+        RecipeBucket bucket = fluidBuckets.get(fluidKey);
+        if (bucket == null) {
+            return Collections.emptySet();
+        }
+        return bucket;
+    }
+
+    /**
+     * @return a new array of all recipes, sorted by the order of the index
+     */
+    public Recipe[] getRecipes() {
+        Recipe[] result = new Recipe[recipeIds.size()];
+        int size = 0;
+        for (int id = 0; id < nextId; id++) {
+            if (recipes[id] != null) {
+                result[size++] = recipes[id];
+            }
+        }
+        Arrays.sort(result, order);
+        return result;
+    }
+
+    Recipe getRecipe(int id) {
+        return recipes[id];
+    }
+
+    int getId(Recipe recipe) {
+        return recipeIds.getInt(recipe);
+    }
+
+    int getIdLimit() {
+        return nextId;
+    }
+
+    Map<ItemStackKey, RecipeBucket> getItemBuckets() {
+        return itemBuckets;
+    }
+
+    Map<FluidKey, RecipeBucket> getFluidBuckets() {
+        return fluidBuckets;
+    }
+}
@@ -0,0 +1,263 @@
+package gregtech.api.recipes.lookup;
+
+import gregtech.api.recipes.FluidKey;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.util.GTUtility;
+import gregtech.api.util.ItemStackKey;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled, immutable recipe lookup structure for a single {@link gregtech.api.recipes.RecipeMap}.
+ * <p>
+ * Ingredients are arranged in a trie of item -> damage -> {@link RecipeBranch} (NBT) and fluid name -> {@link RecipeBranch} (NBT),
+ * with every branch holding the indices of the recipes using that ingredient.
+ * Lookups reuse per-thread scratch arrays, so finding a recipe does not allocate.
+ * <p>
+ * Candidates are ranked like the old hash set based search did: recipes sharing more distinct ingredients
+ * with the inputs come first, ties are resolved by the order in which they got their last promotion.
+ * Recipes are numbered in the order of the {@link RecipeIndex} they were compiled from, and every branch
+ * lists its recipes in that order, so ties between equally promoted recipes no longer depend on hash codes.
+ */
+public final class RecipeLookup {
+
+    private static final ThreadLocal<LookupContext> CONTEXT = ThreadLocal.withInitial(LookupContext::new);
+
+    private final Recipe[] recipes;
+    private final int[] recipeEUt;
+    private final Reference2ObjectOpenHashMap<Item, Int2ObjectOpenHashMap<RecipeBranch[]>> itemBranches = new Reference2ObjectOpenHashMap<>();
+    private final Object2ObjectOpenHashMap<String, RecipeBranch[]> fluidBranches = new Object2ObjectOpenHashMap<>();
+    private int branchCount;
+    private int totalEntries;
+
+    RecipeLookup(Recipe[] recipes) {
+        this.recipes = recipes;
+        this.recipeEUt = new int[this.recipes.length];
+        for (int i = 0; i < this.recipes.length; i++) {
+            this.recipeEUt[i] = this.recipes[i].getEUt();
+        }
+    }
+
+    /**
+     * Compiles the lookup from the ingredient buckets of a recipe map
+     *
+     * @param index all recipes of the map, with their ingredient buckets
+     */
+    public static RecipeLookup compile(RecipeIndex index) {
+        RecipeLookup lookup = new RecipeLookup(index.getRecipes());
+        // index IDs can have gaps left by removed recipes, lookup IDs are positions in the ordered array
+        int[] recipeIds = new int[index.getIdLimit()];
+        for (int i = 0; i < lookup.recipes.length; i++) {
+            recipeIds[index.getId(lookup.recipes[i])] = i;
+        }
+
+        for (Map.Entry<ItemStackKey, RecipeBucket> entry : index.getItemBuckets().entrySet()) {
+            int[] bucket = toRecipeIds(entry.getValue(), recipeIds);
+            if (bucket.length == 0) continue;
+            lookup.addItemBranch(entry.getKey(), bucket);
+        }
+
+        for (Map.Entry<FluidKey, RecipeBucket> entry : index.getFluidBuckets().entrySet()) {
+            int[] bucket = toRecipeIds(entry.getValue(), recipeIds);
+            if (bucket.length == 0) continue;
+            lookup.addFluidBranch(entry.getKey(), bucket);
+        }
+
+        return lookup;
+    }
+
+    private static int[] toRecipeIds(RecipeBucket bucket, int[] recipeIds) {
+        int[] ids = new int[bucket.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = recipeIds[bucket.getId(i)];
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    /**
+     * @param recipes positions of the recipes using the item, in ascending order
+     */
+    void addItemBranch(ItemStackKey itemKey, int[] recipes) {
+        ItemStack itemStack = itemKey.getItemStackRaw();
+        RecipeBranch branch = new RecipeBranch(branchCount++, itemKey, null, recipes);
+        Int2ObjectOpenHashMap<RecipeBranch[]> damageBranches = itemBranches.computeIfAbsent(itemStack.getItem(), k -> new Int2ObjectOpenHashMap<>());
+        int damage = GTUtility.getActualItemDamageFromStack(itemStack);
+        damageBranches.put(damage, append(damageBranches.get(damage), branch));
+        this.totalEntries += recipes.length;
+    }
+
+    /**
+     * @param recipes positions of the recipes using the fluid, in ascending order
+     */
+    void addFluidBranch(FluidKey fluidKey, int[] recipes) {
+        RecipeBranch branch = new RecipeBranch(branchCount++, null, fluidKey.tag, recipes);
+        fluidBranches.put(fluidKey.fluid, append(fluidBranches.get(fluidKey.fluid), branch));
+        this.totalEntries += recipes.length;
+    }
+
+    private static RecipeBranch[] append(@Nullable RecipeBranch[] branches, RecipeBranch branch) {
+        if (branches == null) {
+            return new RecipeBranch[]{branch};
+        }
+        RecipeBranch[] result = Arrays.copyOf(branches, branches.length + 1);
+        result[branches.length] = branch;
+        return result;
+    }
+
+    public int getRecipeCount() {
+        return recipes.length;
+    }
+
+    Recipe getRecipe(int position) {
+        return recipes[position];
+    }
+
+    Collection<Int2ObjectOpenHashMap<RecipeBranch[]>> getItemBranches() {
+        return itemBranches.values();
+    }
+
+    Map<String, RecipeBranch[]> getFluidBranches() {
+        return fluidBranches;
+    }
+
+    /**
+     * Finds the first recipe matching given inputs
+     *
+     * @param voltage      Voltage of the Machine or Long.MAX_VALUE if it has no Voltage
+     * @param inputs       the Item Inputs
+     * @param fluidInputs  the Fluid Inputs
+     * @param exactVoltage should require exact voltage matching on recipe
+     * @return the Recipe it has found or null for no matching Recipe
+     */
+    @Nullable
+    public Recipe find(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs, boolean exactVoltage) {
+        LookupContext context = CONTEXT.get();
+        context.ensureCapacity(recipes.length, branchCount, totalEntries);
+        int stamp = context.nextStamp();
+
+        for (int i = 0; i < inputs.size(); i++) {
+            ItemStack stack = inputs.get(i);
+            if (stack.isEmpty()) continue;
+            Int2ObjectOpenHashMap<RecipeBranch[]> damageBranches = itemBranches.get(stack.getItem());
+            if (damageBranches == null) continue;
+            RecipeBranch[] branches = damageBranches.get(GTUtility.getActualItemDamageFromStack(stack));
+            if (branches == null) continue;
+            for (RecipeBranch branch : branches) {
+                if (branch.matches(stack)) {
+                    promoteBranch(context, stamp, branch, voltage, exactVoltage);
+                    break;
+                }
+            }
+        }
+
+        for (int i = 0; i < fluidInputs.size(); i++) {
+            FluidStack fluidStack = fluidInputs.get(i);
+            if (fluidStack == null) continue;
+            RecipeBranch[] branches = fluidBranches.get(fluidStack.getFluid().getName());
+            if (branches == null) continue;
+            for (RecipeBranch branch : branches) {
+                if (branch.matches(fluidStack)) {
+                    promoteBranch(context, stamp, branch, voltage, exactVoltage);
+                    break;
+                }
+            }
+        }
+
+        // most promoted first, then by the moment of the last promotion
+        long[] order = context.order;
+        int candidateCount = context.candidateCount;
+        for (int i = 0; i < candidateCount; i++) {
+            int recipeId = context.candidates[i];
+            order[i] = ((long) (Integer.MAX_VALUE - context.promotions[recipeId]) << 32) | context.lastPromotion[recipeId];
+        }
+        Arrays.sort(order, 0, candidateCount);
+
+        for (int i = 0; i < candidateCount; i++) {
+            Recipe recipe = recipes[context.promotionOwners[(int) order[i]]];
+            if (recipe.matches(false, inputs, fluidInputs)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    private void promoteBranch(LookupContext context, int stamp, RecipeBranch branch, long voltage, boolean exactVoltage) {
+        // the same ingredient is only accounted once per search
+        if (context.branchStamps[branch.id] == stamp) return;
+        context.branchStamps[branch.id] = stamp;
+
+        for (int recipeId : branch.recipes) {
+            if (exactVoltage ? voltage != recipeEUt[recipeId] : voltage < recipeEUt[recipeId]) continue;
+            if (context.recipeStamps[recipeId] != stamp) {
+                context.recipeStamps[recipeId] = stamp;
+                context.promotions[recipeId] = 0;
+                context.candidates[context.candidateCount++] = recipeId;
+            }
+            context.promotions[recipeId]++;
+            context.lastPromotion[recipeId] = context.promotionCount;
+            context.promotionOwners[context.promotionCount++] = recipeId;
+        }
+    }
+
+    /**
+     * Per-thread scratch buffers, reused across all lookups performed by the thread
+     */
+    private static final class LookupContext {
+
+        private int stamp;
+        private int[] branchStamps = new int[0];
+        private int[] recipeStamps = new int[0];
+        private int[] promotions = new int[0];
+        private int[] lastPromotion = new int[0];
+        private int[] candidates = new int[0];
+        private int[] promotionOwners = new int[0];
+        private long[] order = new long[0];
+        private int candidateCount;
+        private int promotionCount;
+
+        private void ensureCapacity(int recipeCount, int branchCount, int entryCount) {
+            if (recipeStamps.length < recipeCount) {
+                recipeStamps = new int[recipeCount];
+                promotions = new int[recipeCount];
+                lastPromotion = new int[recipeCount];
+                candidates = new int[recipeCount];
+                order = new long[recipeCount];
+                resetStamps();
+            }
+            if (branchStamps.length < branchCount) {
+                branchStamps = new int[branchCount];
+                resetStamps();
+            }
+            if (promotionOwners.length < entryCount) {
+                promotionOwners = new int[entryCount];
+            }
+        }
+
+        private int nextStamp() {
+            if (++stamp == 0) {
+                resetStamps();
+                stamp = 1;
+            }
+            candidateCount = 0;
+            promotionCount = 0;
+            return stamp;
+        }
+
+        private void resetStamps() {
+            Arrays.fill(branchStamps, 0);
+            Arrays.fill(recipeStamps, 0);
+            stamp = 0;
+        }
+    }
+}
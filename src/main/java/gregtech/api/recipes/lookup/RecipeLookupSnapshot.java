@@ -0,0 +1,419 @@
+package gregtech.api.recipes.lookup;
+
+import gregtech.api.GTValues;
+import gregtech.api.recipes.CountableIngredient;
+import gregtech.api.recipes.FluidKey;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.ingredients.IntCircuitIngredient;
+import gregtech.api.recipes.recipeproperties.RecipeProperty;
+import gregtech.api.util.GTLog;
+import gregtech.api.util.GTUtility;
+import gregtech.api.util.ItemStackKey;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.ModContainer;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the compiled {@link RecipeLookup}s of recipe maps on disk, so they are not compiled again on the next start.
+ * <p>
+ * Recipes themselves are still registered on every start, as their loaders also register crafting recipes,
+ * ore dictionary entries and material infos. The snapshot only stores the order of the recipes of a lookup and
+ * the recipes of every ingredient, which are restored onto the registered recipes by a stable fingerprint of each recipe.
+ * It is keyed by a fingerprint of the mod list, the config and the scripts, and only used if that did not change.
+ * Only maps whose recipes have plain item and fluid inputs are kept, as other ingredients may resolve differently.
+ * A map falls back to compiling its lookup if anything in the snapshot does not match its recipes.
+ */
+public final class RecipeLookupSnapshot {
+
+    private static final int MAGIC = 0x4754524C;
+    private static final int VERSION = 1;
+
+    // undecoded data of the maps of a matching snapshot, removed once a map tried to restore its lookup
+    private static final Map<String, ByteBuffer> snapshotData = new ConcurrentHashMap<>();
+    @Nullable
+    private static byte[] environmentFingerprint;
+    private static boolean outdated;
+
+    private RecipeLookupSnapshot() {
+    }
+
+    /**
+     * Reads the snapshot of the last start, if the mod list, config and scripts are still the same
+     */
+    public static void load() {
+        try {
+            environmentFingerprint = computeEnvironmentFingerprint();
+            outdated = !read(getSnapshotFile(), environmentFingerprint);
+            if (outdated) {
+                GTLog.logger.info("Recipe lookup snapshot is missing or outdated, it is written once the server started");
+            } else {
+                GTLog.logger.info("Recipe lookup snapshot matches, it holds the lookups of {} recipe maps", snapshotData.size());
+            }
+        } catch (IOException exception) {
+            GTLog.logger.error("Failed to read the recipe lookup snapshot", exception);
+        }
+    }
+
+    /**
+     * Writes the lookups of all recipe maps with plain inputs, if the snapshot read on start did not match
+     */
+    public static void saveIfOutdated() {
+        if (!outdated || environmentFingerprint == null) return;
+        outdated = false;
+        Map<String, RecipeLookup> lookups = new Object2ObjectLinkedOpenHashMap<>();
+        for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+            if (!recipeMap.getRecipeList().isEmpty() && recipeMap.getRecipeList().stream().allMatch(RecipeLookupSnapshot::hasPlainInputs)) {
+                lookups.put(recipeMap.getUnlocalizedName(), recipeMap.getLookup());
+            }
+        }
+        try {
+            write(getSnapshotFile(), environmentFingerprint, lookups);
+            GTLog.logger.info("Wrote the lookups of {} recipe maps to the recipe lookup snapshot", lookups.size());
+        } catch (IOException exception) {
+            GTLog.logger.error("Failed to write the recipe lookup snapshot", exception);
+        }
+    }
+
+    /**
+     * @return the lookup of the map restored from the snapshot, or null if there is none or it does not match the recipes
+     */
+    @Nullable
+    public static RecipeLookup restore(String recipeMapName, RecipeIndex index) {
+        ByteBuffer data = snapshotData.remove(recipeMapName);
+        if (data == null) return null;
+        try {
+            RecipeLookup lookup = decode(data, index);
+            if (lookup == null) {
+                GTLog.logger.info("Recipes of map {} changed since the recipe lookup snapshot was written, compiling its lookup", recipeMapName);
+            }
+            return lookup;
+        } catch (RuntimeException exception) {
+            GTLog.logger.error("Failed to restore the lookup of recipe map {} from the recipe lookup snapshot", recipeMapName, exception);
+            return null;
+        }
+    }
+
+    private static File getSnapshotFile() {
+        // not inside the config directory, as that is part of the fingerprint
+        return new File(Loader.instance().getConfigDir().getParentFile(), GTValues.MODID + "/recipe_lookups.bin");
+    }
+
+    private static byte[] computeEnvironmentFingerprint() throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IOException(exception);
+        }
+        for (ModContainer mod : Loader.instance().getActiveModList()) {
+            digest.update((mod.getModId() + '@' + mod.getVersion() + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+        File configDir = Loader.instance().getConfigDir();
+        digestFiles(digest, configDir.toPath());
+        digestFiles(digest, new File(configDir.getParentFile(), "scripts").toPath());
+        return digest.digest();
+    }
+
+    private static void digestFiles(MessageDigest digest, Path root) throws IOException {
+        if (!Files.isDirectory(root)) return;
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(root)) {
+            files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            digest.update(root.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(Files.readAllBytes(file));
+        }
+    }
+
+    /**
+     * Checks the header of the snapshot with a stream, and only maps the file if it matches,
+     * so a mismatching file can still be replaced on systems which lock mapped files
+     *
+     * @return true if the snapshot was written with the given fingerprint
+     */
+    static boolean read(File file, byte[] fingerprint) throws IOException {
+        snapshotData.clear();
+        if (!file.isFile()) return false;
+        int headerLength;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) return false;
+            byte[] fileFingerprint = new byte[input.readInt()];
+            input.readFully(fileFingerprint);
+            if (!Arrays.equals(fileFingerprint, fingerprint)) return false;
+            headerLength = 12 + fileFingerprint.length;
+        } catch (EOFException exception) {
+            return false;
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            buffer.position(headerLength);
+            int mapCount = buffer.getInt();
+            for (int i = 0; i < mapCount; i++) {
+                String recipeMapName = readString(buffer);
+                int length = buffer.getInt();
+                ByteBuffer data = buffer.slice();
+                data.limit(length);
+                buffer.position(buffer.position() + length);
+                snapshotData.put(recipeMapName, data);
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            // the file was cut off
+            snapshotData.clear();
+            return false;
+        }
+        return true;
+    }
+
+    static void write(File file, byte[] fingerprint, Map<String, RecipeLookup> lookups) throws IOException {
+        File directory = file.getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create directory " + directory);
+        }
+        File tempFile = new File(file.getPath() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(fingerprint.length);
+            output.write(fingerprint);
+            output.writeInt(lookups.size());
+            for (Map.Entry<String, RecipeLookup> entry : lookups.entrySet()) {
+                ByteArrayOutputStream data = new ByteArrayOutputStream();
+                encode(new DataOutputStream(data), entry.getValue());
+                writeString(output, entry.getKey());
+                output.writeInt(data.size());
+                data.writeTo(output);
+            }
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void encode(DataOutputStream output, RecipeLookup lookup) throws IOException {
+        output.writeInt(lookup.getRecipeCount());
+        for (int i = 0; i < lookup.getRecipeCount(); i++) {
+            output.writeLong(fingerprint(lookup.getRecipe(i)));
+        }
+
+        int itemBranchCount = 0;
+        for (Int2ObjectOpenHashMap<RecipeBranch[]> damageBranches : lookup.getItemBranches()) {
+            for (RecipeBranch[] branches : damageBranches.values()) {
+                itemBranchCount += branches.length;
+            }
+        }
+        output.writeInt(itemBranchCount);
+        for (Int2ObjectOpenHashMap<RecipeBranch[]> damageBranches : lookup.getItemBranches()) {
+            for (RecipeBranch[] branches : damageBranches.values()) {
+                for (RecipeBranch branch : branches) {
+                    //noinspection ConstantConditions
+                    output.writeLong(fingerprint(branch.getItemKey()));
+                    writeRecipes(output, branch.recipes);
+                }
+            }
+        }
+
+        int fluidBranchCount = 0;
+        for (RecipeBranch[] branches : lookup.getFluidBranches().values()) {
+            fluidBranchCount += branches.length;
+        }
+        output.writeInt(fluidBranchCount);
+        for (Map.Entry<String, RecipeBranch[]> entry : lookup.getFluidBranches().entrySet()) {
+            for (RecipeBranch branch : entry.getValue()) {
+                output.writeLong(fingerprint(entry.getKey(), branch.getFluidTag()));
+                writeRecipes(output, branch.recipes);
+            }
+        }
+    }
+
+    private static void writeRecipes(DataOutputStream output, int[] recipes) throws IOException {
+        output.writeInt(recipes.length);
+        for (int recipe : recipes) {
+            output.writeInt(recipe);
+        }
+    }
+
+    /**
+     * @return the lookup of the recipes of the index in the order of the snapshot, or null if they differ from the snapshot
+     */
+    @Nullable
+    private static RecipeLookup decode(ByteBuffer data, RecipeIndex index) {
+        int recipeCount = data.getInt();
+        if (recipeCount != index.size()) return null;
+        Long2ObjectOpenHashMap<Recipe> recipesByFingerprint = new Long2ObjectOpenHashMap<>(recipeCount);
+        for (int id = 0; id < index.getIdLimit(); id++) {
+            Recipe recipe = index.getRecipe(id);
+            if (recipe == null) continue;
+            // recipes which can not be told apart can not be restored
+            if (!hasPlainInputs(recipe) || recipesByFingerprint.put(fingerprint(recipe), recipe) != null) return null;
+        }
+        Recipe[] recipes = new Recipe[recipeCount];
+        for (int i = 0; i < recipeCount; i++) {
+            recipes[i] = recipesByFingerprint.remove(data.getLong());
+            if (recipes[i] == null) return null;
+        }
+
+        RecipeLookup lookup = new RecipeLookup(recipes);
+        Long2ObjectOpenHashMap<int[]> itemBranches = readBranches(data, recipeCount);
+        if (itemBranches == null) return null;
+        for (Map.Entry<ItemStackKey, RecipeBucket> entry : index.getItemBuckets().entrySet()) {
+            if (entry.getValue().isEmpty()) continue;
+            int[] branch = itemBranches.remove(fingerprint(entry.getKey()));
+            if (branch == null || branch.length != entry.getValue().size()) return null;
+            lookup.addItemBranch(entry.getKey(), branch);
+        }
+        Long2ObjectOpenHashMap<int[]> fluidBranches = readBranches(data, recipeCount);
+        if (fluidBranches == null) return null;
+        for (Map.Entry<FluidKey, RecipeBucket> entry : index.getFluidBuckets().entrySet()) {
+            if (entry.getValue().isEmpty()) continue;
+            int[] branch = fluidBranches.remove(fingerprint(entry.getKey().fluid, entry.getKey().tag));
+            if (branch == null || branch.length != entry.getValue().size()) return null;
+            lookup.addFluidBranch(entry.getKey(), branch);
+        }
+        // every branch of the snapshot must have been claimed by an ingredient of the index
+        return itemBranches.isEmpty() && fluidBranches.isEmpty() ? lookup : null;
+    }
+
+    @Nullable
+    private static Long2ObjectOpenHashMap<int[]> readBranches(ByteBuffer data, int recipeCount) {
+        int branchCount = data.getInt();
+        Long2ObjectOpenHashMap<int[]> branches = new Long2ObjectOpenHashMap<>(branchCount);
+        for (int i = 0; i < branchCount; i++) {
+            long fingerprint = data.getLong();
+            int[] recipes = new int[data.getInt()];
+            data.asIntBuffer().get(recipes);
+            data.position(data.position() + recipes.length * 4);
+            for (int recipe : recipes) {
+                if (recipe < 0 || recipe >= recipeCount) return null;
+            }
+            if (branches.put(fingerprint, recipes) != null) return null;
+        }
+        return branches;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * @return true if all item inputs of the recipe are fixed item stacks, which match the same items on every start
+     */
+    static boolean hasPlainInputs(Recipe recipe) {
+        for (CountableIngredient input : recipe.getInputs()) {
+            Class<?> ingredientClass = input.getIngredient().getClass();
+            if (ingredientClass != Ingredient.class && ingredientClass != IntCircuitIngredient.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Unlike {@link Recipe#hashCode()}, which hashes items by identity, this stays the same between starts
+     */
+    static long fingerprint(Recipe recipe) {
+        long hash = mix(recipe.getDuration(), recipe.getEUt());
+        hash = mix(hash, recipe.isHidden() ? 1 : 0);
+        for (CountableIngredient input : recipe.getInputs()) {
+            hash = mix(hash, input.getCount());
+            for (ItemStack itemStack : input.getIngredient().getMatchingStacks()) {
+                hash = mix(hash, fingerprint(itemStack));
+            }
+        }
+        for (FluidStack fluidStack : recipe.getFluidInputs()) {
+            hash = mix(hash, fingerprint(fluidStack));
+        }
+        for (ItemStack itemStack : recipe.getOutputs()) {
+            hash = mix(hash, fingerprint(itemStack));
+        }
+        for (Recipe.ChanceEntry chanceEntry : recipe.getChancedOutputs()) {
+            hash = mix(hash, fingerprint(chanceEntry.getItemStackRaw()));
+            hash = mix(hash, chanceEntry.getChance());
+            hash = mix(hash, chanceEntry.getBoostPerTier());
+        }
+        for (FluidStack fluidStack : recipe.getFluidOutputs()) {
+            hash = mix(hash, fingerprint(fluidStack));
+        }
+        // properties are kept in a hash map, so they are combined regardless of their order
+        long properties = 0;
+        for (Map.Entry<RecipeProperty<?>, Object> property : recipe.getPropertyValues()) {
+            properties += mix(hashString(property.getKey().getKey()), hashString(String.valueOf(property.getValue())));
+        }
+        return mix(hash, properties);
+    }
+
+    private static long fingerprint(ItemStack itemStack) {
+        if (itemStack.isEmpty()) return 0;
+        //noinspection ConstantConditions
+        long hash = mix(hashString(itemStack.getItem().getRegistryName().toString()), itemStack.getItemDamage());
+        hash = mix(hash, itemStack.getCount());
+        return mix(hash, itemStack.getTagCompound() == null ? 0 : itemStack.getTagCompound().hashCode());
+    }
+
+    private static long fingerprint(FluidStack fluidStack) {
+        return mix(fingerprint(fluidStack.getFluid().getName(), fluidStack.tag), fluidStack.amount);
+    }
+
+    /**
+     * Mirrors the fields compared by {@link ItemStackKey#equals(Object)}
+     */
+    private static long fingerprint(ItemStackKey itemKey) {
+        ItemStack itemStack = itemKey.getItemStackRaw();
+        //noinspection ConstantConditions
+        long hash = mix(hashString(itemStack.getItem().getRegistryName().toString()), GTUtility.getActualItemDamageFromStack(itemStack));
+        return mix(hash, itemStack.getTagCompound() == null ? 0 : itemStack.getTagCompound().hashCode());
+    }
+
+    private static long fingerprint(String fluidName, @Nullable NBTTagCompound tag) {
+        return mix(hashString(fluidName), tag == null ? 0 : tag.hashCode());
+    }
+
+    private static long hashString(String string) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < string.length(); i++) {
+            hash = (hash ^ string.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        hash = (hash ^ value) * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 29);
+    }
+}
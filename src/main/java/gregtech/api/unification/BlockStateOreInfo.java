@@ -0,0 +1,107 @@
+package gregtech.api.unification;
+
+import gregtech.api.unification.ore.OrePrefix;
+import gregtech.api.unification.stack.UnificationEntry;
+import gregtech.api.util.GTUtility;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.item.ItemStack;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Set;
+
+/**
+ * Ore dictionary information of a block state, as found by {@link OreDictUnifier} for {@link GTUtility#toItem(IBlockState)}.
+ * <p>
+ * Looked up by the state ID, so classifying many blocks does not create an item stack and query the ore dictionary for each of them.
+ * The cache is cleared whenever a new ore dictionary entry is registered.
+ */
+public final class BlockStateOreInfo {
+
+    // Block#getStateId is the block ID in the lower 12 bits and the metadata in the 4 above
+    private static final int STATE_ID_COUNT = 1 << 16;
+
+    private static final BlockStateOreInfo NONE = new BlockStateOreInfo(null, null);
+
+    // allocated on first use, so invalidating during ore registration costs nothing
+    @Nullable
+    private static volatile BlockStateOreInfo[] infoByStateId;
+
+    @Nullable
+    private final UnificationEntry unificationEntry;
+    @Nullable
+    private final String oreDictName;
+
+    private BlockStateOreInfo(@Nullable UnificationEntry unificationEntry, @Nullable String oreDictName) {
+        this.unificationEntry = unificationEntry;
+        this.oreDictName = oreDictName;
+    }
+
+    /**
+     * Thread safe, the info of each state is computed once until the cache is invalidated
+     */
+    @Nonnull
+    public static BlockStateOreInfo get(@Nonnull IBlockState state) {
+        int stateId = Block.getStateId(state);
+        if (stateId < 0 || stateId >= STATE_ID_COUNT) {
+            return compute(state);
+        }
+        BlockStateOreInfo[] infos = infoByStateId;
+        if (infos == null) {
+            // a concurrently allocated cache may win, which only drops the infos computed into this one
+            infos = new BlockStateOreInfo[STATE_ID_COUNT];
+            infoByStateId = infos;
+        }
+        BlockStateOreInfo info = infos[stateId];
+        if (info == null) {
+            // concurrent computations of the same state produce equal infos, so losing a race is harmless
+            info = compute(state);
+            infos[stateId] = info;
+        }
+        return info;
+    }
+
+    @Nonnull
+    private static BlockStateOreInfo compute(IBlockState state) {
+        ItemStack itemStack = GTUtility.toItem(state);
+        if (itemStack.isEmpty()) return NONE;
+        UnificationEntry unificationEntry = OreDictUnifier.getUnificationEntry(itemStack);
+        Set<String> oreDictNames = OreDictUnifier.getOreDictionaryNames(itemStack);
+        String oreDictName = oreDictNames.isEmpty() ? null : oreDictNames.iterator().next();
+        if (unificationEntry == null && oreDictName == null) return NONE;
+        return new BlockStateOreInfo(unificationEntry, oreDictName);
+    }
+
+    /**
+     * Drops all cached infos, called by {@link OreDictUnifier} when the ore dictionary changes
+     */
+    static void invalidate() {
+        infoByStateId = null;
+    }
+
+    /**
+     * @return if the state is an ore, like {@link GTUtility#isOre(ItemStack)}
+     */
+    public boolean isOre() {
+        return unificationEntry != null && unificationEntry.orePrefix.name().startsWith("ore");
+    }
+
+    @Nullable
+    public OrePrefix getOrePrefix() {
+        return unificationEntry == null ? null : unificationEntry.orePrefix;
+    }
+
+    @Nullable
+    public UnificationEntry getUnificationEntry() {
+        return unificationEntry;
+    }
+
+    /**
+     * @return the first ore dictionary name of the state, or null if it has none
+     */
+    @Nullable
+    public String getOreDictName() {
+        return oreDictName;
+    }
+}
@@ -9,6 +9,7 @@ import gregtech.api.unification.material.properties.PropertyKey;
 import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.unification.stack.*;
 import gregtech.api.util.CustomModPriorityComparator;
+import gregtech.api.util.DeferredRegistrations;
 import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -73,6 +74,7 @@ public class OreDictUnifier {
 
     public static void registerOre(ItemStack itemStack, ItemMaterialInfo materialInfo) {
         if (itemStack.isEmpty()) return;
+        if (DeferredRegistrations.defer(() -> registerOre(itemStack, materialInfo))) return;
         materialUnificationInfo.put(new ItemAndMetadata(itemStack), materialInfo);
     }
 
@@ -82,11 +84,13 @@ public class OreDictUnifier {
 
     public static void registerOre(ItemStack itemStack, String customOrePrefix, @Nullable Material material) {
         if (itemStack.isEmpty()) return;
+        if (DeferredRegistrations.defer(() -> registerOre(itemStack, customOrePrefix, material))) return;
         OreDictionary.registerOre(customOrePrefix + (material == null ? "" : material.toCamelCaseString()), itemStack);
     }
 
     public static void registerOre(ItemStack itemStack, String oreDict) {
         if (itemStack.isEmpty()) return;
+        if (DeferredRegistrations.defer(() -> registerOre(itemStack, oreDict))) return;
         OreDictionary.registerOre(oreDict, itemStack);
     }
 
@@ -104,6 +108,7 @@ public class OreDictUnifier {
     public static void onItemRegistration(OreRegisterEvent event) {
         ItemAndMetadata simpleItemStack = new ItemAndMetadata(event.getOre());
         String oreName = event.getName();
+        BlockStateOreInfo.invalidate();
         //cache this registration by name
         stackOreDictName.computeIfAbsent(simpleItemStack, k -> new HashSet<>()).add(oreName);
         List<ItemStack> itemStackListForOreDictName = oreDictNameStacks.computeIfAbsent(oreName, k -> new ArrayList<>());
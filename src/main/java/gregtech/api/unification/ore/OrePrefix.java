@@ -2,6 +2,7 @@ package gregtech.api.unification.ore;
 
 import com.google.common.base.Preconditions;
 import crafttweaker.annotations.ZenRegister;
+import gregtech.api.GTValues;
 import gregtech.api.unification.material.MarkerMaterials;
 import gregtech.api.unification.material.Material;
 import gregtech.api.unification.material.Materials;
@@ -9,19 +10,27 @@ import gregtech.api.unification.material.info.MaterialIconType;
 import gregtech.api.unification.material.properties.IMaterialProperty;
 import gregtech.api.unification.material.properties.PropertyKey;
 import gregtech.api.unification.stack.MaterialStack;
+import gregtech.api.util.DeferredRegistrations;
+import gregtech.api.util.GTLog;
 import gregtech.api.util.LocalizationUtils;
 import gregtech.api.util.function.TriConsumer;
 import gregtech.common.ConfigHolder;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.client.resources.I18n;
+import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.ModContainer;
 import org.apache.commons.lang3.Validate;
 import stanhebben.zenscript.annotations.ZenClass;
 import stanhebben.zenscript.annotations.ZenMethod;
 
 import javax.annotation.Nullable;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static gregtech.api.GTValues.M;
 import static gregtech.api.unification.material.info.MaterialFlags.*;
@@ -427,6 +436,8 @@ public class OrePrefix {
     Material materialType;
 
     private final List<IOreRegistrationHandler> oreProcessingHandlers = new ArrayList<>();
+    // handlers registered by other mods, which always run on the main thread
+    private final Set<IOreRegistrationHandler> externalProcessingHandlers = new ReferenceOpenHashSet<>();
     private final Set<Material> ignoredMaterials = new HashSet<>();
     private final Set<Material> generatedMaterials = new HashSet<>();
     private boolean isMarkerPrefix = false;
@@ -519,6 +530,10 @@ public class OrePrefix {
     public boolean addProcessingHandler(IOreRegistrationHandler... processingHandler) {
         Preconditions.checkNotNull(processingHandler);
         Validate.noNullElements(processingHandler);
+        ModContainer registrant = Loader.instance().activeModContainer();
+        if (registrant == null || !GTValues.MODID.equals(registrant.getModId())) {
+            externalProcessingHandlers.addAll(Arrays.asList(processingHandler));
+        }
         return oreProcessingHandlers.addAll(Arrays.asList(processingHandler));
     }
 
@@ -538,9 +553,35 @@ public class OrePrefix {
     }
 
     public static void runMaterialHandlers() {
-        for (OrePrefix orePrefix : PREFIXES.values()) {
-            orePrefix.runGeneratedMaterialHandlers();
+        long startTime = System.nanoTime();
+        ForkJoinPool pool = ConfigHolder.misc.parallelMaterialHandlers ? createMaterialHandlerPool() : null;
+        try {
+            for (OrePrefix orePrefix : PREFIXES.values()) {
+                if (orePrefix.generatedMaterials.isEmpty()) continue;
+                long prefixStartTime = System.nanoTime();
+                int materialCount = orePrefix.generatedMaterials.size();
+                if (pool == null) {
+                    orePrefix.runGeneratedMaterialHandlers();
+                } else {
+                    orePrefix.runGeneratedMaterialHandlers(pool);
+                }
+                GTLog.logger.info("Material handlers of prefix {} took {} ms for {} materials",
+                        orePrefix, (System.nanoTime() - prefixStartTime) / 1_000_000, materialCount);
+            }
+        } finally {
+            if (pool != null) pool.shutdown();
         }
+        GTLog.logger.info("Material handlers took {} ms", (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    private static ForkJoinPool createMaterialHandlerPool() {
+        // registries of other mods may look up classes through the context class loader
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
     }
 
     private static final ThreadLocal<OrePrefix> currentProcessingPrefix = new ThreadLocal<>();
@@ -568,6 +609,45 @@ public class OrePrefix {
         currentProcessingPrefix.set(null);
     }
 
+    /**
+     * Runs the handlers of all materials at once, then registers their recipes in the order the sequential pass would
+     */
+    private void runGeneratedMaterialHandlers(ForkJoinPool pool) {
+        List<Material> materials = new ArrayList<>(generatedMaterials);
+        List<List<Runnable>> registrations = pool.submit(() -> materials.parallelStream()
+                .map(material -> DeferredRegistrations.collect(() -> runHandlers(material)))
+                .collect(Collectors.toList())).join();
+
+        currentProcessingPrefix.set(this);
+        for (int i = 0; i < materials.size(); i++) {
+            //keep the current material set, so invalid recipes are still reported with it
+            currentMaterial.set(materials.get(i));
+            registrations.get(i).forEach(Runnable::run);
+            currentMaterial.set(null);
+        }
+        generatedMaterials.clear();
+        currentProcessingPrefix.set(null);
+    }
+
+    private void runHandlers(Material material) {
+        currentProcessingPrefix.set(this);
+        currentMaterial.set(material);
+        try {
+            for (IOreRegistrationHandler registrationHandler : oreProcessingHandlers) {
+                if (externalProcessingHandlers.contains(registrationHandler)) {
+                    // handlers of other mods may create ingredients or change registries themselves,
+                    // so they run on the main thread once the registrations of this material are applied
+                    DeferredRegistrations.defer(() -> registrationHandler.processMaterial(this, material));
+                } else {
+                    registrationHandler.processMaterial(this, material);
+                }
+            }
+        } finally {
+            currentMaterial.set(null);
+            currentProcessingPrefix.set(null);
+        }
+    }
+
     public void setAlternativeOreName(String name) {
         this.alternativeOreName = name;
     }
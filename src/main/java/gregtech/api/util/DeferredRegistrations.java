@@ -0,0 +1,64 @@
+package gregtech.api.util;
+
+import net.minecraft.item.crafting.Ingredient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Lets recipe and ore dictionary registrations run on several threads at once.
+ * <p>
+ * While a thread runs a task through {@link #collect(Runnable)}, registration methods queue themselves instead of
+ * changing shared registries. The caller then applies the queued registrations on the main thread, in a fixed order.
+ * Ingredients are still created right away, but one at a time through {@link #createIngredient(Supplier)}.
+ */
+public final class DeferredRegistrations {
+
+    private static final ThreadLocal<List<Runnable>> collectedRegistrations = new ThreadLocal<>();
+    private static final Object INGREDIENT_LOCK = new Object();
+
+    private DeferredRegistrations() {
+    }
+
+    /**
+     * To be called first by registration methods, which return right away if this returns true
+     *
+     * @param registration the call to repeat later, when registrations are applied
+     * @return true if the registration was queued, false if the caller should register right away
+     */
+    public static boolean defer(Runnable registration) {
+        List<Runnable> registrations = collectedRegistrations.get();
+        if (registrations == null) return false;
+        registrations.add(registration);
+        return true;
+    }
+
+    /**
+     * Creates an ingredient while no other thread does, as every new {@link Ingredient} adds itself
+     * to an unsynchronized set shared by all of them
+     */
+    public static <T extends Ingredient> T createIngredient(Supplier<T> factory) {
+        synchronized (INGREDIENT_LOCK) {
+            return factory.get();
+        }
+    }
+
+    /**
+     * Runs the task on the current thread, queueing all its registrations
+     *
+     * @return the registrations of the task, in the order they were made
+     */
+    public static List<Runnable> collect(Runnable task) {
+        List<Runnable> registrations = new ArrayList<>();
+        // a waiting fork join thread can run other tasks, so collections can be nested
+        List<Runnable> previous = collectedRegistrations.get();
+        collectedRegistrations.set(registrations);
+        try {
+            task.run();
+        } finally {
+            collectedRegistrations.set(previous);
+        }
+        return registrations;
+    }
+}
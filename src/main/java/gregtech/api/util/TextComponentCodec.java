@@ -0,0 +1,170 @@
+package gregtech.api.util;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.util.text.event.ClickEvent;
+import net.minecraft.util.text.event.HoverEvent;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compact binary encoding of text components, used instead of their JSON form for text synced every tick.
+ * <p>
+ * Styles are written as the differences to the style of the parent component, so the decoded components
+ * look the same, even though inherited and explicit style values may be swapped.
+ * Components other than plain text and translations fall back to JSON.
+ */
+public final class TextComponentCodec {
+
+    private static final Style ROOT_STYLE = new Style();
+
+    private static final int TEXT = 0;
+    private static final int TRANSLATION = 1;
+    private static final int JSON = 2;
+
+    private static final int BOLD = 1;
+    private static final int ITALIC = 1 << 1;
+    private static final int UNDERLINED = 1 << 2;
+    private static final int STRIKETHROUGH = 1 << 3;
+    private static final int OBFUSCATED = 1 << 4;
+    private static final int COLOR = 1 << 5;
+    private static final int CLICK_EVENT = 1 << 6;
+    private static final int HOVER_EVENT = 1 << 7;
+    private static final int INSERTION = 1 << 8;
+
+    private TextComponentCodec() {
+    }
+
+    public static void writeComponent(PacketBuffer buf, ITextComponent component) {
+        writeComponent(buf, component, ROOT_STYLE);
+    }
+
+    public static ITextComponent readComponent(PacketBuffer buf) {
+        return readComponent(buf, null);
+    }
+
+    private static void writeComponent(PacketBuffer buf, ITextComponent component, Style parent) {
+        Style style = component.getStyle();
+        if (component instanceof TextComponentString) {
+            buf.writeByte(TEXT);
+            writeStyle(buf, style, parent);
+            buf.writeString(((TextComponentString) component).getText());
+        } else if (component instanceof TextComponentTranslation) {
+            TextComponentTranslation translation = (TextComponentTranslation) component;
+            buf.writeByte(TRANSLATION);
+            writeStyle(buf, style, parent);
+            buf.writeString(translation.getKey());
+            Object[] args = translation.getFormatArgs();
+            buf.writeVarInt(args.length);
+            for (Object arg : args) {
+                if (arg instanceof ITextComponent) {
+                    buf.writeBoolean(true);
+                    writeComponent(buf, (ITextComponent) arg, style);
+                } else {
+                    buf.writeBoolean(false);
+                    buf.writeString(String.valueOf(arg));
+                }
+            }
+        } else {
+            // the JSON form already contains the siblings
+            buf.writeByte(JSON);
+            buf.writeString(ITextComponent.Serializer.componentToJson(component));
+            return;
+        }
+        List<ITextComponent> siblings = component.getSiblings();
+        buf.writeVarInt(siblings.size());
+        for (ITextComponent sibling : siblings) {
+            writeComponent(buf, sibling, style);
+        }
+    }
+
+    private static ITextComponent readComponent(PacketBuffer buf, @Nullable Style parent) {
+        int type = buf.readByte();
+        if (type == JSON) {
+            return ITextComponent.Serializer.jsonToComponent(buf.readString(32767));
+        }
+        Style style = readStyle(buf, parent);
+        ITextComponent component;
+        if (type == TEXT) {
+            component = new TextComponentString(buf.readString(32767));
+        } else {
+            String key = buf.readString(32767);
+            Object[] args = new Object[buf.readVarInt()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = buf.readBoolean() ? readComponent(buf, style) : buf.readString(32767);
+            }
+            component = new TextComponentTranslation(key, args);
+        }
+        component.setStyle(style);
+        int siblingCount = buf.readVarInt();
+        for (int i = 0; i < siblingCount; i++) {
+            component.appendSibling(readComponent(buf, style));
+        }
+        return component;
+    }
+
+    private static void writeStyle(PacketBuffer buf, Style style, Style parent) {
+        int changes = 0;
+        if (style.getBold() != parent.getBold()) changes |= BOLD;
+        if (style.getItalic() != parent.getItalic()) changes |= ITALIC;
+        if (style.getUnderlined() != parent.getUnderlined()) changes |= UNDERLINED;
+        if (style.getStrikethrough() != parent.getStrikethrough()) changes |= STRIKETHROUGH;
+        if (style.getObfuscated() != parent.getObfuscated()) changes |= OBFUSCATED;
+        if (style.getColor() != parent.getColor()) changes |= COLOR;
+        if (!Objects.equals(style.getClickEvent(), parent.getClickEvent())) changes |= CLICK_EVENT;
+        if (!Objects.equals(style.getHoverEvent(), parent.getHoverEvent())) changes |= HOVER_EVENT;
+        if (!Objects.equals(style.getInsertion(), parent.getInsertion())) changes |= INSERTION;
+        buf.writeVarInt(changes);
+        // values inherited from a parent are never reset to null by a child, so changed values are never null
+        if ((changes & COLOR) != 0) {
+            buf.writeEnumValue(style.getColor());
+        }
+        if ((changes & CLICK_EVENT) != 0) {
+            ClickEvent clickEvent = style.getClickEvent();
+            buf.writeEnumValue(clickEvent.getAction());
+            buf.writeString(clickEvent.getValue());
+        }
+        if ((changes & HOVER_EVENT) != 0) {
+            HoverEvent hoverEvent = style.getHoverEvent();
+            buf.writeEnumValue(hoverEvent.getAction());
+            writeComponent(buf, hoverEvent.getValue());
+        }
+        if ((changes & INSERTION) != 0) {
+            buf.writeString(style.getInsertion());
+        }
+    }
+
+    private static Style readStyle(PacketBuffer buf, @Nullable Style parent) {
+        Style style = new Style();
+        if (parent != null) {
+            style.setParentStyle(parent);
+        }
+        int changes = buf.readVarInt();
+        if ((changes & BOLD) != 0) style.setBold(!style.getBold());
+        if ((changes & ITALIC) != 0) style.setItalic(!style.getItalic());
+        if ((changes & UNDERLINED) != 0) style.setUnderlined(!style.getUnderlined());
+        if ((changes & STRIKETHROUGH) != 0) style.setStrikethrough(!style.getStrikethrough());
+        if ((changes & OBFUSCATED) != 0) style.setObfuscated(!style.getObfuscated());
+        if ((changes & COLOR) != 0) {
+            style.setColor(buf.readEnumValue(TextFormatting.class));
+        }
+        if ((changes & CLICK_EVENT) != 0) {
+            ClickEvent.Action action = buf.readEnumValue(ClickEvent.Action.class);
+            style.setClickEvent(new ClickEvent(action, buf.readString(32767)));
+        }
+        if ((changes & HOVER_EVENT) != 0) {
+            HoverEvent.Action action = buf.readEnumValue(HoverEvent.Action.class);
+            style.setHoverEvent(new HoverEvent(action, readComponent(buf)));
+        }
+        if ((changes & INSERTION) != 0) {
+            style.setInsertion(buf.readString(32767));
+        }
+        return style;
+    }
+}
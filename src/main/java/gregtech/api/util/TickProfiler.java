@@ -0,0 +1,196 @@
+package gregtech.api.util;
+
+import gregtech.api.GTValues;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Measures how long meta tile entities, pipes and covers take to tick on the server, started by {@code /gt profile}.
+ * <p>
+ * Only one server tick out of every sample interval is measured. Callers surround their update with
+ * {@link #startSample(World)} and one of the {@code endSample} methods, which only read a flag while the profiler is not running.
+ * Statistics are kept per class and per tile entity position, and are only accessed from the server thread.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public final class TickProfiler {
+
+    /**
+     * Returned by {@link #startSample(World)} when the current tick is not measured
+     */
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private static final Reference2ObjectOpenHashMap<Class<?>, TickStatistics> statisticsByClass = new Reference2ObjectOpenHashMap<>();
+    private static final Int2ObjectOpenHashMap<Long2ObjectOpenHashMap<TickStatistics>> statisticsByPosition = new Int2ObjectOpenHashMap<>();
+
+    private static boolean enabled;
+    private static boolean sampling;
+    private static int sampleInterval = 1;
+    private static long serverTicks;
+    private static long sampledTicks;
+
+    private TickProfiler() {
+    }
+
+    /**
+     * Drops all previous statistics and starts measuring
+     *
+     * @param sampleInterval measure one server tick out of this many
+     */
+    public static void start(int sampleInterval) {
+        statisticsByClass.clear();
+        statisticsByPosition.clear();
+        TickProfiler.sampleInterval = sampleInterval;
+        serverTicks = 0;
+        sampledTicks = 0;
+        enabled = true;
+    }
+
+    /**
+     * Stops measuring, statistics are kept until the next {@link #start(int)}
+     */
+    public static void stop() {
+        enabled = false;
+        sampling = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    public static long getSampledTicks() {
+        return sampledTicks;
+    }
+
+    /**
+     * @return the current time, or {@link #NOT_SAMPLED} if this update should not be measured
+     */
+    public static long startSample(World world) {
+        if (!sampling || world.isRemote) return NOT_SAMPLED;
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time since the start of the sample for the class of the ticked tile entity and for its position
+     */
+    public static void endSample(long startTime, Object ticked, World world, BlockPos pos) {
+        if (startTime == NOT_SAMPLED) return;
+        long nanos = System.nanoTime() - startTime;
+        getClassStatistics(ticked.getClass()).record(nanos);
+        int dimension = world.provider.getDimension();
+        Long2ObjectOpenHashMap<TickStatistics> positions = statisticsByPosition.get(dimension);
+        if (positions == null) {
+            positions = new Long2ObjectOpenHashMap<>();
+            statisticsByPosition.put(dimension, positions);
+        }
+        long key = pos.toLong();
+        TickStatistics statistics = positions.get(key);
+        if (statistics == null) {
+            statistics = new TickStatistics(ticked.getClass(), dimension, pos.toImmutable());
+            positions.put(key, statistics);
+        }
+        statistics.record(nanos);
+    }
+
+    /**
+     * Records the time since the start of the sample for the class of the ticked object only, used for covers
+     */
+    public static void endSample(long startTime, Object ticked) {
+        if (startTime == NOT_SAMPLED) return;
+        getClassStatistics(ticked.getClass()).record(System.nanoTime() - startTime);
+    }
+
+    private static TickStatistics getClassStatistics(Class<?> type) {
+        TickStatistics statistics = statisticsByClass.get(type);
+        if (statistics == null) {
+            statistics = new TickStatistics(type, 0, null);
+            statisticsByClass.put(type, statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * @return up to the given amount of classes, sorted by their total tick time
+     */
+    public static List<TickStatistics> getTopClasses(int count) {
+        return getTop(new ArrayList<>(statisticsByClass.values()), count);
+    }
+
+    /**
+     * @return up to the given amount of positions, sorted by their total tick time
+     */
+    public static List<TickStatistics> getTopPositions(int count) {
+        List<TickStatistics> statistics = new ArrayList<>();
+        for (Long2ObjectOpenHashMap<TickStatistics> positions : statisticsByPosition.values()) {
+            statistics.addAll(positions.values());
+        }
+        return getTop(statistics, count);
+    }
+
+    private static List<TickStatistics> getTop(List<TickStatistics> statistics, int count) {
+        statistics.sort(Comparator.comparingLong(TickStatistics::getTotalNanos).reversed());
+        return statistics.size() > count ? statistics.subList(0, count) : statistics;
+    }
+
+    /**
+     * Writes all class and position statistics, one per line
+     */
+    public static void writeCsv(PrintWriter writer) {
+        StringBuilder header = new StringBuilder("kind,type,dimension,x,y,z,samples,total_ns,average_ns,p99_ns,max_ns");
+        for (int i = 0; i < TickStatistics.BUCKET_COUNT; i++) {
+            header.append(",under_").append(1L << i).append("us");
+        }
+        writer.println(header);
+        for (TickStatistics statistics : getTopClasses(Integer.MAX_VALUE)) {
+            writeCsvLine(writer, "class", statistics);
+        }
+        for (TickStatistics statistics : getTopPositions(Integer.MAX_VALUE)) {
+            writeCsvLine(writer, "position", statistics);
+        }
+    }
+
+    private static void writeCsvLine(PrintWriter writer, String kind, TickStatistics statistics) {
+        StringBuilder line = new StringBuilder(kind).append(',').append(statistics.getType().getName());
+        BlockPos pos = statistics.getPos();
+        if (pos == null) {
+            line.append(",,,,");
+        } else {
+            line.append(',').append(statistics.getDimension())
+                    .append(',').append(pos.getX())
+                    .append(',').append(pos.getY())
+                    .append(',').append(pos.getZ());
+        }
+        line.append(',').append(statistics.getSamples())
+                .append(',').append(statistics.getTotalNanos())
+                .append(',').append(statistics.getAverageNanos())
+                .append(',').append(statistics.getPercentileNanos(0.99))
+                .append(',').append(statistics.getMaxNanos());
+        for (int i = 0; i < TickStatistics.BUCKET_COUNT; i++) {
+            line.append(',').append(statistics.getBucket(i));
+        }
+        writer.println(line);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.START || !enabled) return;
+        sampling = serverTicks++ % sampleInterval == 0;
+        if (sampling) {
+            sampledTicks++;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package gregtech.api.util;
+
+import net.minecraft.util.math.BlockPos;
+
+import javax.annotation.Nullable;
+
+/**
+ * Tick times sampled by {@link TickProfiler} for one class or one position.
+ * <p>
+ * Times are counted in a histogram of power of two buckets, so recording a sample never allocates.
+ */
+public final class TickStatistics {
+
+    /**
+     * Bucket {@code i} counts ticks shorter than {@code 2^i} microseconds, the last one counts all longer ticks
+     */
+    public static final int BUCKET_COUNT = 20;
+
+    private final Class<?> type;
+    private final int dimension;
+    @Nullable
+    private final BlockPos pos;
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long samples;
+    private long totalNanos;
+    private long maxNanos;
+
+    TickStatistics(Class<?> type, int dimension, @Nullable BlockPos pos) {
+        this.type = type;
+        this.dimension = dimension;
+        this.pos = pos;
+    }
+
+    void record(long nanos) {
+        int bucket = 64 - Long.numberOfLeadingZeros(nanos / 1000);
+        buckets[Math.min(bucket, BUCKET_COUNT - 1)]++;
+        this.samples++;
+        this.totalNanos += nanos;
+        if (nanos > maxNanos) {
+            this.maxNanos = nanos;
+        }
+    }
+
+    /**
+     * @return the class of the ticked object, for position statistics the class which ticked there first
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * @return the position of the ticked tile entity, or null for class statistics
+     */
+    @Nullable
+    public BlockPos getPos() {
+        return pos;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getAverageNanos() {
+        return samples == 0 ? 0 : totalNanos / samples;
+    }
+
+    /**
+     * @return the upper bound of the bucket containing the given percentile, in nanoseconds
+     */
+    public long getPercentileNanos(double percentile) {
+        long threshold = (long) Math.ceil(samples * percentile);
+        long counted = 0;
+        for (int i = 0; i < BUCKET_COUNT - 1; i++) {
+            counted += buckets[i];
+            if (counted >= threshold) {
+                return (1L << i) * 1000;
+            }
+        }
+        return maxNanos;
+    }
+
+    public long getBucket(int index) {
+        return buckets[index];
+    }
+}
@@ -2,6 +2,8 @@ package gregtech.api.worldgen.generator;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import gnu.trove.iterator.TLongIterator;
 import gnu.trove.list.TLongList;
 import gnu.trove.list.array.TLongArrayList;
@@ -30,18 +32,18 @@ import org.apache.commons.lang3.tuple.MutablePair;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IBlockModifierAccess {
 
     private static final Map<World, Cache<Long, CachedGridEntry>> gridEntryCache = new WeakHashMap<>();
+    private static ExecutorService veinGenerationExecutor;
 
     public static CachedGridEntry getOrCreateEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
-        Cache<Long, CachedGridEntry> currentValue = gridEntryCache.get(world);
-        if (currentValue == null) {
-            currentValue = createGridCache();
-            gridEntryCache.put(world, currentValue);
-        }
+        Cache<Long, CachedGridEntry> currentValue = getGridCache(world);
         Long gridEntryKey = (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
         CachedGridEntry gridEntry = currentValue.getIfPresent(gridEntryKey);
         if (gridEntry == null) {
@@ -51,11 +53,50 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         return gridEntry;
     }
 
-    private static Cache<Long, CachedGridEntry> createGridCache() {
-        return CacheBuilder.newBuilder()
-                .maximumSize(300)
-                .expireAfterAccess(5L, TimeUnit.MINUTES)
-                .build();
+    /**
+     * Creates the entry of the given section ahead of time, if its master height is known from a chunk generated in it.
+     * Otherwise the master height depends on the chunk first needing the section, so it is left to that chunk.
+     */
+    public static void prefetchEntry(World world, int gridX, int gridZ) {
+        Cache<Long, CachedGridEntry> currentValue = getGridCache(world);
+        Long gridEntryKey = (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
+        if (currentValue.getIfPresent(gridEntryKey) == null) {
+            GTWorldGenCapability masterEntry = searchMasterOrNull(world, gridX, gridZ);
+            if (masterEntry != null) {
+                currentValue.put(gridEntryKey, new CachedGridEntry(world, gridX, gridZ, masterEntry));
+            }
+        }
+    }
+
+    /**
+     * Drops the entries of all worlds and stops the vein generation threads, they are started again when needed
+     */
+    public static void clearCaches() {
+        gridEntryCache.clear();
+        if (veinGenerationExecutor != null) {
+            veinGenerationExecutor.shutdownNow();
+            veinGenerationExecutor = null;
+        }
+    }
+
+    private static Cache<Long, CachedGridEntry> getGridCache(World world) {
+        Cache<Long, CachedGridEntry> currentValue = gridEntryCache.get(world);
+        if (currentValue == null) {
+            currentValue = CacheBuilder.newBuilder()
+                    .maximumSize(ConfigHolder.worldgen.veinSectionCacheSize)
+                    .expireAfterAccess(ConfigHolder.worldgen.veinSectionCacheExpiry, TimeUnit.MINUTES)
+                    .build();
+            gridEntryCache.put(world, currentValue);
+        }
+        return currentValue;
+    }
+
+    private static ExecutorService getVeinGenerationExecutor() {
+        if (veinGenerationExecutor == null) {
+            veinGenerationExecutor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+                    new ThreadFactoryBuilder().setNameFormat("GregTech Vein Generator #%d").setDaemon(true).build());
+        }
+        return veinGenerationExecutor;
     }
 
     private final TLongObjectMap<ChunkDataEntry> dataByChunkPos = new TLongObjectHashMap<>();
@@ -74,11 +115,17 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
     private GTWorldGenCapability masterEntry;
     private final int worldSeaLevel;
     private Map<OreDepositDefinition, BlockPos> veinGeneratedMap;
+    // running computation of the veins, null once they are known
+    private Future<?> veinGeneration;
 
     private int veinCenterX, veinCenterY, veinCenterZ;
     private OreDepositDefinition currentOreVein;
 
     public CachedGridEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
+        this(world, gridX, gridZ, findMaster(world, gridX, gridZ, primerChunkX, primerChunkZ));
+    }
+
+    private CachedGridEntry(World world, int gridX, int gridZ, GTWorldGenCapability masterEntry) {
         this.gridX = gridX;
         this.gridZ = gridZ;
         long worldSeed = world.getSeed();
@@ -91,24 +138,37 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         this.cachedDepositMap = new ArrayList<>(WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, currentBiome));
 
         this.worldSeaLevel = world.getSeaLevel();
-        this.masterEntry = searchMasterOrNull(world);
+        this.masterEntry = masterEntry;
+
+        if (ConfigHolder.worldgen.asyncVeinGeneration) {
+            // the master is the capability of a chunk, which is changed on the main thread while the veins are computed
+            GTWorldGenCapability masterCopy = new GTWorldGenCapability();
+            masterCopy.setFrom(masterEntry);
+            this.masterEntry = masterCopy;
+            this.veinGeneration = getVeinGenerationExecutor().submit(this::triggerVeinsGeneration);
+        } else {
+            triggerVeinsGeneration();
+        }
+    }
+
+    private static GTWorldGenCapability findMaster(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
+        GTWorldGenCapability masterEntry = searchMasterOrNull(world, gridX, gridZ);
         if (masterEntry == null) {
             Chunk primerChunk = world.getChunk(primerChunkX, primerChunkZ);
             BlockPos heightSpot = findOptimalSpot(gridX, gridZ, primerChunkX, primerChunkZ);
             heightSpot = heightSpot.add(primerChunkX * 16, 0, primerChunkZ * 16);
             int masterHeight = world.getHeight(heightSpot).getY();
             int masterBottomHeight = world.getTopSolidOrLiquidBlock(heightSpot).getY();
-            this.masterEntry = primerChunk.getCapability(GTWorldGenCapability.CAPABILITY, null);
-            if(this.masterEntry == null) {
-                this.masterEntry = new GTWorldGenCapability();
+            masterEntry = primerChunk.getCapability(GTWorldGenCapability.CAPABILITY, null);
+            if(masterEntry == null) {
+                masterEntry = new GTWorldGenCapability();
             }
-            this.masterEntry.setMaxHeight(masterHeight, masterBottomHeight);
+            masterEntry.setMaxHeight(masterHeight, masterBottomHeight);
         }
-
-        triggerVeinsGeneration();
+        return masterEntry;
     }
 
-    private BlockPos findOptimalSpot(int gridX, int gridZ, int chunkX, int chunkZ) {
+    private static BlockPos findOptimalSpot(int gridX, int gridZ, int chunkX, int chunkZ) {
         int gridCenterX = (gridX * WorldGeneratorImpl.GRID_SIZE_X + WorldGeneratorImpl.GRID_SIZE_X / 2) * 16 + 7;
         int gridCenterZ = (gridZ * WorldGeneratorImpl.GRID_SIZE_Z + WorldGeneratorImpl.GRID_SIZE_Z / 2) * 16 + 7;
         int chunkBaseX = chunkX * 16;
@@ -127,7 +187,7 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         return mostClosePos;
     }
 
-    private GTWorldGenCapability searchMasterOrNull(World world) {
+    private static GTWorldGenCapability searchMasterOrNull(World world, int gridX, int gridZ) {
         int gridSizeX = WorldGeneratorImpl.GRID_SIZE_X;
         int gridSizeZ = WorldGeneratorImpl.GRID_SIZE_Z;
         int startChunkX = gridX * gridSizeX;
@@ -170,6 +230,10 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
     }
 
     public boolean populateChunk(World world, int chunkX, int chunkZ, Random random) {
+        if (veinGeneration != null) {
+            Futures.getUnchecked(veinGeneration);
+            this.veinGeneration = null;
+        }
         long chunkId = (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
         ChunkDataEntry chunkDataEntry = dataByChunkPos.get(chunkId);
         GTWorldGenCapability capability = retrieveCapability(world, chunkX, chunkZ);
@@ -201,7 +265,7 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         return Collections.emptyList();
     }
 
-    private GTWorldGenCapability retrieveCapability(World world, int chunkX, int chunkZ) {
+    private static GTWorldGenCapability retrieveCapability(World world, int chunkX, int chunkZ) {
         return world.getChunk(chunkX, chunkZ).getCapability(GTWorldGenCapability.CAPABILITY, null);
     }
 
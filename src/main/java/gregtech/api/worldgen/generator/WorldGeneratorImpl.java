@@ -56,6 +56,19 @@ public class WorldGeneratorImpl implements IWorldGenerator {
     private void generateInternal(World world, int selfGridX, int selfGridZ, int chunkX, int chunkZ, Random random) {
         int halfSizeX = (GRID_SIZE_X - 1) / 2;
         int halfSizeZ = (GRID_SIZE_Z - 1) / 2;
+        if (ConfigHolder.worldgen.asyncVeinGeneration) {
+            // start computing the veins of all sections around, including the next ring which is not needed yet
+            for (int gridX = -halfSizeX - 1; gridX <= halfSizeX + 1; gridX++) {
+                for (int gridZ = -halfSizeZ - 1; gridZ <= halfSizeZ + 1; gridZ++) {
+                    if (Math.abs(gridX) > halfSizeX || Math.abs(gridZ) > halfSizeZ) {
+                        // this chunk does not prime sections of the outer ring, so they match a synchronous build
+                        CachedGridEntry.prefetchEntry(world, selfGridX + gridX, selfGridZ + gridZ);
+                    } else {
+                        CachedGridEntry.getOrCreateEntry(world, selfGridX + gridX, selfGridZ + gridZ, chunkX, chunkZ);
+                    }
+                }
+            }
+        }
         for (int gridX = -halfSizeX; gridX <= halfSizeX; gridX++) {
             for (int gridZ = -halfSizeZ; gridZ <= halfSizeZ; gridZ++) {
                 CachedGridEntry cachedGridEntry = CachedGridEntry.getOrCreateEntry(world, selfGridX + gridX, selfGridZ + gridZ, chunkX, chunkZ);
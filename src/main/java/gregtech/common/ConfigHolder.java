@@ -95,6 +95,24 @@ public class ConfigHolder {
                 "Add the unlocalized Recipe Map name to blacklist the machine.",
                 "Default: All machines allowed"})
         public String[] processingArrayBlacklist = new String[0];
+
+        @Config.Comment({"Whether Energy Nets should collect all energy inserted during a tick and distribute it at the end of the tick.",
+                "Reduces the cost of nets with many generators, but consumers receive their energy one tick later.",
+                "Default: false"})
+        public boolean batchedEnergyNets = false;
+
+        @Config.Comment({"Whether Fluid Pipe Nets should move fluids straight from the pipes they were inserted into to their destinations.",
+                "Long pipelines then cost about as much as short ones. Fluids which would damage any pipe of the net still flow pipe by pipe.",
+                "Default: false"})
+        public boolean networkedFluidPipes = false;
+
+        @Config.Comment({"Whether Machine and Pipe updates should be sent to clients in one GregTech packet per chunk and tick,",
+                "instead of one vanilla tile entity packet for each updated block.", "Default: false"})
+        public boolean batchedTileEntityUpdates = false;
+
+        @Config.Comment({"Whether idle Machines should stop ticking until their inventories, neighbours or covers change.",
+                "Default: false"})
+        public boolean sleepingIdleMachines = false;
     }
 
     public static class WorldGenOptions {
@@ -108,6 +126,19 @@ public class ConfigHolder {
         @Config.Comment({"Whether veins should be generated in the center of chunks.", "Default: true"})
         public boolean generateVeinsInCenterOfChunk = true;
 
+        @Config.Comment({"Whether the ore veins of a section should be computed on background threads, starting with the sections next to newly populated chunks.",
+                "Chunks then only place the already computed blocks. Veins of sections first touched this way can differ from the ones generated without it.",
+                "Default: false"})
+        public boolean asyncVeinGeneration = false;
+
+        @Config.Comment({"The number of ore vein sections kept in memory for each dimension.", "Default: 300"})
+        @Config.RangeInt(min = 25)
+        public int veinSectionCacheSize = 300;
+
+        @Config.Comment({"The number of minutes an unused ore vein section is kept in memory.", "Default: 5"})
+        @Config.RangeInt(min = 1)
+        public int veinSectionCacheExpiry = 5;
+
         @Config.Comment({"Whether to disable Vanilla ore generation in world.", "Default: true"})
         public boolean disableVanillaOres = true;
 
@@ -238,6 +269,16 @@ public class ConfigHolder {
         @Config.Comment({"Setting this to true makes GTCEu ignore error and invalid recipes that would otherwise cause crash.", "Default: true"})
         public boolean ignoreErrorOrInvalidRecipes = true;
 
+        @Config.Comment({"Whether the recipes of generated Material items should be created on several threads at startup.",
+                "The recipes are still registered in the same order. Material handlers of addons still run on the main thread.",
+                "Default: false"})
+        public boolean parallelMaterialHandlers = false;
+
+        @Config.Comment({"Whether the compiled recipe lookups should be kept on disk, so they are not compiled again on the next start.",
+                "The snapshot is only used while the mod list, config and scripts stay the same, and only for recipe maps with plain item and fluid inputs.",
+                "Default: false"})
+        public boolean recipeLookupSnapshot = false;
+
         @Config.Comment({"Whether to enable a login message to players when they join the world.", "Default: true"})
         public boolean loginMessage = true;
 
@@ -0,0 +1,135 @@
+package gregtech.common.command;
+
+import gregtech.api.pipenet.PipeNetConnectivity;
+import gregtech.api.util.GTLog;
+import gregtech.api.util.GTUtility;
+import gregtech.api.util.TickProfiler;
+import gregtech.api.util.TickStatistics;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+public class CommandProfile extends CommandBase {
+
+    private static final String CSV_FILE_NAME = "gregtech_tick_profile.csv";
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return "profile";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 3;
+    }
+
+    @Nonnull
+    @Override
+    public String getUsage(@Nonnull ICommandSender sender) {
+        return "gregtech.command.profile.usage";
+    }
+
+    @Override
+    public void execute(@Nonnull MinecraftServer server, @Nonnull ICommandSender sender, @Nonnull String[] args) throws CommandException {
+        if (args.length == 0) {
+            throw new WrongUsageException(getUsage(sender));
+        }
+        switch (args[0]) {
+            case "start": {
+                int sampleInterval = args.length > 1 ? parseInt(args[1], 1, 1200) : 1;
+                TickProfiler.start(sampleInterval);
+                sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.started", sampleInterval));
+                break;
+            }
+            case "stop":
+                TickProfiler.stop();
+                sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.stopped", TickProfiler.getSampledTicks()));
+                break;
+            case "report": {
+                int count = args.length > 1 ? parseInt(args[1], 1, 100) : 10;
+                sendReport(sender, count);
+                break;
+            }
+            case "csv":
+                writeCsv(server, sender);
+                break;
+            default:
+                throw new WrongUsageException(getUsage(sender));
+        }
+    }
+
+    private static void sendReport(ICommandSender sender, int count) {
+        long sampledTicks = TickProfiler.getSampledTicks();
+        if (sampledTicks == 0) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.no_samples"));
+        } else {
+            sendTickReport(sender, count, sampledTicks);
+        }
+        // pipe net splits and merges are counted all the time, not only while profiling
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.report.pipe_nets",
+                PipeNetConnectivity.getSplitCount(), GTUtility.formatNumbers(PipeNetConnectivity.getSplitNanos() / 1_000_000.0),
+                PipeNetConnectivity.getMergeCount(), GTUtility.formatNumbers(PipeNetConnectivity.getMergeNanos() / 1_000_000.0)));
+    }
+
+    private static void sendTickReport(ICommandSender sender, int count, long sampledTicks) {
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.report.classes", sampledTicks)
+                .setStyle(new Style().setColor(TextFormatting.GOLD)));
+        for (TickStatistics statistics : TickProfiler.getTopClasses(count)) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.report.class",
+                    statistics.getType().getSimpleName(), formatTimes(statistics, sampledTicks)));
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.report.positions")
+                .setStyle(new Style().setColor(TextFormatting.GOLD)));
+        for (TickStatistics statistics : TickProfiler.getTopPositions(count)) {
+            BlockPos pos = statistics.getPos();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.report.position",
+                    statistics.getType().getSimpleName(), pos.getX(), pos.getY(), pos.getZ(), statistics.getDimension(),
+                    formatTimes(statistics, sampledTicks)));
+        }
+    }
+
+    private static TextComponentTranslation formatTimes(TickStatistics statistics, long sampledTicks) {
+        return new TextComponentTranslation("gregtech.command.profile.report.times",
+                new TextComponentString(GTUtility.formatNumbers(statistics.getTotalNanos() / sampledTicks / 1000.0)).setStyle(new Style().setColor(TextFormatting.YELLOW)),
+                GTUtility.formatNumbers(statistics.getAverageNanos() / 1000.0),
+                GTUtility.formatNumbers(statistics.getPercentileNanos(0.99) / 1000.0),
+                new TextComponentString(GTUtility.formatNumbers(statistics.getMaxNanos() / 1000.0)).setStyle(new Style().setColor(TextFormatting.RED)));
+    }
+
+    private static void writeCsv(MinecraftServer server, ICommandSender sender) throws CommandException {
+        File file = server.getFile(CSV_FILE_NAME);
+        try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            TickProfiler.writeCsv(writer);
+        } catch (IOException exception) {
+            GTLog.logger.error("Failed to write tick profile to {}", file, exception);
+            throw new CommandException("gregtech.command.profile.csv.failed");
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.csv.written", file.getAbsolutePath()));
+    }
+
+    @Nonnull
+    @Override
+    public List<String> getTabCompletions(@Nonnull MinecraftServer server, @Nonnull ICommandSender sender, @Nonnull String[] args, @Nullable BlockPos targetPos) {
+        if (args.length == 1) {
+            return getListOfStringsMatchingLastWord(args, "start", "stop", "report", "csv");
+        }
+        return Collections.emptyList();
+    }
+}
@@ -23,6 +23,7 @@ public class GregTechCommand extends CommandTreeBase {
         addSubcommand(new CommandHand());
         addSubcommand(new CommandRecipeCheck());
         addSubcommand(new CommandShaders());
+        addSubcommand(new CommandProfile());
     }
 
     @Nonnull
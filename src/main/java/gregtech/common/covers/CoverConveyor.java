@@ -54,6 +54,7 @@ public class CoverConveyor extends CoverBehavior implements CoverWithUI, ITickab
     protected final ItemFilterContainer itemFilterContainer;
     protected int itemsLeftToTransferLastSecond;
     private CoverableItemHandlerWrapper itemHandlerWrapper;
+    private final ItemSlotIndex targetSlotIndex = new ItemSlotIndex();
     protected boolean isWorkingAllowed = true;
 
     public CoverConveyor(ICoverable coverable, EnumFacing attachedSide, int tier, int itemsPerSecond) {
@@ -129,8 +130,7 @@ public class CoverConveyor extends CoverBehavior implements CoverWithUI, ITickab
     public void update() {
         long timer = coverHolder.getOffsetTimer();
         if (timer % 5 == 0 && isWorkingAllowed && itemsLeftToTransferLastSecond > 0) {
-            TileEntity tileEntity = coverHolder.getWorld().getTileEntity(coverHolder.getPos().offset(attachedSide));
-            IItemHandler itemHandler = tileEntity == null ? null : tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, attachedSide.getOpposite());
+            IItemHandler itemHandler = coverHolder.getNeighborCapability(attachedSide, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
             IItemHandler myItemHandler = coverHolder.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, attachedSide);
             if (itemHandler != null && myItemHandler != null) {
                 int totalTransferred = doTransferItems(itemHandler, myItemHandler, itemsLeftToTransferLastSecond);
@@ -222,13 +222,25 @@ public class CoverConveyor extends CoverBehavior implements CoverWithUI, ITickab
 
         //now, see how much we can insert into destination inventory
         //if we can't insert as much as itemInfo requires, and remainder is empty, abort, abort
-        ItemStack remainder = GTTransferUtils.insertItem(targetInventory, resultStack, true);
-        if (!remainder.isEmpty()) {
+        boolean indexed = ItemSlotIndex.canIndex(targetInventory);
+        if (indexed) {
+            if (targetSlotIndex.plan(targetInventory, resultStack) != totalExtractedCount) {
+                return false;
+            }
+        } else if (!GTTransferUtils.insertItem(targetInventory, resultStack, true).isEmpty()) {
             return false;
         }
 
         //otherwise, perform real insertion and then remove items from the source inventory
-        GTTransferUtils.insertItem(targetInventory, resultStack, false);
+        if (indexed) {
+            // the planned slots may have changed since planning, whatever they don't take goes wherever it fits
+            ItemStack remainder = targetSlotIndex.insertPlanned(resultStack);
+            if (!remainder.isEmpty()) {
+                GTTransferUtils.insertItem(targetInventory, remainder, false);
+            }
+        } else {
+            GTTransferUtils.insertItem(targetInventory, resultStack, false);
+        }
 
         //perform real extraction of the items from the source inventory now
         itemsLeftToExtract = itemInfo.totalCount;
@@ -262,29 +274,21 @@ public class CoverConveyor extends CoverBehavior implements CoverWithUI, ITickab
             GroupItemInfo itemInfo = itemInfos.get(matchSlotIndex);
 
             ItemStack extractedStack = sourceInventory.extractItem(i, Math.min(itemInfo.totalCount, itemsLeftToTransfer), true);
+            int movedAmount = moveSlotItems(sourceInventory, i, extractedStack, targetInventory);
 
-            ItemStack remainderStack = GTTransferUtils.insertItem(targetInventory, extractedStack, true);
-            int amountToInsert = extractedStack.getCount() - remainderStack.getCount();
-
-            if (amountToInsert > 0) {
-                extractedStack = sourceInventory.extractItem(i, amountToInsert, false);
+            if (movedAmount > 0) {
+                itemsLeftToTransfer -= movedAmount;
+                itemInfo.totalCount -= movedAmount;
 
-                if (!extractedStack.isEmpty()) {
-
-                    GTTransferUtils.insertItem(targetInventory, extractedStack, false);
-                    itemsLeftToTransfer -= extractedStack.getCount();
-                    itemInfo.totalCount -= extractedStack.getCount();
-
-                    if (itemInfo.totalCount == 0) {
-                        itemInfos.remove(matchSlotIndex);
-                        if (itemInfos.isEmpty()) {
-                            break;
-                        }
-                    }
-                    if (itemsLeftToTransfer == 0) {
+                if (itemInfo.totalCount == 0) {
+                    itemInfos.remove(matchSlotIndex);
+                    if (itemInfos.isEmpty()) {
                         break;
                     }
                 }
+                if (itemsLeftToTransfer == 0) {
+                    break;
+                }
             }
         }
         return maxTransferAmount - itemsLeftToTransfer;
@@ -300,24 +304,53 @@ public class CoverConveyor extends CoverBehavior implements CoverWithUI, ITickab
             if (!itemFilterContainer.testItemStack(sourceStack)) {
                 continue;
             }
-            ItemStack remainder = GTTransferUtils.insertItem(targetInventory, sourceStack, true);
-            int amountToInsert = sourceStack.getCount() - remainder.getCount();
+            int movedAmount = moveSlotItems(sourceInventory, srcIndex, sourceStack, targetInventory);
 
-            if (amountToInsert > 0) {
-                sourceStack = sourceInventory.extractItem(srcIndex, amountToInsert, false);
-                if (!sourceStack.isEmpty()) {
-                    GTTransferUtils.insertItem(targetInventory, sourceStack, false);
-                    itemsLeftToTransfer -= sourceStack.getCount();
+            if (movedAmount > 0) {
+                itemsLeftToTransfer -= movedAmount;
 
-                    if (itemsLeftToTransfer == 0) {
-                        break;
-                    }
+                if (itemsLeftToTransfer == 0) {
+                    break;
                 }
             }
         }
         return maxTransferAmount - itemsLeftToTransfer;
     }
 
+    /**
+     * Moves the items a simulated extraction from the source slot returned into the target inventory.
+     * Targets counting their changes are filled through the slot index, one real insertion per target slot.
+     *
+     * @return the amount of moved items
+     */
+    private int moveSlotItems(IItemHandler sourceInventory, int sourceSlot, ItemStack sourceStack, IItemHandler targetInventory) {
+        if (sourceStack.isEmpty()) {
+            return 0;
+        }
+        boolean indexed = ItemSlotIndex.canIndex(targetInventory);
+        int amountToInsert;
+        if (indexed) {
+            amountToInsert = targetSlotIndex.plan(targetInventory, sourceStack);
+        } else {
+            amountToInsert = sourceStack.getCount() - GTTransferUtils.insertItem(targetInventory, sourceStack, true).getCount();
+        }
+        if (amountToInsert <= 0) {
+            return 0;
+        }
+        ItemStack extractedStack = sourceInventory.extractItem(sourceSlot, amountToInsert, false);
+        if (extractedStack.isEmpty()) {
+            return 0;
+        }
+        if (indexed) {
+            ItemStack remainder = targetSlotIndex.insertPlanned(extractedStack);
+            //the target took less than simulated, fall back to inserting anywhere
+            GTTransferUtils.insertItem(targetInventory, remainder, false);
+        } else {
+            GTTransferUtils.insertItem(targetInventory, extractedStack, false);
+        }
+        return extractedStack.getCount();
+    }
+
     protected static class TypeItemInfo {
         public final ItemStack itemStack;
         public final Object filterSlot;
@@ -23,6 +23,8 @@ import gregtech.api.util.Position;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.utils.RenderUtil;
 import gregtech.common.terminal.app.prospector.widget.WidgetOreList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.renderer.OpenGlHelper;
@@ -32,12 +34,14 @@ import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.*;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.energy.IEnergyStorage;
@@ -59,6 +63,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
@@ -94,6 +99,12 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
     private boolean isWorkingEnabled = false;
     private long lastClickTime;
     private UUID lastClickUUID;
+    // server-only, the handlers and revisions of the last sync, so unchanged contents are not compared again
+    private IFluidHandler lastFluidHandler;
+    private long lastFluidRevision = IRevisionTracker.UNTRACKED;
+    private IItemHandler lastItemHandler;
+    private long lastItemRevision = IRevisionTracker.UNTRACKED;
+    private long[] itemSlotRevisions = new long[0];
     // persistent data
     protected int slot = 0;
     protected MODE mode = MODE.PROXY;
@@ -280,11 +291,21 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
 
     @Override
     public void update() {
-        if (!isRemote() && coverHolder.getOffsetTimer() % 2 ==0) {
+        if (!isRemote() && coverHolder.getOffsetTimer() % 2 ==0 && isWatched()) {
             syncAllInfo();
         }
     }
 
+    /**
+     * Screens and monitors can only show the info while their client has the chunk of the cover.
+     * Clients receiving the chunk get the current info with it, so it does not have to be tracked while nobody has it.
+     */
+    private boolean isWatched() {
+        BlockPos pos = coverHolder.getPos();
+        PlayerChunkMapEntry chunkEntry = ((WorldServer) coverHolder.getWorld()).getPlayerChunkMap().getEntry(pos.getX() >> 4, pos.getZ() >> 4);
+        return chunkEntry != null && chunkEntry.isSentToPlayers();
+    }
+
     @Override
     public EnumActionResult onScrewdriverClick(EntityPlayer playerIn, EnumHand hand, CuboidRayTraceResult hitResult) {
         if (!this.coverHolder.getWorld().isRemote) {
@@ -476,13 +497,16 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
         if (mode == MODE.FLUID || (mode == MODE.PROXY && proxyMode[0] > 0)) {
             boolean syncFlag = false;
             IFluidHandler fluidHandler = this.getFluidCapability();
-            if (fluidHandler != null) {
+            long fluidRevision = IRevisionTracker.getRevision(fluidHandler);
+            if (fluidHandler != null && !isSameRevision(fluidHandler, lastFluidHandler, fluidRevision, lastFluidRevision)) {
+                this.lastFluidHandler = fluidHandler;
+                this.lastFluidRevision = fluidRevision;
                 IFluidTankProperties[] fluidTankProperties = fluidHandler.getTankProperties();
                 if (fluidTankProperties.length != fluids.length) {
                     fluids = new FluidTankProperties[fluidTankProperties.length];
                     syncFlag = true;
                 }
-                List<Integer> toUpdate = new ArrayList<>();
+                IntList toUpdate = new IntArrayList();
                 for (int i = 0; i < fluidTankProperties.length; i++) {
                     FluidStack content = fluidTankProperties[i].getContents();
                     if (fluids[i] == null || (content == null && fluids[i].getContents() != null) || (content != null && fluids[i].getContents() == null) ||
@@ -501,8 +525,8 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
                 if (syncFlag) writeUpdateData(GregtechDataCodes.UPDATE_FLUID, packetBuffer->{
                     packetBuffer.writeVarInt(fluids.length);
                     packetBuffer.writeVarInt(toUpdate.size());
-                    for (Integer index : toUpdate) {
-                        writeFluid(packetBuffer, index);
+                    for (int i = 0; i < toUpdate.size(); i++) {
+                        writeFluid(packetBuffer, toUpdate.getInt(i));
                     }
                 });
             }
@@ -519,15 +543,26 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
                         syncFlag = true;
                     }
                 }
-                List<Integer> toUpdate = new ArrayList<>();
+                IntList toUpdate = new IntArrayList();
                 if (items.length != size) {
                     items = new ItemStack[size];
                     syncFlag = true;
                 }
-                for (int i = 0; i < size; i++) {
+                long itemRevision = IRevisionTracker.getRevision(itemHandler);
+                boolean itemsChanged = syncFlag || !isSameRevision(itemHandler, lastItemHandler, itemRevision, lastItemRevision);
+                if (itemHandler != lastItemHandler || itemSlotRevisions.length != size) {
+                    itemSlotRevisions = new long[size];
+                    Arrays.fill(itemSlotRevisions, IRevisionTracker.UNTRACKED);
+                }
+                this.lastItemHandler = itemHandler;
+                this.lastItemRevision = itemRevision;
+                for (int i = 0; i < size && itemsChanged; i++) {
                     if (items[i] == null) {
                         items[i] = ItemStack.EMPTY;
                     }
+                    long slotRevision = IRevisionTracker.getSlotRevision(itemHandler, i);
+                    if (slotRevision != IRevisionTracker.UNTRACKED && slotRevision == itemSlotRevisions[i]) continue;
+                    itemSlotRevisions[i] = slotRevision;
                     ItemStack content = itemHandler.getStackInSlot(i);
                     if (!ItemStack.areItemStacksEqual(items[i], content)) {
                         syncFlag = true;
@@ -539,7 +574,8 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
                     packetBuffer.writeVarInt(maxItemCapability);
                     packetBuffer.writeVarInt(items.length);
                     packetBuffer.writeVarInt(toUpdate.size());
-                    for (Integer index : toUpdate) {
+                    for (int i = 0; i < toUpdate.size(); i++) {
+                        int index = toUpdate.getInt(i);
                         packetBuffer.writeVarInt(index);
                         packetBuffer.writeCompoundTag(fixItemStackSer(items[index]));
                     }
@@ -608,6 +644,10 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
         }
     }
 
+    private static boolean isSameRevision(Object handler, Object lastHandler, long revision, long lastRevision) {
+        return handler == lastHandler && revision != IRevisionTracker.UNTRACKED && revision == lastRevision;
+    }
+
     private void writeAllFluids(PacketBuffer packetBuffer) {
         packetBuffer.writeVarInt(fluids.length);
         packetBuffer.writeVarInt(fluids.length);
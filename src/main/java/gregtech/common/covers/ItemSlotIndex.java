@@ -0,0 +1,147 @@
+package gregtech.common.covers;
+
+import gregtech.api.capability.IRevisionTracker;
+import gregtech.api.util.ItemStackKey;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntRBTreeSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+import java.util.Arrays;
+
+/**
+ * Empty and partially filled slots of the inventory conveyors insert into, kept between transfers,
+ * so inserting does not scan the whole inventory twice for every source slot.
+ * <p>
+ * Only inventories counting their changes through {@link IRevisionTracker} can be indexed. The index is rebuilt
+ * once the inventory changed without it, and updated in place for the slots it inserts into.
+ * Insertion first plans the slots taking the items like {@link gregtech.api.util.GTTransferUtils#insertItem},
+ * partially filled slots of the same item first and empty slots after them, then inserts into each planned slot once.
+ */
+final class ItemSlotIndex {
+
+    private final IntSortedSet emptySlots = new IntRBTreeSet();
+    private final Object2ObjectOpenHashMap<ItemStackKey, IntSortedSet> partialSlots = new Object2ObjectOpenHashMap<>();
+    private final IntList plannedSlots = new IntArrayList();
+    private final IntList plannedAmounts = new IntArrayList();
+    private IItemHandler inventory;
+    private ItemStackKey[] slotKeys = new ItemStackKey[0];
+    private long revision = IRevisionTracker.UNTRACKED;
+
+    static boolean canIndex(IItemHandler inventory) {
+        return IRevisionTracker.getRevision(inventory) != IRevisionTracker.UNTRACKED;
+    }
+
+    /**
+     * Plans the slots of the inventory taking as much of the stack as possible, only simulating insertion
+     *
+     * @return the amount of items the planned slots take
+     */
+    int plan(IItemHandler inventory, ItemStack stack) {
+        validate(inventory);
+        plannedSlots.clear();
+        plannedAmounts.clear();
+        int remaining = stack.getCount();
+        if (stack.isStackable()) {
+            IntSortedSet slots = partialSlots.get(new ItemStackKey(stack, false));
+            if (slots != null) {
+                remaining = planSlots(slots, stack, remaining);
+            }
+        }
+        if (remaining > 0) {
+            remaining = planSlots(emptySlots, stack, remaining);
+        }
+        return stack.getCount() - remaining;
+    }
+
+    private int planSlots(IntSortedSet slots, ItemStack stack, int remaining) {
+        for (IntIterator iterator = slots.iterator(); iterator.hasNext() && remaining > 0; ) {
+            int slot = iterator.nextInt();
+            ItemStack rest = inventory.insertItem(slot, ItemHandlerHelper.copyStackWithSize(stack, remaining), true);
+            int accepted = remaining - rest.getCount();
+            if (accepted > 0) {
+                plannedSlots.add(slot);
+                plannedAmounts.add(accepted);
+                remaining -= accepted;
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Inserts the stack into the slots of the last {@link #plan(IItemHandler, ItemStack)}, without modifying it
+     *
+     * @return the items the planned slots did not take
+     */
+    ItemStack insertPlanned(ItemStack stack) {
+        // extracting from the source may have changed the inventory too, if both share slots
+        boolean changedSincePlan = IRevisionTracker.getRevision(inventory) != revision;
+        ItemStack remaining = stack.copy();
+        for (int i = 0; i < plannedSlots.size() && !remaining.isEmpty(); i++) {
+            int slot = plannedSlots.getInt(i);
+            int amount = Math.min(plannedAmounts.getInt(i), remaining.getCount());
+            ItemStack rest = inventory.insertItem(slot, ItemHandlerHelper.copyStackWithSize(remaining, amount), false);
+            remaining.shrink(amount - rest.getCount());
+            updateSlot(slot);
+        }
+        plannedSlots.clear();
+        plannedAmounts.clear();
+        this.revision = changedSincePlan ? IRevisionTracker.UNTRACKED : IRevisionTracker.getRevision(inventory);
+        return remaining;
+    }
+
+    private void validate(IItemHandler inventory) {
+        long currentRevision = IRevisionTracker.getRevision(inventory);
+        if (inventory == this.inventory && currentRevision == revision && slotKeys.length == inventory.getSlots()) {
+            return;
+        }
+        this.inventory = inventory;
+        int slots = inventory.getSlots();
+        if (slotKeys.length != slots) {
+            this.slotKeys = new ItemStackKey[slots];
+        } else {
+            Arrays.fill(slotKeys, null);
+        }
+        emptySlots.clear();
+        partialSlots.clear();
+        for (int slot = 0; slot < slots; slot++) {
+            indexSlot(slot);
+        }
+        this.revision = currentRevision;
+    }
+
+    private void updateSlot(int slot) {
+        emptySlots.remove(slot);
+        ItemStackKey key = slotKeys[slot];
+        if (key != null) {
+            IntSortedSet slots = partialSlots.get(key);
+            slots.remove(slot);
+            if (slots.isEmpty()) {
+                partialSlots.remove(key);
+            }
+            slotKeys[slot] = null;
+        }
+        indexSlot(slot);
+    }
+
+    private void indexSlot(int slot) {
+        ItemStack stack = inventory.getStackInSlot(slot);
+        if (stack.isEmpty()) {
+            emptySlots.add(slot);
+        } else if (stack.isStackable() && stack.getCount() < inventory.getSlotLimit(slot)) {
+            ItemStackKey key = new ItemStackKey(stack);
+            slotKeys[slot] = key;
+            IntSortedSet slots = partialSlots.get(key);
+            if (slots == null) {
+                slots = new IntRBTreeSet();
+                partialSlots.put(key, slots);
+            }
+            slots.add(slot);
+        }
+    }
+}
@@ -19,7 +19,6 @@ import gregtech.api.metatileentity.TieredMetaTileEntity;
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.util.GTUtility;
 import gregtech.client.renderer.texture.Textures;
-import net.minecraft.block.BlockLiquid;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.entity.player.EntityPlayer;
@@ -35,7 +34,6 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 import net.minecraftforge.fluids.FluidUtil;
-import net.minecraftforge.fluids.IFluidBlock;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -44,8 +42,6 @@ import net.minecraftforge.items.ItemStackHandler;
 import org.apache.commons.lang3.ArrayUtils;
 
 import javax.annotation.Nullable;
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.List;
 
 import static gregtech.api.capability.GregtechDataCodes.PUMP_HEAD_LEVEL;
@@ -57,9 +53,7 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
     private static final int EXTRA_PUMP_RANGE = 8;
     private static final int PUMP_SPEED_BASE = 80;
 
-    private final Deque<BlockPos> fluidSourceBlocks = new ArrayDeque<>();
-    private final Deque<BlockPos> blocksToCheck = new ArrayDeque<>();
-    private boolean initializedQueue = false;
+    private final PumpFluidScanner fluidScanner = new PumpFluidScanner(this);
     private int pumpHeadY;
 
     public MetaTileEntityPump(ResourceLocation metaTileEntityId, int tier) {
@@ -149,11 +143,11 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
                 .build(getHolder(), entityPlayer);
     }
 
-    private int getMaxPumpRange() {
+    int getMaxPumpRange() {
         return BASE_PUMP_RANGE + EXTRA_PUMP_RANGE * getTier();
     }
 
-    private boolean isStraightInPumpRange(BlockPos checkPos) {
+    boolean isStraightInPumpRange(BlockPos checkPos) {
         BlockPos pos = getPos();
         return checkPos.getX() == pos.getX() &&
                 checkPos.getZ() == pos.getZ() &&
@@ -163,100 +157,39 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
 
     private void updateQueueState(int blocksToCheckAmount) {
         BlockPos selfPos = getPos().down(pumpHeadY);
-
-        for (int i = 0; i < blocksToCheckAmount; i++) {
-            BlockPos checkPos = null;
-            int amountIterated = 0;
-            do {
-                if (checkPos != null) {
-                    blocksToCheck.push(checkPos);
-                    amountIterated++;
-                }
-                checkPos = blocksToCheck.poll();
-
-            } while (checkPos != null &&
-                    !getWorld().isBlockLoaded(checkPos) &&
-                    amountIterated < blocksToCheck.size());
-            if (checkPos != null) {
-                checkFluidBlockAt(selfPos, checkPos);
-            } else break;
-        }
-
-        if (fluidSourceBlocks.isEmpty()) {
-            if (getOffsetTimer() % 20 == 0) {
-                BlockPos downPos = selfPos.down(1);
-                if (downPos.getY() >= 0) {
-                    IBlockState downBlock = getWorld().getBlockState(downPos);
-                    if (downBlock.getBlock() instanceof BlockLiquid ||
-                            downBlock.getBlock() instanceof IFluidBlock ||
-                            !downBlock.isSideSolid(getWorld(), downPos, EnumFacing.UP)) {
-                        this.pumpHeadY++;
-                    }
-                }
-
-                // Always recheck next time
-                writeCustomData(PUMP_HEAD_LEVEL, b -> b.writeVarInt(pumpHeadY));
-                markDirty();
-                //schedule queue rebuild because we changed our position and no fluid is available
-                this.initializedQueue = false;
-            }
-
-            if (!initializedQueue || getOffsetTimer() % 6000 == 0 || isFirstTick()) {
-                this.initializedQueue = true;
-                //just add ourselves to check list and see how this will go
-                this.blocksToCheck.add(selfPos);
-            }
-        }
-    }
-
-    private void checkFluidBlockAt(BlockPos pumpHeadPos, BlockPos checkPos) {
-        IBlockState blockHere = getWorld().getBlockState(checkPos);
-        boolean shouldCheckNeighbours = isStraightInPumpRange(checkPos);
-
-        if (blockHere.getBlock() instanceof BlockLiquid ||
-                blockHere.getBlock() instanceof IFluidBlock) {
-            IFluidHandler fluidHandler = FluidUtil.getFluidHandler(getWorld(), checkPos, null);
-            if (fluidHandler == null) {
-                return;
-            }
-            FluidStack drainStack = fluidHandler.drain(Integer.MAX_VALUE, false);
-            if (drainStack != null && drainStack.amount > 0) {
-                this.fluidSourceBlocks.add(checkPos);
-            }
-            shouldCheckNeighbours = true;
-        }
-
-        if (shouldCheckNeighbours) {
-            int maxPumpRange = getMaxPumpRange();
-            for (EnumFacing facing : EnumFacing.VALUES) {
-                BlockPos offsetPos = checkPos.offset(facing);
-                if (offsetPos.distanceSq(pumpHeadPos) > maxPumpRange * maxPumpRange)
-                    continue; //do not add blocks outside bounds
-                if (!fluidSourceBlocks.contains(offsetPos) &&
-                        !blocksToCheck.contains(offsetPos)) {
-                    this.blocksToCheck.add(offsetPos);
+        //starts over only if the pump head moved, block changes are picked up by the scanner itself
+        fluidScanner.startFrom(selfPos);
+        fluidScanner.scan(blocksToCheckAmount);
+
+        if (!fluidScanner.hasFluidSources() && getOffsetTimer() % 20 == 0) {
+            BlockPos downPos = selfPos.down(1);
+            if (downPos.getY() >= 0) {
+                IBlockState downBlock = getWorld().getBlockState(downPos);
+                if (PumpFluidScanner.isFluidBlock(downBlock) ||
+                        !downBlock.isSideSolid(getWorld(), downPos, EnumFacing.UP)) {
+                    this.pumpHeadY++;
+                    writeCustomData(PUMP_HEAD_LEVEL, b -> b.writeVarInt(pumpHeadY));
+                    markDirty();
                 }
             }
         }
     }
 
     private void tryPumpFirstBlock() {
-        BlockPos fluidBlockPos = fluidSourceBlocks.poll();
+        BlockPos fluidBlockPos = fluidScanner.getFirstFluidSource();
         if (fluidBlockPos == null) return;
-        IBlockState blockHere = getWorld().getBlockState(fluidBlockPos);
-        if (blockHere.getBlock() instanceof BlockLiquid ||
-                blockHere.getBlock() instanceof IFluidBlock) {
-            IFluidHandler fluidHandler = FluidUtil.getFluidHandler(getWorld(), fluidBlockPos, null);
-            if (fluidHandler == null) {
-                return;
-            }
-            FluidStack drainStack = fluidHandler.drain(Integer.MAX_VALUE, false);
-            if (drainStack != null && exportFluids.fill(drainStack, false) == drainStack.amount) {
-                exportFluids.fill(drainStack, true);
-                fluidHandler.drain(drainStack.amount, true);
-                this.fluidSourceBlocks.remove(fluidBlockPos);
-                energyContainer.changeEnergy(-GTValues.V[getTier()] * 2);
-            }
+        IFluidHandler fluidHandler = FluidUtil.getFluidHandler(getWorld(), fluidBlockPos, null);
+        if (fluidHandler == null) {
+            return;
+        }
+        FluidStack drainStack = fluidHandler.drain(Integer.MAX_VALUE, false);
+        if (drainStack != null && exportFluids.fill(drainStack, false) == drainStack.amount) {
+            exportFluids.fill(drainStack, true);
+            fluidHandler.drain(drainStack.amount, true);
+            energyContainer.changeEnergy(-GTValues.V[getTier()] * 2);
+        } else {
+            // e.g. lava while the tank holds water, try the other sources first
+            fluidScanner.deferFluidSource(fluidBlockPos);
         }
     }
 
@@ -274,11 +207,23 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
             return;
         }
         updateQueueState(getTier());
-        if (getOffsetTimer() % getPumpingCycleLength() == 0 && !fluidSourceBlocks.isEmpty()) {
+        if (getOffsetTimer() % getPumpingCycleLength() == 0 && fluidScanner.hasFluidSources()) {
             tryPumpFirstBlock();
         }
     }
 
+    @Override
+    public void onRemoval() {
+        super.onRemoval();
+        fluidScanner.stop();
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        fluidScanner.stop();
+    }
+
     private int getPumpingCycleLength() {
         return PUMP_SPEED_BASE / (1 << (getTier() - 1));
     }
@@ -0,0 +1,190 @@
+package gregtech.common.metatileentities.electric;
+
+import gregtech.api.GTValues;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.block.BlockLiquid;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidUtil;
+import net.minecraftforge.fluids.IFluidBlock;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Breadth first search for the fluid source blocks a {@link MetaTileEntityPump} can reach, spread over several ticks.
+ * <p>
+ * Positions are kept as {@link BlockPos#toLong()} in hash sets, so each of them is checked once per search.
+ * Blocks changing inside the searched area are checked again on their own, instead of restarting the search.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class PumpFluidScanner {
+
+    private static final Map<World, Set<PumpFluidScanner>> activeScanners = new HashMap<>();
+
+    private final MetaTileEntityPump pump;
+
+    private final LongArrayFIFOQueue toCheck = new LongArrayFIFOQueue();
+    // positions waiting in toCheck
+    private final LongOpenHashSet queued = new LongOpenHashSet();
+    private final LongOpenHashSet checked = new LongOpenHashSet();
+    private final LongLinkedOpenHashSet fluidSources = new LongLinkedOpenHashSet();
+
+    @Nullable
+    private BlockPos pumpHeadPos;
+
+    PumpFluidScanner(MetaTileEntityPump pump) {
+        this.pump = pump;
+    }
+
+    /**
+     * Starts a new search from the pump head, if it moved since the last one was started
+     */
+    void startFrom(BlockPos pumpHeadPos) {
+        if (pumpHeadPos.equals(this.pumpHeadPos)) return;
+        if (this.pumpHeadPos == null) {
+            activeScanners.computeIfAbsent(pump.getWorld(), key -> new ReferenceOpenHashSet<>()).add(this);
+        }
+        this.pumpHeadPos = pumpHeadPos;
+        toCheck.clear();
+        queued.clear();
+        checked.clear();
+        fluidSources.clear();
+        enqueue(pumpHeadPos.toLong());
+    }
+
+    /**
+     * Stops receiving block changes, a later {@link #startFrom(BlockPos)} starts over
+     */
+    void stop() {
+        Set<PumpFluidScanner> scanners = activeScanners.get(pump.getWorld());
+        if (scanners != null) {
+            scanners.remove(this);
+        }
+        this.pumpHeadPos = null;
+    }
+
+    /**
+     * Checks up to the given amount of queued positions, positions in unloaded chunks are queued again
+     */
+    void scan(int budget) {
+        if (pumpHeadPos == null) return;
+        World world = pump.getWorld();
+        BlockPos.MutableBlockPos checkPos = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < budget && !toCheck.isEmpty(); i++) {
+            long pos = toCheck.dequeueLong();
+            checkPos.setPos((int) (pos >> 38), (int) (pos << 26 >> 52), (int) (pos << 38 >> 38));
+            if (!world.isBlockLoaded(checkPos)) {
+                toCheck.enqueue(pos);
+                continue;
+            }
+            queued.remove(pos);
+            checked.add(pos);
+            checkFluidBlockAt(world, checkPos.toImmutable(), pos);
+        }
+    }
+
+    private void checkFluidBlockAt(World world, BlockPos checkPos, long pos) {
+        boolean shouldCheckNeighbours = pump.isStraightInPumpRange(checkPos);
+
+        if (isFluidBlock(world.getBlockState(checkPos))) {
+            if (canDrain(world, checkPos)) {
+                fluidSources.add(pos);
+            }
+            shouldCheckNeighbours = true;
+        }
+
+        if (shouldCheckNeighbours) {
+            int maxPumpRange = pump.getMaxPumpRange();
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                BlockPos offsetPos = checkPos.offset(facing);
+                if (offsetPos.distanceSq(pumpHeadPos) > maxPumpRange * maxPumpRange)
+                    continue; //do not add blocks outside bounds
+                long offset = offsetPos.toLong();
+                if (!checked.contains(offset)) {
+                    enqueue(offset);
+                }
+            }
+        }
+    }
+
+    private void enqueue(long pos) {
+        if (queued.add(pos)) {
+            toCheck.enqueue(pos);
+        }
+    }
+
+    private void onBlockChanged(BlockPos pos) {
+        long key = pos.toLong();
+        // unreached positions are found by the search itself, if a neighbour turns out to be fluid
+        if (checked.remove(key)) {
+            enqueue(key);
+        }
+    }
+
+    /**
+     * @return the first found fluid source block which can still be drained, or null if there is none
+     */
+    @Nullable
+    BlockPos getFirstFluidSource() {
+        World world = pump.getWorld();
+        while (!fluidSources.isEmpty()) {
+            BlockPos fluidBlockPos = BlockPos.fromLong(fluidSources.firstLong());
+            if (world.isBlockLoaded(fluidBlockPos) && isFluidBlock(world.getBlockState(fluidBlockPos)) && canDrain(world, fluidBlockPos)) {
+                return fluidBlockPos;
+            }
+            fluidSources.removeFirstLong();
+        }
+        return null;
+    }
+
+    /**
+     * Moves a fluid source the pump could not take behind all others, so it does not block them
+     */
+    void deferFluidSource(BlockPos fluidBlockPos) {
+        fluidSources.addAndMoveToLast(fluidBlockPos.toLong());
+    }
+
+    boolean hasFluidSources() {
+        return !fluidSources.isEmpty();
+    }
+
+    static boolean isFluidBlock(IBlockState state) {
+        return state.getBlock() instanceof BlockLiquid || state.getBlock() instanceof IFluidBlock;
+    }
+
+    private static boolean canDrain(World world, BlockPos pos) {
+        IFluidHandler fluidHandler = FluidUtil.getFluidHandler(world, pos, null);
+        if (fluidHandler == null) return false;
+        FluidStack drainStack = fluidHandler.drain(Integer.MAX_VALUE, false);
+        return drainStack != null && drainStack.amount > 0;
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        Set<PumpFluidScanner> scanners = activeScanners.get(event.getWorld());
+        if (scanners != null) {
+            for (PumpFluidScanner scanner : scanners) {
+                scanner.onBlockChanged(event.getPos());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        activeScanners.remove(event.getWorld());
+    }
+}
@@ -22,6 +22,7 @@ import gregtech.api.metatileentity.multiblock.MultiblockWithDisplayBase;
 import gregtech.api.pattern.BlockPattern;
 import gregtech.api.pattern.FactoryBlockPattern;
 import gregtech.api.pattern.PatternMatchContext;
+import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.tile.TileEntityPipeBase;
 import gregtech.api.util.BlockPosFace;
 import gregtech.client.renderer.ICubeRenderer;
@@ -36,6 +37,7 @@ import gregtech.common.metatileentities.MetaTileEntities;
 import gregtech.common.pipelike.cable.net.EnergyNet;
 import gregtech.common.pipelike.cable.net.WorldENet;
 import gregtech.common.pipelike.cable.tile.TileEntityCable;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.renderer.OpenGlHelper;
@@ -90,7 +92,7 @@ public class MetaTileEntityCentralMonitor extends MultiblockWithDisplayBase impl
 
     private EnergyNet getEnergyNet() {
         if (!this.getWorld().isRemote) {
-            TileEntity te = this.getWorld().getTileEntity(this.getPos().offset(frontFacing.getOpposite()));
+            TileEntity te = this.getNeighbor(frontFacing.getOpposite());
             if (te instanceof TileEntityCable) {
                 TileEntityPipeBase<?, ?> tileEntityCable = (TileEntityCable) te;
                 EnergyNet currentEnergyNet = this.currentEnergyNet.get();
@@ -119,11 +121,11 @@ public class MetaTileEntityCentralMonitor extends MultiblockWithDisplayBase impl
         }
         lastUpdate = energyNet.getLastUpdate();
         activeNodes.clear();
-        energyNet.getAllNodes().forEach((pos, node) -> {
-            if (node.isActive) {
-                activeNodes.add(pos);
+        for (Long2ObjectMap.Entry<? extends Node<?>> entry : energyNet.getAllNodesByKey().long2ObjectEntrySet()) {
+            if (entry.getValue().isActive) {
+                activeNodes.add(BlockPos.fromLong(entry.getLongKey()));
             }
-        });
+        }
     }
 
     public void addRemoteCover(BlockPosFace cover) {
@@ -144,9 +146,10 @@ public class MetaTileEntityCentralMonitor extends MultiblockWithDisplayBase impl
             if (!(tileEntityCable instanceof TileEntityPipeBase)) {
                 continue;
             }
+            TileEntityPipeBase<?, ?> cable = (TileEntityPipeBase<?, ?>) tileEntityCable;
             for (EnumFacing facing : EnumFacing.VALUES) {
-                if (((TileEntityPipeBase<?,?>) tileEntityCable).isConnected(facing)) {
-                    TileEntity tileEntity = world.getTileEntity(pos.offset(facing));
+                if (cable.isConnected(facing)) {
+                    TileEntity tileEntity = cable.getCoverableImplementation().getNeighbor(facing);
                     if (tileEntity instanceof IGregTechTileEntity) {
                         MetaTileEntity metaTileEntity = ((IGregTechTileEntity) tileEntity).getMetaTileEntity();
                         if (metaTileEntity != null) {
@@ -423,6 +423,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
     public void setAllowInputFromOutputSide(boolean allowInputFromOutputSide) {
         this.allowInputFromOutputSide = allowInputFromOutputSide;
         if (!getWorld().isRemote) {
+            notifyBlockUpdate();
             markDirty();
         }
     }
@@ -418,6 +418,7 @@ public class MetaTileEntityQuantumTank extends MetaTileEntity implements ITiered
     public void setAllowInputFromOutputSide(boolean allowInputFromOutputSide) {
         this.allowInputFromOutputSide = allowInputFromOutputSide;
         if (!getWorld().isRemote) {
+            notifyBlockUpdate();
             markDirty();
         }
     }
@@ -0,0 +1,251 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.api.capability.IEnergyContainer;
+import gregtech.api.util.GTUtility;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects energy inserted into an {@link EnergyNet} during a tick and distributes it in a single pass at the end of the tick.
+ * <p>
+ * Producers are answered right away with the amperage consumers are expected to accept,
+ * based on their free amperage and capacity minus what was already promised to them this tick.
+ * On settle, every consumer is called once per voltage and every cable is updated once,
+ * with the same amperage, loss and heat as if each transfer was applied on its own.
+ */
+public class BatchedEnergyDistributor {
+
+    private final EnergyNet net;
+    private final Reference2LongOpenHashMap<IEnergyContainer> promisedAmps = new Reference2LongOpenHashMap<>();
+    private final Reference2LongOpenHashMap<IEnergyContainer> promisedEnergy = new Reference2LongOpenHashMap<>();
+
+    // pending deliveries, one entry per route and producer
+    private final List<RoutePath> deliveryRoutes = new ArrayList<>();
+    private final List<IEnergyContainer> deliveryHandlers = new ArrayList<>();
+    private final LongArrayList deliverySourceVoltages = new LongArrayList();
+    private final LongArrayList deliveryVoltages = new LongArrayList();
+    private final LongArrayList deliveryAmps = new LongArrayList();
+    private boolean scheduled;
+
+    // settle buffers, reused between ticks
+    private final Reference2IntOpenHashMap<IEnergyContainer> firstDelivery = new Reference2IntOpenHashMap<>();
+    private int[] nextDelivery = new int[0];
+    private long[] acceptedAmps = new long[0];
+    private final IntArrayList touchedCables = new IntArrayList();
+    private LongArrayList[] cableTransferAmps = new LongArrayList[0];
+    private long[] cableMaxVoltages = new long[0];
+    private long[] cableVoltageSums = new long[0];
+
+    public BatchedEnergyDistributor(EnergyNet net) {
+        this.net = net;
+        this.firstDelivery.defaultReturnValue(-1);
+    }
+
+    /**
+     * Offers energy to the consumers of the net, to be delivered on the next {@link #settle()}
+     *
+     * @return the amperage which was taken from the producer
+     */
+    public long deposit(BlockPos sourcePos, EnumFacing side, long voltage, long amperage) {
+        World world = net.getWorldData();
+        long amperesUsed = 0L;
+        outer:
+        for (RoutePath path : net.getNetData(sourcePos)) {
+            if (path.getMaxLoss() >= voltage)
+                continue;
+            if (GTUtility.arePosEqual(sourcePos, path.getPipePos()) && side == path.getFaceToHandler()) {
+                //Do not insert into source handler
+                continue;
+            }
+            IEnergyContainer dest = path.getCachedHandler(world);
+            EnumFacing facing = path.getFaceToHandler().getOpposite();
+            if (dest == null || !dest.inputsEnergy(facing) || dest.getEnergyCanBeInserted() <= 0) continue;
+            long v = voltage - path.getMaxLoss();
+            if (v <= 0)
+                continue;
+
+            if (path.getMinCableVoltage(net) < voltage) {
+                for (int cableIndex : path.getPath()) {
+                    TileEntityCable cable = net.getCable(cableIndex);
+                    if (cable.getMaxVoltage() < voltage) {
+                        int heat = (int) (Math.log(GTUtility.getTierByVoltage(voltage) - GTUtility.getTierByVoltage(cable.getMaxVoltage())) * 45 + 36.5);
+                        boolean cableBroken = false;
+                        for (int cableIndex1 : path.getPath()) {
+                            TileEntityCable cable1 = net.getCable(cableIndex1);
+                            cable1.applyHeat(heat);
+                            cableBroken |= cable1.isInvalid();
+                        }
+                        if (cableBroken) {
+                            // a cable burned away (or insulation melted)
+                            break outer;
+                        }
+                        v = Math.min(cable.getMaxVoltage(), v); // limit transfer to cables max and void rest
+                    }
+                }
+            }
+
+            long amps = promiseAmperage(dest, v, amperage - amperesUsed);
+            if (amps == 0)
+                continue;
+            amperesUsed += amps;
+            deliveryRoutes.add(path);
+            deliveryHandlers.add(dest);
+            deliverySourceVoltages.add(voltage);
+            deliveryVoltages.add(v);
+            deliveryAmps.add(amps);
+
+            if (amperage == amperesUsed)
+                break;
+        }
+        if (amperesUsed > 0 && !scheduled) {
+            this.scheduled = true;
+            EnergyNetSettleHandler.scheduleSettle(world, this);
+        }
+        return amperesUsed;
+    }
+
+    /**
+     * Mirrors the acceptance rules of {@link gregtech.api.capability.impl.EnergyContainerHandler}
+     */
+    private long promiseAmperage(IEnergyContainer dest, long voltage, long amperage) {
+        long ampsLeft = dest.getInputAmperage() - promisedAmps.getLong(dest);
+        if (ampsLeft <= 0) return 0;
+        long amps;
+        if (voltage > dest.getInputVoltage()) {
+            // the consumer will explode, but still takes the energy
+            amps = Math.min(amperage, ampsLeft);
+        } else {
+            long energyLeft = dest.getEnergyCanBeInserted() - promisedEnergy.getLong(dest);
+            amps = Math.max(0, Math.min(energyLeft / voltage, Math.min(amperage, ampsLeft)));
+        }
+        if (amps > 0) {
+            promisedAmps.addTo(dest, amps);
+            promisedEnergy.addTo(dest, amps * voltage);
+        }
+        return amps;
+    }
+
+    /**
+     * Delivers all energy deposited since the last settle.
+     * Energy consumers accepted less of than promised is lost.
+     */
+    public void settle() {
+        this.scheduled = false;
+        promisedAmps.clear();
+        promisedEnergy.clear();
+        // consumers may deposit into this net again while being inserted into, these deliveries are left for the next settle
+        int count = deliveryRoutes.size();
+        if (count == 0) return;
+
+        if (nextDelivery.length < count) {
+            this.nextDelivery = new int[count];
+            this.acceptedAmps = new long[count];
+        }
+        Arrays.fill(acceptedAmps, 0, count, -1);
+        for (int i = count - 1; i >= 0; i--) {
+            nextDelivery[i] = firstDelivery.put(deliveryHandlers.get(i), i);
+        }
+        for (Reference2IntMap.Entry<IEnergyContainer> entry : firstDelivery.reference2IntEntrySet()) {
+            insertInto(entry.getKey(), entry.getIntValue());
+        }
+        firstDelivery.clear();
+
+        for (int i = 0; i < count; i++) {
+            long amps = acceptedAmps[i];
+            if (amps == 0) continue;
+            long voltage = deliverySourceVoltages.getLong(i);
+            net.addEnergyFluxPerSec(amps * voltage);
+            long voltageTraveled = voltage;
+            for (int cableIndex : deliveryRoutes.get(i).getPath()) {
+                voltageTraveled -= net.getCable(cableIndex).getNodeData().getLossPerBlock();
+                if (voltageTraveled <= 0)
+                    break;
+                addCableTransfer(cableIndex, amps, voltageTraveled);
+            }
+        }
+        flushCables();
+
+        deliveryRoutes.subList(0, count).clear();
+        deliveryHandlers.subList(0, count).clear();
+        deliverySourceVoltages.removeElements(0, count);
+        deliveryVoltages.removeElements(0, count);
+        deliveryAmps.removeElements(0, count);
+        if (deliveryRoutes.isEmpty()) {
+            // settling runs at the end of the world tick, so nothing else holds routes of this net now
+            net.compactRoutingTable();
+        }
+    }
+
+    /**
+     * Inserts all deliveries of a consumer, with one call for each distinct side and voltage
+     */
+    private void insertInto(IEnergyContainer dest, int first) {
+        for (int i = first; i != -1; i = nextDelivery[i]) {
+            if (acceptedAmps[i] != -1) continue;
+            EnumFacing facing = deliveryRoutes.get(i).getFaceToHandler().getOpposite();
+            long voltage = deliveryVoltages.getLong(i);
+            long amperage = 0;
+            for (int j = i; j != -1; j = nextDelivery[j]) {
+                if (acceptedAmps[j] == -1 && isSameInsertion(j, facing, voltage)) {
+                    amperage += deliveryAmps.getLong(j);
+                }
+            }
+            long accepted = dest.acceptEnergyFromNetwork(facing, voltage, amperage);
+            for (int j = i; j != -1; j = nextDelivery[j]) {
+                if (acceptedAmps[j] == -1 && isSameInsertion(j, facing, voltage)) {
+                    long amps = Math.min(accepted, deliveryAmps.getLong(j));
+                    acceptedAmps[j] = amps;
+                    accepted -= amps;
+                }
+            }
+        }
+    }
+
+    private boolean isSameInsertion(int delivery, EnumFacing facing, long voltage) {
+        return deliveryVoltages.getLong(delivery) == voltage && deliveryRoutes.get(delivery).getFaceToHandler().getOpposite() == facing;
+    }
+
+    private void addCableTransfer(int cableIndex, long amps, long voltage) {
+        if (cableTransferAmps.length <= cableIndex) {
+            int size = Math.max(net.getCableCount(), cableIndex + 1);
+            this.cableTransferAmps = Arrays.copyOf(cableTransferAmps, size);
+            this.cableMaxVoltages = Arrays.copyOf(cableMaxVoltages, size);
+            this.cableVoltageSums = Arrays.copyOf(cableVoltageSums, size);
+        }
+        LongArrayList transferAmps = cableTransferAmps[cableIndex];
+        if (transferAmps == null) {
+            transferAmps = cableTransferAmps[cableIndex] = new LongArrayList();
+        }
+        if (transferAmps.isEmpty()) {
+            touchedCables.add(cableIndex);
+        }
+        transferAmps.add(amps);
+        cableMaxVoltages[cableIndex] = Math.max(cableMaxVoltages[cableIndex], voltage);
+        cableVoltageSums[cableIndex] += voltage;
+    }
+
+    private void flushCables() {
+        for (int i = 0; i < touchedCables.size(); i++) {
+            int cableIndex = touchedCables.getInt(i);
+            TileEntityCable cable = net.getCable(cableIndex);
+            if (!cable.isInvalid()) {
+                cable.incrementAmperage(cableTransferAmps[cableIndex], cableMaxVoltages[cableIndex], cableVoltageSums[cableIndex]);
+            }
+            cableTransferAmps[cableIndex].clear();
+            cableMaxVoltages[cableIndex] = 0;
+            cableVoltageSums[cableIndex] = 0;
+        }
+        touchedCables.clear();
+    }
+}
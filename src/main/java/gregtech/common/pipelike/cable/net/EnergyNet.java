@@ -4,11 +4,14 @@ import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.WireProperties;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
-import java.util.*;
+import java.util.List;
 
 public class EnergyNet extends PipeNet<WireProperties> {
 
@@ -16,24 +19,37 @@ public class EnergyNet extends PipeNet<WireProperties> {
     private long energyFluxPerSec;
     private long lastTime;
 
-    private final Map<BlockPos, List<RoutePath>> NET_DATA = new HashMap<>();
+    private final EnergyRoutingTable routingTable = new EnergyRoutingTable(this);
+    private final BatchedEnergyDistributor distributor = new BatchedEnergyDistributor(this);
 
     protected EnergyNet(WorldPipeNet<WireProperties, EnergyNet> world) {
         super(world);
     }
 
     public List<RoutePath> getNetData(BlockPos pipePos) {
-        List<RoutePath> data = NET_DATA.get(pipePos);
-        if (data == null) {
-            data = EnergyNetWalker.createNetData(getWorldData(), pipePos);
-            if (data == null) {
-                // walker failed, don't cache so it tries again on next insertion
-                return Collections.emptyList();
-            }
-            data.sort(Comparator.comparingInt(RoutePath::getDistance));
-            NET_DATA.put(pipePos, data);
-        }
-        return data;
+        return routingTable.getRoutes(pipePos);
+    }
+
+    public TileEntityCable getCable(int cableIndex) {
+        return routingTable.getCable(cableIndex);
+    }
+
+    public int getCableCount() {
+        return routingTable.getCableCount();
+    }
+
+    /**
+     * Called by the distributor once no routes of this net are in use, see {@link EnergyRoutingTable#compact()}
+     */
+    void compactRoutingTable() {
+        routingTable.compact();
+    }
+
+    /**
+     * Inserts energy through {@link BatchedEnergyDistributor}, it is delivered at the end of the tick
+     */
+    public long depositEnergy(BlockPos sourcePos, EnumFacing side, long voltage, long amperage) {
+        return distributor.deposit(sourcePos, side, voltage, amperage);
     }
 
     public long getEnergyFluxPerSec() {
@@ -56,19 +72,24 @@ public class EnergyNet extends PipeNet<WireProperties> {
 
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
-        NET_DATA.clear();
+        routingTable.onNeighbourUpdate(fromPos);
     }
 
     @Override
     public void onPipeConnectionsUpdate() {
-        NET_DATA.clear();
+        routingTable.invalidateAll();
+    }
+
+    @Override
+    public void onPipeConnectionsUpdate(BlockPos pipePos) {
+        routingTable.onCableUpdate(pipePos);
     }
 
     @Override
-    protected void transferNodeData(Map<BlockPos, Node<WireProperties>> transferredNodes, PipeNet<WireProperties> parentNet) {
+    protected void transferNodeData(Long2ObjectMap<Node<WireProperties>> transferredNodes, PipeNet<WireProperties> parentNet) {
         super.transferNodeData(transferredNodes, parentNet);
-        NET_DATA.clear();
-        ((EnergyNet) parentNet).NET_DATA.clear();
+        routingTable.invalidateAll();
+        ((EnergyNet) parentNet).routingTable.invalidateAll();
     }
 
     @Override
@@ -3,6 +3,7 @@ package gregtech.common.pipelike.cable.net;
 import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTUtility;
+import gregtech.common.ConfigHolder;
 import gregtech.common.pipelike.cable.tile.TileEntityCable;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.EnumFacing;
@@ -58,6 +59,11 @@ public class EnergyNetHandler implements IEnergyContainer {
             side = facing;
         }
 
+        // keep the net the routes were taken from, cable indices are only valid for it
+        EnergyNet net = this.net;
+        if (ConfigHolder.machines.batchedEnergyNets) {
+            return net.depositEnergy(cable.getPos(), side, voltage, amperage);
+        }
         long amperesUsed = 0L;
         List<RoutePath> paths = net.getNetData(cable.getPos());
         outer:
@@ -75,11 +81,13 @@ public class EnergyNetHandler implements IEnergyContainer {
             if (v <= 0)
                 continue;
 
-            for (TileEntityCable cable : path.getPath()) {
+            for (int cableIndex : path.getPath()) {
+                TileEntityCable cable = net.getCable(cableIndex);
                 if (cable.getMaxVoltage() < voltage) {
                     int heat = (int) (Math.log(GTUtility.getTierByVoltage(voltage) - GTUtility.getTierByVoltage(cable.getMaxVoltage())) * 45 + 36.5);
                     boolean cableBroken = false;
-                    for (TileEntityCable cable1 : path.getPath()) {
+                    for (int cableIndex1 : path.getPath()) {
+                        TileEntityCable cable1 = net.getCable(cableIndex1);
                         cable1.applyHeat(heat);
                         cableBroken |= cable1.isInvalid();
                     }
@@ -100,7 +108,8 @@ public class EnergyNetHandler implements IEnergyContainer {
 
             long voltageTraveled = voltage;
             boolean cableBroken = false;
-            for (TileEntityCable cable : path.getPath()) {
+            for (int cableIndex : path.getPath()) {
+                TileEntityCable cable = net.getCable(cableIndex);
                 voltageTraveled -= cable.getNodeData().getLossPerBlock();
                 if (voltageTraveled <= 0)
                     break;
@@ -0,0 +1,49 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.api.GTValues;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settles all {@link BatchedEnergyDistributor}s which received energy, once at the end of each world tick
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class EnergyNetSettleHandler {
+
+    // consumers may pass energy on into other batched nets while being settled
+    private static final int MAX_SETTLE_ROUNDS = 8;
+
+    private static final Map<World, List<BatchedEnergyDistributor>> pendingDistributors = new HashMap<>();
+
+    public static void scheduleSettle(World world, BatchedEnergyDistributor distributor) {
+        pendingDistributors.computeIfAbsent(world, key -> new ArrayList<>()).add(distributor);
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(WorldTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.world.isRemote)
+            return;
+        for (int round = 0; round < MAX_SETTLE_ROUNDS; round++) {
+            List<BatchedEnergyDistributor> distributors = pendingDistributors.remove(event.world);
+            if (distributors == null)
+                return;
+            for (BatchedEnergyDistributor distributor : distributors) {
+                distributor.settle();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        pendingDistributors.remove(event.getWorld());
+    }
+}
@@ -5,6 +5,7 @@ import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.pipenet.PipeNetWalker;
 import gregtech.api.pipenet.tile.IPipeTile;
 import gregtech.common.pipelike.cable.tile.TileEntityCable;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -17,24 +18,29 @@ import java.util.List;
 
 public class EnergyNetWalker extends PipeNetWalker {
 
-    public static List<RoutePath> createNetData(World world, BlockPos sourcePipe) {
-        EnergyNetWalker walker = new EnergyNetWalker(world, sourcePipe, 1, new ArrayList<>());
+    public static EnergyRoutes createNetData(EnergyRoutingTable routingTable, World world, BlockPos sourcePipe) {
+        EnergyNetWalker walker = new EnergyNetWalker(routingTable, world, sourcePipe, 1, new ArrayList<>(), new Int2IntOpenHashMap());
         walker.traversePipeNet();
-        return walker.isFailed() ? null : walker.routes;
+        return walker.isFailed() ? null : new EnergyRoutes(walker.routes, walker.parents, routingTable.getCableCount());
     }
 
+    private final EnergyRoutingTable routingTable;
     private final List<RoutePath> routes;
-    private TileEntityCable[] pipes = {};
+    // cable index -> index of the cable it was reached from, -1 for the source
+    private final Int2IntOpenHashMap parents;
+    private int[] pipes = {};
     private int loss;
 
-    protected EnergyNetWalker(World world, BlockPos sourcePipe, int walkedBlocks, List<RoutePath> routes) {
+    protected EnergyNetWalker(EnergyRoutingTable routingTable, World world, BlockPos sourcePipe, int walkedBlocks, List<RoutePath> routes, Int2IntOpenHashMap parents) {
         super(world, sourcePipe, walkedBlocks);
+        this.routingTable = routingTable;
         this.routes = routes;
+        this.parents = parents;
     }
 
     @Override
     protected PipeNetWalker createSubWalker(World world, EnumFacing facingToNextPos, BlockPos nextPos, int walkedBlocks) {
-        EnergyNetWalker walker = new EnergyNetWalker(world, nextPos, walkedBlocks, routes);
+        EnergyNetWalker walker = new EnergyNetWalker(routingTable, world, nextPos, walkedBlocks, routes, parents);
         walker.loss = loss;
         walker.pipes = pipes;
         return walker;
@@ -42,8 +48,11 @@ public class EnergyNetWalker extends PipeNetWalker {
 
     @Override
     protected void checkPipe(IPipeTile<?, ?> pipeTile, BlockPos pos) {
-        pipes = ArrayUtils.add(pipes, (TileEntityCable) pipeTile);
-        loss += ((TileEntityCable) pipeTile).getNodeData().getLossPerBlock();
+        TileEntityCable cable = (TileEntityCable) pipeTile;
+        int cableIndex = routingTable.registerCable(cable);
+        parents.put(cableIndex, pipes.length == 0 ? -1 : pipes[pipes.length - 1]);
+        pipes = ArrayUtils.add(pipes, cableIndex);
+        loss += cable.getNodeData().getLossPerBlock();
     }
 
     @Override
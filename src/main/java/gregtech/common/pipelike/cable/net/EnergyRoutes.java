@@ -0,0 +1,79 @@
+package gregtech.common.pipelike.cable.net;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Routes of a single energy source, together with the shortest path tree they were taken from.
+ * The tree allows adding routes to new endpoints without walking the net again.
+ * Route lists are never modified in place, as they may be iterated while energy is being inserted.
+ */
+public class EnergyRoutes {
+
+    private static final int UNREACHED = -2;
+
+    private List<RoutePath> routes;
+    // cable index -> parent cable index in the shortest path tree, -1 for the source
+    private final int[] parents;
+
+    public EnergyRoutes(List<RoutePath> routes, Int2IntMap parents, int cableCount) {
+        this.routes = routes;
+        this.parents = new int[cableCount];
+        Arrays.fill(this.parents, UNREACHED);
+        for (Int2IntMap.Entry entry : parents.int2IntEntrySet()) {
+            this.parents[entry.getIntKey()] = entry.getIntValue();
+        }
+        this.routes.sort(Comparator.comparingInt(RoutePath::getDistance));
+    }
+
+    public List<RoutePath> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * @return true if the walk reached the given cable, changing such a cable invalidates these routes
+     */
+    public boolean reaches(int cableIndex) {
+        return cableIndex < parents.length && parents[cableIndex] != UNREACHED;
+    }
+
+    /**
+     * @return the cable indices from the source to the given cable, or null if it wasn't reached by the walk
+     */
+    @Nullable
+    public int[] pathTo(int cableIndex) {
+        if (!reaches(cableIndex)) {
+            return null;
+        }
+        int length = 0;
+        for (int i = cableIndex; i != -1; i = parents[i]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int i = cableIndex; i != -1; i = parents[i]) {
+            path[--length] = i;
+        }
+        return path;
+    }
+
+    public void removeRoute(BlockPos pipePos, EnumFacing faceToHandler) {
+        List<RoutePath> newRoutes = new ArrayList<>(routes);
+        if (newRoutes.removeIf(route -> route.getFaceToHandler() == faceToHandler && route.getPipePos().equals(pipePos))) {
+            this.routes = newRoutes;
+        }
+    }
+
+    public void addRoute(RoutePath route) {
+        List<RoutePath> newRoutes = new ArrayList<>(routes);
+        newRoutes.add(route);
+        newRoutes.sort(Comparator.comparingInt(RoutePath::getDistance));
+        this.routes = newRoutes;
+    }
+}
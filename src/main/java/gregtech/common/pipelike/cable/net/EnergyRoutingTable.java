@@ -0,0 +1,194 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.api.capability.GregtechCapabilities;
+import gregtech.api.pipenet.tile.IPipeTile;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-net cache of energy routes, keyed by source cable position.
+ * <p>
+ * Cables are stored once per net and referenced by index from {@link RoutePath}s.
+ * Indices stay valid until the table is compacted, so routes being iterated are never broken by invalidation.
+ * Endpoint changes next to the net are patched into the cached routes of every source,
+ * changes of a cable drop the routes of every source whose walk reached that cable,
+ * since a changed leaf cable may open the way to further endpoints.
+ * Note that routes of sources not reaching a changed cable are kept, so a newly opened shortcut
+ * is only used by them after they are rebuilt.
+ */
+public class EnergyRoutingTable {
+
+    private final EnergyNet net;
+    private final Long2IntOpenHashMap cableIndexByPos = new Long2IntOpenHashMap();
+    private final List<TileEntityCable> cables = new ArrayList<>();
+    private final LongArrayList cablePositions = new LongArrayList();
+    private final IntArrayList cableLosses = new IntArrayList();
+    private final Long2ObjectOpenHashMap<EnergyRoutes> routesBySource = new Long2ObjectOpenHashMap<>();
+
+    public EnergyRoutingTable(EnergyNet net) {
+        this.net = net;
+        this.cableIndexByPos.defaultReturnValue(-1);
+    }
+
+    public List<RoutePath> getRoutes(BlockPos sourcePos) {
+        long sourceKey = sourcePos.toLong();
+        EnergyRoutes routes = routesBySource.get(sourceKey);
+        if (routes == null) {
+            routes = EnergyNetWalker.createNetData(this, net.getWorldData(), sourcePos);
+            if (routes == null) {
+                // walker failed, don't cache so it tries again on next insertion
+                return Collections.emptyList();
+            }
+            routesBySource.put(sourceKey, routes);
+        }
+        return routes.getRoutes();
+    }
+
+    public int getCableCount() {
+        return cables.size();
+    }
+
+    protected int registerCable(TileEntityCable cable) {
+        long posKey = cable.getPipePos().toLong();
+        int cableIndex = cableIndexByPos.get(posKey);
+        if (cableIndex == -1) {
+            cableIndex = cables.size();
+            cableIndexByPos.put(posKey, cableIndex);
+            cables.add(cable);
+            cablePositions.add(posKey);
+            cableLosses.add(cable.getNodeData().getLossPerBlock());
+        } else {
+            cables.set(cableIndex, cable);
+            cableLosses.set(cableIndex, cable.getNodeData().getLossPerBlock());
+        }
+        return cableIndex;
+    }
+
+    /**
+     * @return the cable with given index, re-resolved from the world if the cached tile was replaced
+     */
+    public TileEntityCable getCable(int cableIndex) {
+        TileEntityCable cable = cables.get(cableIndex);
+        if (cable.isInvalid()) {
+            World world = net.getWorldData();
+            BlockPos pos = cable.getPos();
+            if (world != null && world.isBlockLoaded(pos)) {
+                TileEntity tile = world.getTileEntity(pos);
+                if (tile instanceof TileEntityCable && !tile.isInvalid()) {
+                    cable = (TileEntityCable) tile;
+                    cables.set(cableIndex, cable);
+                }
+            }
+        }
+        return cable;
+    }
+
+    public void invalidateAll() {
+        routesBySource.clear();
+    }
+
+    /**
+     * Drops all cables and routes once most cable indices belong to cables which left the net,
+     * so the table does not keep growing while cables are placed and broken or the net splits.
+     * Must only be called while no routes are in use, as indices are handed out anew afterwards.
+     */
+    public void compact() {
+        int staleCables = cables.size() - net.getAllNodesByKey().size();
+        if (staleCables <= cables.size() / 2) {
+            return;
+        }
+        cableIndexByPos.clear();
+        cables.clear();
+        cablePositions.clear();
+        cableLosses.clear();
+        routesBySource.clear();
+    }
+
+    /**
+     * Connections of the cable at given position changed
+     */
+    public void onCableUpdate(BlockPos cablePos) {
+        int cableIndex = cableIndexByPos.get(cablePos.toLong());
+        if (cableIndex == -1) {
+            invalidateAll();
+        } else {
+            invalidateThrough(cableIndex);
+        }
+    }
+
+    /**
+     * A block next to a cable of this net changed
+     */
+    public void onNeighbourUpdate(BlockPos fromPos) {
+        long fromKey = fromPos.toLong();
+        int changedCable = cableIndexByPos.get(fromKey);
+        if (changedCable != -1) {
+            // one of our cables changed or was removed
+            invalidateThrough(changedCable);
+            if (net.containsNode(fromPos)) {
+                return;
+            }
+            // the cable is gone, whatever replaced it may be a new endpoint
+            cableIndexByPos.remove(fromKey);
+        } else if (net.containsNode(fromPos)) {
+            // a new cable joined this net, every tree is missing it
+            invalidateAll();
+            return;
+        }
+        if (routesBySource.isEmpty()) {
+            return;
+        }
+
+        TileEntity neighbourTile = net.getWorldData().getTileEntity(fromPos);
+        if (neighbourTile instanceof IPipeTile) {
+            // cables of other nets expose energy containers too, but are never endpoints
+            neighbourTile = null;
+        }
+        BlockPos.PooledMutableBlockPos pos = BlockPos.PooledMutableBlockPos.retain();
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            pos.setPos(fromPos).move(facing);
+            int cableIndex = cableIndexByPos.get(pos.toLong());
+            if (cableIndex == -1) continue;
+
+            EnumFacing faceToHandler = facing.getOpposite();
+            TileEntityCable cable = getCable(cableIndex);
+            boolean isEndpoint = !cable.isInvalid() && cable.isConnected(faceToHandler) && neighbourTile != null &&
+                    neighbourTile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, facing) != null;
+            BlockPos pipePos = BlockPos.fromLong(cablePositions.getLong(cableIndex));
+            for (EnergyRoutes routes : routesBySource.values()) {
+                routes.removeRoute(pipePos, faceToHandler);
+                if (isEndpoint) {
+                    int[] path = routes.pathTo(cableIndex);
+                    if (path != null) {
+                        routes.addRoute(new RoutePath(pipePos, faceToHandler, path, path.length, getLoss(path)));
+                    }
+                }
+            }
+        }
+        pos.release();
+    }
+
+    private void invalidateThrough(int cableIndex) {
+        routesBySource.remove(cablePositions.getLong(cableIndex));
+        routesBySource.values().removeIf(routes -> routes.reaches(cableIndex));
+    }
+
+    private long getLoss(int[] path) {
+        long loss = 0;
+        for (int cableIndex : path) {
+            loss += cableLosses.getInt(cableIndex);
+        }
+        return loss;
+    }
+}
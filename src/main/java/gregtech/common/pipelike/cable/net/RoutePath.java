@@ -2,7 +2,6 @@ package gregtech.common.pipelike.cable.net;
 
 import gregtech.api.capability.GregtechCapabilities;
 import gregtech.api.capability.IEnergyContainer;
-import gregtech.common.pipelike.cable.tile.TileEntityCable;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -12,10 +11,13 @@ public class RoutePath {
     private final BlockPos destPipePos;
     private final EnumFacing destFacing;
     private final int distance;
-    private final TileEntityCable[] path;
+    private final int[] path;
     private final long maxLoss;
+    private TileEntity cachedTile;
+    private IEnergyContainer cachedHandler;
+    private long minCableVoltage = -1;
 
-    public RoutePath(BlockPos destPipePos, EnumFacing destFacing, TileEntityCable[] path, int distance, long maxLoss) {
+    public RoutePath(BlockPos destPipePos, EnumFacing destFacing, int[] path, int distance, long maxLoss) {
         this.destPipePos = destPipePos;
         this.destFacing = destFacing;
         this.path = path;
@@ -31,7 +33,10 @@ public class RoutePath {
         return maxLoss;
     }
 
-    public TileEntityCable[] getPath() {
+    /**
+     * @return indices of the cables on this path, resolved through {@link EnergyNet#getCable(int)}
+     */
+    public int[] getPath() {
         return path;
     }
 
@@ -54,4 +59,30 @@ public class RoutePath {
         }
         return null;
     }
+
+    /**
+     * Same as {@link #getHandler(World)}, but keeps the handler until its tile entity is invalidated
+     */
+    public IEnergyContainer getCachedHandler(World world) {
+        if (cachedTile == null || cachedTile.isInvalid()) {
+            this.cachedTile = world.getTileEntity(getHandlerPos());
+            this.cachedHandler = cachedTile == null ? null :
+                    cachedTile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, destFacing.getOpposite());
+        }
+        return cachedHandler;
+    }
+
+    /**
+     * @return the lowest max voltage of all cables on this path
+     */
+    public long getMinCableVoltage(EnergyNet net) {
+        if (minCableVoltage == -1) {
+            long minVoltage = Long.MAX_VALUE;
+            for (int cableIndex : path) {
+                minVoltage = Math.min(minVoltage, net.getCable(cableIndex).getMaxVoltage());
+            }
+            this.minCableVoltage = minVoltage;
+        }
+        return minCableVoltage;
+    }
 }
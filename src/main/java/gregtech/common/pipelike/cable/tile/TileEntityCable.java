@@ -20,6 +20,7 @@ import gregtech.common.pipelike.cable.Insulation;
 import gregtech.common.pipelike.cable.net.EnergyNet;
 import gregtech.common.pipelike.cable.net.EnergyNetHandler;
 import gregtech.common.pipelike.cable.net.WorldENet;
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.minecraft.init.Blocks;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
@@ -114,6 +115,41 @@ public class TileEntityCable extends TileEntityMaterialPipeBase<Insulation, Wire
         return false;
     }
 
+    /**
+     * Same as calling {@link #incrementAmperage(long, long)} once for each of the given transfers, in order.
+     * Every transfer heats the cable by the amperage of this tick above the max amperage at that point,
+     * so the heat is summed up over the running amperage instead of taken from the total.
+     *
+     * @param transferAmps amperage of each transfer
+     * @param maxVoltage   highest voltage of all transfers
+     * @param voltageSum   sum of the voltages of all transfers
+     * @return if the cable should be destroyed
+     */
+    public boolean incrementAmperage(LongList transferAmps, long maxVoltage, long voltageSum) {
+        if (maxVoltage > maxVoltageCounter.get(world)) {
+            maxVoltageCounter.set(world, maxVoltage);
+        }
+        averageVoltageCounter.increment(world, voltageSum);
+
+        long maxAmperage = getMaxAmperage();
+        long amperage = averageAmperageCounter.getLast(world);
+        int heat = 0;
+        for (int i = 0; i < transferAmps.size(); i++) {
+            amperage += transferAmps.getLong(i);
+            if (amperage > maxAmperage) {
+                heat += (int) (amperage - maxAmperage) * 40;
+            }
+        }
+        averageAmperageCounter.set(world, amperage);
+
+        if (heat > 0) {
+            applyHeat(heat);
+            return true;
+        }
+
+        return false;
+    }
+
     public void applyHeat(int amount) {
         heatQueue += amount;
         if (!world.isRemote && !isTicking && temperature + heatQueue > 293) {
@@ -1,5 +1,6 @@
 package gregtech.common.pipelike.cable.tile;
 
+import gregtech.api.util.TickProfiler;
 import net.minecraft.util.ITickable;
 
 public class TileEntityCableTickable extends TileEntityCable implements ITickable {
@@ -9,7 +10,9 @@ public class TileEntityCableTickable extends TileEntityCable implements ITickabl
 
     @Override
     public void update() {
+        long profileStart = TickProfiler.startSample(world);
         getCoverableImplementation().update();
+        TickProfiler.endSample(profileStart, this, world, pos);
     }
 
     @Override
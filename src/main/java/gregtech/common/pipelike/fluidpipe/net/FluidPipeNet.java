@@ -1,16 +1,284 @@
 package gregtech.common.pipelike.fluidpipe.net;
 
+import gregtech.api.GTValues;
+import gregtech.api.cover.CoverBehavior;
+import gregtech.api.cover.ICoverable;
+import gregtech.api.fluids.MaterialFluid;
+import gregtech.api.fluids.fluidType.FluidType;
+import gregtech.api.fluids.fluidType.FluidTypes;
+import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipe;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipeTickable;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class FluidPipeNet extends PipeNet<FluidPipeProperties> {
 
+    // pipes holding fluid to be moved straight to the endpoints, with the sides they received it from
+    private final Reference2IntOpenHashMap<TileEntityFluidPipeTickable> holdingPipes = new Reference2IntOpenHashMap<>();
+    private List<Endpoint> endpoints;
+    private FluidPipeProperties weakestProperties;
+    // 1 if a cover sits between two pipes of this net, 0 if not, -1 if not checked yet
+    private int internalCovers = -1;
+    private long lastFlowUpdate = Long.MIN_VALUE;
+    // fluid the net may still move during the current flow update
+    private long remainingFlow;
+
+    // distribution buffers, reused between updates
+    private final List<IFluidHandler> destinations = new ArrayList<>();
+    private final List<IFluidHandler> sources = new ArrayList<>();
+    private final IntArrayList amounts = new IntArrayList();
+
     public FluidPipeNet(WorldPipeNet<FluidPipeProperties, FluidPipeNet> world) {
         super(world);
     }
 
+    @Override
+    protected void onNodeConnectionsUpdate() {
+        super.onNodeConnectionsUpdate();
+        this.endpoints = null;
+        this.weakestProperties = null;
+        this.internalCovers = -1;
+    }
+
+    @Override
+    public void onNeighbourUpdate(BlockPos fromPos) {
+        // pipes notify their neighbours when covers are placed or removed
+        if (containsNode(fromPos)) {
+            this.internalCovers = -1;
+        }
+    }
+
+    /**
+     * @return the lowest temperature, throughput and tank count and the proofs shared by all pipes of this net
+     */
+    public FluidPipeProperties getWeakestProperties() {
+        if (weakestProperties == null) {
+            int maxTemperature = Integer.MAX_VALUE;
+            int throughput = Integer.MAX_VALUE;
+            int tanks = Integer.MAX_VALUE;
+            boolean gasProof = true, acidProof = true, cryoProof = true, plasmaProof = true;
+            for (Node<FluidPipeProperties> node : getAllNodesByKey().values()) {
+                FluidPipeProperties properties = node.data;
+                maxTemperature = Math.min(maxTemperature, properties.getMaxFluidTemperature());
+                throughput = Math.min(throughput, properties.getThroughput());
+                tanks = Math.min(tanks, properties.getTanks());
+                gasProof &= properties.isGasProof();
+                acidProof &= properties.isAcidProof();
+                cryoProof &= properties.isCryoProof();
+                plasmaProof &= properties.isPlasmaProof();
+            }
+            this.weakestProperties = new FluidPipeProperties(maxTemperature, throughput, gasProof, acidProof, cryoProof, plasmaProof, tanks);
+        }
+        return weakestProperties;
+    }
+
+    /**
+     * Mirrors {@link TileEntityFluidPipeTickable#checkAndDestroy(FluidStack)} for every pipe of the net at once
+     *
+     * @return true if no pipe of this net is damaged by the fluid and no cover sits between its pipes,
+     * so it may skip the pipes between source and destination
+     */
+    public boolean canTransportDirectly(FluidStack stack) {
+        if (hasInternalCovers())
+            return false;
+        FluidPipeProperties properties = getWeakestProperties();
+        Fluid fluid = stack.getFluid();
+        if (!properties.isGasProof() && fluid.isGaseous(stack))
+            return false;
+        if (!properties.isCryoProof() && fluid.getTemperature() < 120)
+            return false;
+        if (fluid instanceof MaterialFluid) {
+            FluidType fluidType = ((MaterialFluid) fluid).getFluidType();
+            if (!properties.isAcidProof() && fluidType.equals(FluidTypes.ACID))
+                return false;
+            if (fluidType.equals(FluidTypes.PLASMA)) {
+                // plasma proof pipes never burn
+                return properties.isPlasmaProof();
+            }
+        }
+        return properties.getMaxFluidTemperature() >= fluid.getTemperature(stack);
+    }
+
+    /**
+     * @return true if a pipe of this net has a cover facing another pipe of the net, or may have one as it isn't loaded
+     */
+    private boolean hasInternalCovers() {
+        if (internalCovers != -1)
+            return internalCovers == 1;
+        World world = getWorldData();
+        for (Long2ObjectMap.Entry<Node<FluidPipeProperties>> entry : getAllNodesByKey().long2ObjectEntrySet()) {
+            int openConnections = entry.getValue().openConnections;
+            if (openConnections == 0)
+                continue;
+            BlockPos pipePos = BlockPos.fromLong(entry.getLongKey());
+            if (!world.isBlockLoaded(pipePos)) {
+                // don't remember the result, the pipe may carry a cover once it loads
+                return true;
+            }
+            TileEntity tile = world.getTileEntity(pipePos);
+            if (!(tile instanceof TileEntityFluidPipe))
+                continue;
+            ICoverable coverable = ((TileEntityFluidPipe) tile).getCoverableImplementation();
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                if ((openConnections & 1 << facing.getIndex()) != 0 && coverable.getCoverAtSide(facing) != null &&
+                        containsNode(pipePos.offset(facing))) {
+                    this.internalCovers = 1;
+                    return true;
+                }
+            }
+        }
+        this.internalCovers = 0;
+        return false;
+    }
+
+    /**
+     * Queues the fluid of the pipe to be moved on the next flow update of this net
+     *
+     * @param receivedFrom bitmask of the sides the pipe received fluid from, it won't be given back to them
+     */
+    public void markHolding(TileEntityFluidPipeTickable pipe, int receivedFrom) {
+        holdingPipes.put(pipe, receivedFrom);
+    }
+
+    /**
+     * Moves the fluid of all queued pipes straight to the endpoints of the net.
+     * Called by every pipe of the net each tick, but only runs once every {@link TileEntityFluidPipe#FREQUENCY} ticks.
+     */
+    public void updateFlow(long worldTime) {
+        if (worldTime - lastFlowUpdate < TileEntityFluidPipe.FREQUENCY)
+            return;
+        this.lastFlowUpdate = worldTime;
+        if (holdingPipes.isEmpty())
+            return;
+        List<Endpoint> endpoints = getEndpoints();
+        if (!endpoints.isEmpty() && !hasInternalCovers()) {
+            // the whole net moves as much as its thinnest pipe would, per tank
+            FluidPipeProperties properties = getWeakestProperties();
+            this.remainingFlow = (long) properties.getThroughput() * 20 / 2 * properties.getTanks();
+            for (Reference2IntMap.Entry<TileEntityFluidPipeTickable> entry : holdingPipes.reference2IntEntrySet()) {
+                TileEntityFluidPipeTickable pipe = entry.getKey();
+                if (remainingFlow <= 0)
+                    break;
+                if (pipe.isInvalid())
+                    continue;
+                for (FluidTank tank : pipe.getFluidTanks()) {
+                    FluidStack fluid = tank.getFluid();
+                    if (fluid != null && fluid.amount > 0 && canTransportDirectly(fluid)) {
+                        distributeFluid(endpoints, pipe, entry.getIntValue(), tank, fluid);
+                    }
+                }
+            }
+        }
+        holdingPipes.clear();
+    }
+
+    private List<Endpoint> getEndpoints() {
+        if (endpoints == null) {
+            List<Endpoint> endpoints = new ArrayList<>();
+            for (Long2ObjectMap.Entry<Node<FluidPipeProperties>> entry : getAllNodesByKey().long2ObjectEntrySet()) {
+                int openConnections = entry.getValue().openConnections;
+                if (openConnections == 0)
+                    continue;
+                BlockPos pipePos = BlockPos.fromLong(entry.getLongKey());
+                for (EnumFacing facing : EnumFacing.VALUES) {
+                    if ((openConnections & 1 << facing.getIndex()) != 0 && !containsNode(pipePos.offset(facing))) {
+                        endpoints.add(new Endpoint(pipePos, facing));
+                    }
+                }
+            }
+            this.endpoints = endpoints;
+        }
+        return endpoints;
+    }
+
+    /**
+     * Same rules as the distribution of a single pipe, but with all endpoints of the net as destinations
+     */
+    private void distributeFluid(List<Endpoint> endpoints, TileEntityFluidPipeTickable pipe, int receivedFrom, FluidTank tank, FluidStack fluid) {
+        World world = getWorldData();
+        BlockPos pipePos = pipe.getPipePos();
+        int amount = fluid.amount;
+        FluidStack maxFluid = fluid.copy();
+        double availableCapacity = 0;
+
+        for (int i = 0, j = GTValues.RNG.nextInt(endpoints.size()); i < endpoints.size(); i++) {
+            Endpoint endpoint = endpoints.get((i + j) % endpoints.size());
+            if ((receivedFrom & 1 << endpoint.facing.getIndex()) != 0 && endpoint.pipePos.equals(pipePos))
+                continue;
+            TileEntityFluidPipeTickable endpointPipe = endpoint.getPipe(world);
+            IFluidHandler fluidHandler = endpointPipe == null ? null : endpoint.getHandler(world);
+            if (fluidHandler == null)
+                continue;
+
+            IFluidHandler pipeTank = tank;
+            CoverBehavior cover = endpointPipe.getCoverableImplementation().getCoverAtSide(endpoint.facing);
+            if (cover != null) {
+                pipeTank = cover.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, pipeTank);
+            }
+
+            FluidStack drainable = pipeTank.drain(maxFluid, false);
+            if (drainable == null || drainable.amount <= 0) {
+                continue;
+            }
+
+            int filled = Math.min(fluidHandler.fill(maxFluid, false), drainable.amount);
+            if (filled > 0) {
+                destinations.add(fluidHandler);
+                sources.add(pipeTank);
+                amounts.add(filled);
+                availableCapacity += filled;
+            }
+            maxFluid.amount = amount; // Because some mods do actually modify input fluid stack
+        }
+
+        if (availableCapacity > 0) {
+            // the thinnest pipe of the net limits the flow, as it would when passing pipe by pipe
+            final double maxAmount = Math.min(Math.min(Math.min(pipe.getCapacityPerTank(), getWeakestProperties().getThroughput() * 20) / 2,
+                    fluid.amount), remainingFlow);
+            for (int i = 0; i < destinations.size() && remainingFlow > 0; i++) {
+                int toTransfer = amounts.getInt(i);
+                if (availableCapacity > maxAmount) {
+                    toTransfer = (int) Math.floor(toTransfer * maxAmount / availableCapacity);
+                }
+                if (toTransfer == 0) {
+                    if (tank.getFluidAmount() <= 0) break; // If there is no more stored fluid, stop transferring to prevent dupes
+                    toTransfer = 1; // If the percent is not enough to give at least 1L, try to give 1L
+                }
+
+                FluidStack toInsert = fluid.copy();
+                toInsert.amount = toTransfer;
+
+                int inserted = destinations.get(i).fill(toInsert, true);
+                if (inserted > 0) {
+                    sources.get(i).drain(inserted, true);
+                    remainingFlow -= inserted;
+                }
+            }
+        }
+        destinations.clear();
+        sources.clear();
+        amounts.clear();
+    }
+
     @Override
     protected void writeNodeData(FluidPipeProperties nodeData, NBTTagCompound tagCompound) {
         tagCompound.setInteger("max_temperature", nodeData.getMaxFluidTemperature());
@@ -33,4 +301,39 @@ public class FluidPipeNet extends PipeNet<FluidPipeProperties> {
         int channels = tagCompound.getInteger("channels");
         return new FluidPipeProperties(maxTemperature, throughput, gasProof, acidProof, cryoProof, plasmaProof, channels);
     }
+
+    /**
+     * An open side of a pipe which does not lead to another pipe of the net
+     */
+    private static class Endpoint {
+
+        private final BlockPos pipePos;
+        private final EnumFacing facing;
+        private TileEntityFluidPipeTickable pipe;
+        private TileEntity neighbourTile;
+        private IFluidHandler handler;
+
+        private Endpoint(BlockPos pipePos, EnumFacing facing) {
+            this.pipePos = pipePos;
+            this.facing = facing;
+        }
+
+        private TileEntityFluidPipeTickable getPipe(World world) {
+            if (pipe == null || pipe.isInvalid()) {
+                TileEntity tile = world.isBlockLoaded(pipePos) ? world.getTileEntity(pipePos) : null;
+                this.pipe = tile instanceof TileEntityFluidPipeTickable ? (TileEntityFluidPipeTickable) tile : null;
+            }
+            return pipe;
+        }
+
+        private IFluidHandler getHandler(World world) {
+            if (neighbourTile == null || neighbourTile.isInvalid()) {
+                BlockPos neighbourPos = pipePos.offset(facing);
+                this.neighbourTile = world.isBlockLoaded(neighbourPos) ? world.getTileEntity(neighbourPos) : null;
+                this.handler = neighbourTile == null ? null :
+                        neighbourTile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, facing.getOpposite());
+            }
+            return handler;
+        }
+    }
 }
@@ -7,6 +7,9 @@ import gregtech.api.fluids.fluidType.FluidTypes;
 import gregtech.api.metatileentity.IDataInfoProvider;
 import gregtech.api.util.EntityDamageUtil;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.TickProfiler;
+import gregtech.common.ConfigHolder;
+import gregtech.common.pipelike.fluidpipe.net.FluidPipeNet;
 import gregtech.common.pipelike.fluidpipe.net.PipeTankList;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.init.Blocks;
@@ -64,8 +67,16 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
 
     @Override
     public void update() {
+        long profileStart = TickProfiler.startSample(world);
         timer++;
         getCoverableImplementation().update();
+        FluidPipeNet net = null;
+        if (!world.isRemote && ConfigHolder.machines.networkedFluidPipes) {
+            net = getFluidPipeNet();
+            if (net != null) {
+                net.updateFlow(world.getTotalWorldTime());
+            }
+        }
         if (!world.isRemote && getOffsetTimer() % FREQUENCY == 0) {
             lastReceivedFrom &= 63;
             if (lastReceivedFrom == 63) {
@@ -86,12 +97,17 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
                 }
 
                 if (shouldDistribute) {
-                    distributeFluid(index, tank, fluid);
+                    if (net != null && net.canTransportDirectly(fluid)) {
+                        net.markHolding(this, lastReceivedFrom);
+                    } else {
+                        distributeFluid(index, tank, fluid);
+                    }
                     lastReceivedFrom = 0;
                 }
             }
             oldLastReceivedFrom = lastReceivedFrom;
         }
+        TickProfiler.endSample(profileStart, this, world, pos);
     }
 
     @Override
@@ -3,12 +3,13 @@ package gregtech.common.pipelike.itempipe.net;
 import gregtech.api.capability.GregtechTileCapabilities;
 import gregtech.api.cover.CoverBehavior;
 import gregtech.api.cover.ICoverable;
-import gregtech.api.util.FacingPos;
 import gregtech.api.util.GTTransferUtils;
 import gregtech.api.util.ItemStackKey;
 import gregtech.common.covers.*;
 import gregtech.common.pipelike.itempipe.tile.TileEntityItemPipe;
 import gregtech.common.pipelike.itempipe.tile.TileEntityItemPipeTickable;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -28,7 +29,7 @@ public class ItemNetHandler implements IItemHandler {
     private TileEntityItemPipeTickable tickingPipe;
     private final World world;
     private final EnumFacing facing;
-    private final Map<FacingPos, Integer> simulatedTransfersGlobalRoundRobin = new HashMap<>();
+    private int[] simulatedTransfersGlobalRoundRobin = new int[0];
     private int simulatedTransfers = 0;
     private final ItemStackHandler testHandler = new ItemStackHandler(1);
 
@@ -49,8 +50,14 @@ public class ItemNetHandler implements IItemHandler {
 
     private void copyTransferred() {
         simulatedTransfers = tickingPipe.getTransferredItems();
-        simulatedTransfersGlobalRoundRobin.clear();
-        simulatedTransfersGlobalRoundRobin.putAll(pipe.getTransferred());
+    }
+
+    private int[] copyTransferredGlobalRoundRobin(int[] transferred) {
+        if (simulatedTransfersGlobalRoundRobin.length < transferred.length) {
+            simulatedTransfersGlobalRoundRobin = new int[transferred.length];
+        }
+        System.arraycopy(transferred, 0, simulatedTransfersGlobalRoundRobin, 0, transferred.length);
+        return simulatedTransfersGlobalRoundRobin;
     }
 
     @Nonnull
@@ -68,7 +75,7 @@ public class ItemNetHandler implements IItemHandler {
         }
 
         copyTransferred();
-        CoverBehavior pipeCover = getCoverOnPipe(pipe.getPipePos(), facing);
+        CoverBehavior pipeCover = pipe.getCoverableImplementation().getCoverAtSide(facing);
         CoverBehavior tileCover = getCoverOnNeighbour(pipe.getPipePos(), facing);
 
         boolean pipeConveyor = pipeCover instanceof CoverConveyor, tileConveyor = tileCover instanceof CoverConveyor;
@@ -117,12 +124,15 @@ public class ItemNetHandler implements IItemHandler {
             return stack;
         if (handlers.size() == 1)
             return insert(handlers.get(0), stack, simulate);
-        List<ItemPipeNet.Inventory> handlersCopy = new ArrayList<>(handlers);
-        int original = stack.getCount();
 
         if (global) {
-            stack = insertToHandlersEnhanced(handlersCopy, stack, handlers.size(), simulate);
+            int[] transferred = pipe.getTransferred(handlers);
+            if (simulate) {
+                transferred = copyTransferredGlobalRoundRobin(transferred);
+            }
+            stack = insertToHandlersEnhanced(handlers, transferred, stack, simulate);
         } else {
+            List<ItemPipeNet.Inventory> handlersCopy = new ArrayList<>(handlers);
             stack = insertToHandlers(handlersCopy, stack, simulate);
             if (!stack.isEmpty() && handlersCopy.size() > 0)
                 stack = insertToHandlers(handlersCopy, stack, simulate);
@@ -175,21 +185,26 @@ public class ItemNetHandler implements IItemHandler {
         return remainder;
     }
 
-    private ItemStack insertToHandlersEnhanced(List<ItemPipeNet.Inventory> copy, ItemStack stack, int dest, boolean simulate) {
-        LinkedList<EnhancedRoundRobinData> transferred = new LinkedList<>();
-        LinkedList<Integer> steps = new LinkedList<>();
+    /**
+     * @param handlers    to insert to
+     * @param transferred amount of items transferred to each handler so far, indexed like handlers
+     */
+    private ItemStack insertToHandlersEnhanced(List<ItemPipeNet.Inventory> handlers, int[] transferred, ItemStack stack, boolean simulate) {
+        List<EnhancedRoundRobinData> transferredData = new ArrayList<>();
+        IntArrayList steps = new IntArrayList();
         int min = Integer.MAX_VALUE;
         ItemStack simStack;
 
         // find inventories that are not full and get the amount that was inserted in total
-        for (ItemPipeNet.Inventory inv : copy) {
+        for (int i = 0; i < handlers.size(); i++) {
+            ItemPipeNet.Inventory inv = handlers.get(i);
             simStack = stack.copy();
             int ins = stack.getCount() - insert(inv, simStack, true, true).getCount();
             if (ins <= 0)
                 continue;
-            int didTransfer = didTransferTo(inv, simulate);
-            EnhancedRoundRobinData data = new EnhancedRoundRobinData(inv, ins, didTransfer);
-            transferred.addLast(data);
+            int didTransfer = transferred[i];
+            EnhancedRoundRobinData data = new EnhancedRoundRobinData(inv, i, ins, didTransfer);
+            transferredData.add(data);
 
             min = Math.min(min, didTransfer);
 
@@ -198,25 +213,26 @@ public class ItemNetHandler implements IItemHandler {
             }
         }
 
-        if (transferred.isEmpty() || steps.isEmpty())
+        if (transferredData.isEmpty() || steps.isEmpty())
             return stack;
 
         if (!simulate && min < Integer.MAX_VALUE) {
-            decrementBy(min);
+            decrementBy(transferred, min);
         }
 
-        transferred.sort(Comparator.comparingInt(data -> data.transferred));
-        steps.sort(Integer::compare);
+        transferredData.sort(Comparator.comparingInt(data -> data.transferred));
+        IntArrays.quickSort(steps.elements(), 0, steps.size());
 
-        if (transferred.get(0).transferred != steps.get(0)) {
+        if (transferredData.get(0).transferred != steps.getInt(0)) {
             return stack;
         }
 
         int amount = stack.getCount();
-        int c = amount / transferred.size();
-        int m = amount % transferred.size();
-        List<EnhancedRoundRobinData> transferredCopy = new ArrayList<>(transferred);
-        int nextStep = steps.isEmpty() ? -1 : steps.pollFirst();
+        int c = amount / transferredData.size();
+        int m = amount % transferredData.size();
+        List<EnhancedRoundRobinData> transferredCopy = new ArrayList<>(transferredData);
+        int stepIndex = 0;
+        int nextStep = steps.getInt(stepIndex++);
 
         // equally distribute items over all inventories
         // it takes into account how much was inserted in total
@@ -260,26 +276,26 @@ public class ItemNetHandler implements IItemHandler {
                 if (data.transferred < nextStep)
                     continue outer;
             }
-            if (steps.isEmpty()) {
+            if (stepIndex == steps.size()) {
                 if (nextStep >= 0) {
                     c = amount / transferredCopy.size();
                     m = amount % transferredCopy.size();
                     nextStep = -1;
                 }
             } else {
-                nextStep = steps.pollFirst();
+                nextStep = steps.getInt(stepIndex++);
             }
         }
 
         int inserted = 0;
 
         // finally actually insert the item
-        for (EnhancedRoundRobinData data : transferred) {
+        for (EnhancedRoundRobinData data : transferredData) {
             ItemStack toInsert = stack.copy();
             toInsert.setCount(data.toTransfer);
             int ins = data.toTransfer - insert(data.inventory, toInsert, simulate).getCount();
             inserted += ins;
-            transferTo(data.inventory, simulate, ins);
+            transferred[data.index] += ins;
         }
 
         ItemStack remainder = stack.copy();
@@ -296,8 +312,8 @@ public class ItemNetHandler implements IItemHandler {
         if (allowed == 0 || !handler.matchesFilters(stack)) {
             return stack;
         }
-        CoverBehavior pipeCover = getCoverOnPipe(handler.getPipePos(), handler.getFaceToHandler());
-        CoverBehavior tileCover = getCoverOnNeighbour(handler.getPipePos(), handler.getFaceToHandler());
+        CoverBehavior pipeCover = handler.getPipeCover(world);
+        CoverBehavior tileCover = handler.getNeighbourCover(world);
         if (pipeCover != null) {
             testHandler.setStackInSlot(0, stack.copy());
             IItemHandler itemHandler = pipeCover.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, testHandler);
@@ -335,15 +351,6 @@ public class ItemNetHandler implements IItemHandler {
         return remainder;
     }
 
-    public CoverBehavior getCoverOnPipe(BlockPos pos, EnumFacing handlerFacing) {
-        TileEntity tile = pipe.getWorld().getTileEntity(pos);
-        if (tile instanceof TileEntityItemPipe) {
-            ICoverable coverable = ((TileEntityItemPipe) tile).getCoverableImplementation();
-            return coverable.getCoverAtSide(handlerFacing);
-        }
-        return null;
-    }
-
     public CoverBehavior getCoverOnNeighbour(BlockPos pos, EnumFacing handlerFacing) {
         TileEntity tile = pipe.getWorld().getTileEntity(pos.offset(handlerFacing));
         if (tile != null) {
@@ -440,47 +447,28 @@ public class ItemNetHandler implements IItemHandler {
         return 64;
     }
 
-    private void transferTo(ItemPipeNet.Inventory handler, boolean simulate, int amount) {
-        if (simulate)
-            simulatedTransfersGlobalRoundRobin.merge(handler.toFacingPos(), amount, Integer::sum);
-        else
-            pipe.getTransferred().merge(handler.toFacingPos(), amount, Integer::sum);
-
-    }
-
-    private boolean contains(ItemPipeNet.Inventory handler, boolean simulate) {
-        return simulate ? simulatedTransfersGlobalRoundRobin.containsKey(handler.toFacingPos()) : pipe.getTransferred().containsKey(handler.toFacingPos());
-    }
-
-    private int didTransferTo(ItemPipeNet.Inventory handler, boolean simulate) {
-        if (simulate)
-            return simulatedTransfersGlobalRoundRobin.getOrDefault(handler.toFacingPos(), 0);
-        return pipe.getTransferred().getOrDefault(handler.toFacingPos(), 0);
-    }
-
-    private void resetTransferred(boolean simulated) {
-        if (simulated)
-            simulatedTransfersGlobalRoundRobin.clear();
-        else
-            pipe.resetTransferred();
-    }
-
-    private void decrementBy(int amount) {
-        for (Map.Entry<FacingPos, Integer> entry : pipe.getTransferred().entrySet()) {
-            entry.setValue(entry.getValue() - amount);
+    /**
+     * The amount is the lowest counter of the inventories which accept the stack, full ones may be below it
+     * and are only decremented down to zero
+     */
+    private static void decrementBy(int[] transferred, int amount) {
+        for (int i = 0; i < transferred.length; i++) {
+            transferred[i] = Math.max(0, transferred[i] - amount);
         }
     }
 
     private static class EnhancedRoundRobinData {
         private final ItemPipeNet.Inventory inventory;
+        private final int index;
         private final int maxInsertable;
         private int transferred;
         private int toTransfer = 0;
 
-        private EnhancedRoundRobinData(ItemPipeNet.Inventory inventory, int maxInsertable, int transferred) {
+        private EnhancedRoundRobinData(ItemPipeNet.Inventory inventory, int index, int maxInsertable, int transferred) {
             this.maxInsertable = maxInsertable;
             this.transferred = transferred;
             this.inventory = inventory;
+            this.index = index;
         }
     }
 }
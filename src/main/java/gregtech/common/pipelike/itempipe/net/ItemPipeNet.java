@@ -1,10 +1,15 @@
 package gregtech.common.pipelike.itempipe.net;
 
+import gregtech.api.capability.GregtechTileCapabilities;
+import gregtech.api.cover.CoverBehavior;
+import gregtech.api.cover.ICoverable;
 import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.ItemPipeProperties;
 import gregtech.api.util.FacingPos;
+import gregtech.common.pipelike.itempipe.tile.TileEntityItemPipe;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
@@ -14,6 +19,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 
+import javax.annotation.Nullable;
 import java.util.*;
 import java.util.function.Predicate;
 
@@ -50,7 +56,7 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
     }
 
     @Override
-    protected void transferNodeData(Map<BlockPos, Node<ItemPipeProperties>> transferredNodes, PipeNet<ItemPipeProperties> parentNet) {
+    protected void transferNodeData(Long2ObjectMap<Node<ItemPipeProperties>> transferredNodes, PipeNet<ItemPipeProperties> parentNet) {
         super.transferNodeData(transferredNodes, parentNet);
         NET_DATA.clear();
         ((ItemPipeNet) parentNet).NET_DATA.clear();
@@ -73,6 +79,10 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
         private final int distance;
         private final ItemPipeProperties properties;
         private final List<Predicate<ItemStack>> filters;
+        private final FacingPos facingPos;
+        // tiles are kept until they are invalidated, the whole inventory list is dropped on neighbour updates
+        private TileEntity pipeTile;
+        private TileEntity neighbourTile;
 
         public Inventory(BlockPos pipePos, EnumFacing facing, int distance, ItemPipeProperties properties, List<Predicate<ItemStack>> filters) {
             this.pipePos = pipePos;
@@ -80,6 +90,7 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
             this.distance = distance;
             this.properties = properties;
             this.filters = filters;
+            this.facingPos = new FacingPos(pipePos, facing);
         }
 
         public BlockPos getPipePos() {
@@ -115,15 +126,50 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
             return pipePos.offset(faceToHandler);
         }
 
+        private TileEntity getNeighbourTile(World world) {
+            if (neighbourTile == null || neighbourTile.isInvalid()) {
+                this.neighbourTile = world.getTileEntity(getHandlerPos());
+            }
+            return neighbourTile;
+        }
+
         public IItemHandler getHandler(World world) {
-            TileEntity tile = world.getTileEntity(getHandlerPos());
+            TileEntity tile = getNeighbourTile(world);
             if (tile != null)
                 return tile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, faceToHandler.getOpposite());
             return null;
         }
 
+        /**
+         * @return the cover on the pipe side facing the handler
+         */
+        @Nullable
+        public CoverBehavior getPipeCover(World world) {
+            if (pipeTile == null || pipeTile.isInvalid()) {
+                this.pipeTile = world.getTileEntity(pipePos);
+            }
+            if (pipeTile instanceof TileEntityItemPipe) {
+                return ((TileEntityItemPipe) pipeTile).getCoverableImplementation().getCoverAtSide(faceToHandler);
+            }
+            return null;
+        }
+
+        /**
+         * @return the cover on the handler side facing the pipe
+         */
+        @Nullable
+        public CoverBehavior getNeighbourCover(World world) {
+            TileEntity tile = getNeighbourTile(world);
+            if (tile != null) {
+                ICoverable coverable = tile.getCapability(GregtechTileCapabilities.CAPABILITY_COVERABLE, faceToHandler.getOpposite());
+                if (coverable == null) return null;
+                return coverable.getCoverAtSide(faceToHandler.getOpposite());
+            }
+            return null;
+        }
+
         public FacingPos toFacingPos() {
-            return new FacingPos(pipePos, faceToHandler);
+            return facingPos;
         }
     }
 }
@@ -8,7 +8,9 @@ import gregtech.common.pipelike.itempipe.ItemPipeType;
 import gregtech.common.pipelike.itempipe.net.ItemNetHandler;
 import gregtech.common.pipelike.itempipe.net.ItemPipeNet;
 import gregtech.common.pipelike.itempipe.net.WorldItemPipeNet;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
@@ -16,14 +18,18 @@ import net.minecraftforge.items.ItemStackHandler;
 
 import javax.annotation.Nullable;
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class TileEntityItemPipe extends TileEntityMaterialPipeBase<ItemPipeType, ItemPipeProperties> {
 
     private final EnumMap<EnumFacing, ItemNetHandler> handlers = new EnumMap<>(EnumFacing.class);
-    private final Map<FacingPos, Integer> transferred = new HashMap<>();
+    // items transferred to each destination of the round robin distribution, indexed like transferredRoutes
+    private List<ItemPipeNet.Inventory> transferredRoutes = Collections.emptyList();
+    private int[] transferred = new int[0];
     private ItemNetHandler defaultHandler;
     // the ItemNetHandler can only be created on the server so we have a empty placeholder for the client
     private final IItemHandler clientCapability = new ItemStackHandler(0);
@@ -94,10 +100,28 @@ public class TileEntityItemPipe extends TileEntityMaterialPipeBase<ItemPipeType,
     }
 
     public void resetTransferred() {
-        transferred.clear();
+        Arrays.fill(transferred, 0);
     }
 
-    public Map<FacingPos, Integer> getTransferred() {
+    /**
+     * @param routes the destinations of this pipe, as returned by {@link ItemPipeNet#getNetData(BlockPos, EnumFacing)}
+     * @return amount of items transferred to each destination, counters are carried over when the destinations were rebuilt
+     */
+    public int[] getTransferred(List<ItemPipeNet.Inventory> routes) {
+        if (routes != transferredRoutes) {
+            int[] newTransferred = new int[routes.size()];
+            if (transferred.length > 0 && newTransferred.length > 0) {
+                Object2IntOpenHashMap<FacingPos> oldTransferred = new Object2IntOpenHashMap<>(transferred.length);
+                for (int i = 0; i < transferred.length; i++) {
+                    oldTransferred.put(transferredRoutes.get(i).toFacingPos(), transferred[i]);
+                }
+                for (int i = 0; i < newTransferred.length; i++) {
+                    newTransferred[i] = oldTransferred.getInt(routes.get(i).toFacingPos());
+                }
+            }
+            this.transferredRoutes = routes;
+            this.transferred = newTransferred;
+        }
         return transferred;
     }
 
@@ -1,5 +1,6 @@
 package gregtech.common.pipelike.itempipe.tile;
 
+import gregtech.api.util.TickProfiler;
 import net.minecraft.util.ITickable;
 
 public class TileEntityItemPipeTickable extends TileEntityItemPipe implements ITickable {
@@ -9,10 +10,12 @@ public class TileEntityItemPipeTickable extends TileEntityItemPipe implements IT
 
     @Override
     public void update() {
+        long profileStart = TickProfiler.startSample(world);
         getCoverableImplementation().update();
         if (++timer % 20 == 0) {
             transferredItems = 0;
         }
+        TickProfiler.endSample(profileStart, this, world, pos);
     }
 
     @Override
@@ -3,6 +3,7 @@ package gregtech.common.terminal.app.prospector.widget;
 import gregtech.api.gui.IRenderContext;
 import gregtech.api.gui.Widget;
 import gregtech.api.net.packets.PacketProspecting;
+import gregtech.api.unification.BlockStateOreInfo;
 import gregtech.api.unification.OreDictUnifier;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.Position;
@@ -112,9 +113,9 @@ public class WidgetProspectingMap extends Widget {
                             for (int y = 1; y < ySize; y++) {
                                 pos.setPos(x, y, z);
                                 IBlockState state = chunk.getBlockState(pos);
-                                ItemStack itemBlock = GTUtility.toItem(state);
-                                if (GTUtility.isOre(itemBlock)) {
-                                    packet.addBlock(x, y, z, OreDictUnifier.getOreDictionaryNames(itemBlock).stream().findFirst().get());
+                                BlockStateOreInfo oreInfo = BlockStateOreInfo.get(state);
+                                if (oreInfo.isOre()) {
+                                    packet.addBlock(x, y, z, oreInfo.getOreDictName());
                                 }
                             }
                         }
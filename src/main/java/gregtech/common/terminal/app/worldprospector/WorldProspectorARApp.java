@@ -22,6 +22,7 @@ import gregtech.common.terminal.app.worldprospector.matcher.BlockStateMatcher;
 import gregtech.common.terminal.app.worldprospector.matcher.IMatcher;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockFalling;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.GlStateManager;
@@ -327,9 +328,10 @@ public class WorldProspectorARApp extends ARApplication {
         int minY = Math.max(0, -maxRadius + player.getPosition().getY());
         for (BlockPos pos : bresenhamCircle(lastPos.getX(), lastPos.getZ(), radius)) {
             for (int y = minY; y <= maxY; y++) {
+                BlockPos blockPos = new BlockPos(pos.getX(), y, pos.getZ());
+                IBlockState state = world.getBlockState(blockPos);
                 for (IMatcher matcher : matchers) {
-                    BlockPos blockPos =new BlockPos(pos.getX(), y, pos.getZ());
-                    if (matcher.match(world.getBlockState(blockPos))) {
+                    if (matcher.match(state)) {
                         addCluster(blockPos, founds.get(matcher));
                     }
                 }
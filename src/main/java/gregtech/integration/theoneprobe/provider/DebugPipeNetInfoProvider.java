@@ -15,11 +15,9 @@ import mcjty.theoneprobe.api.ProbeMode;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
 import java.util.ArrayList;
-import java.util.Map;
 
 public class DebugPipeNetInfoProvider implements IProbeInfoProvider {
     @Override
@@ -48,8 +46,7 @@ public class DebugPipeNetInfoProvider implements IProbeInfoProvider {
                     probeInfo.text("Net: " + pipeNet.hashCode());
                     probeInfo.text("Node Info: ");
                     StringBuilder builder = new StringBuilder();
-                    Map<BlockPos, ? extends Node<?>> nodeMap = pipeNet.getAllNodes();
-                    Node<?> node = nodeMap.get(data.getPos());
+                    Node<?> node = pipeNet.getNodeAt(data.getPos());
                     builder.append("{").append("active: ").append(node.isActive)
                             .append(", mark: ").append(node.mark)
                             .append(", open: ").append(node.openConnections).append("}");
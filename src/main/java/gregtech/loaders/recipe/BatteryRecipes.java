@@ -241,7 +241,7 @@ public class BatteryRecipes {
         MIXER_RECIPES.recipeBuilder().duration(600).EUt(VA[MV])
                 .input(dust, Redstone, 5)
                 .input(dust, Ruby, 4)
-                .notConsumable(new IntCircuitIngredient(1))
+                .notConsumable(IntCircuitIngredient.create(1))
                 .output(ENERGIUM_DUST, 9)
                 .buildAndRegister();
 
@@ -273,7 +273,7 @@ public class BatteryRecipes {
         MIXER_RECIPES.recipeBuilder()
                 .input(ENERGIUM_DUST, 3)
                 .input(dust, Lapis, 2)
-                .notConsumable(new IntCircuitIngredient(2))
+                .notConsumable(IntCircuitIngredient.create(2))
                 .output(dust, Lapotron, 5)
                 .duration(200).EUt(VA[HV]).buildAndRegister();
 
@@ -94,14 +94,14 @@ public class VanillaStandardRecipes {
 
         PACKER_RECIPES.recipeBuilder()
                 .inputs(new ItemStack(Items.WHEAT, 9))
-                .notConsumable(new IntCircuitIngredient(9))
+                .notConsumable(IntCircuitIngredient.create(9))
                 .outputs(new ItemStack(Blocks.HAY_BLOCK))
                 .duration(200).EUt(2)
                 .buildAndRegister();
 
         PACKER_RECIPES.recipeBuilder()
                 .inputs(new ItemStack(Items.MELON, 9))
-                .notConsumable(new IntCircuitIngredient(9))
+                .notConsumable(IntCircuitIngredient.create(9))
                 .outputs(new ItemStack(Blocks.MELON_BLOCK))
                 .duration(200).EUt(2)
                 .buildAndRegister();
@@ -989,7 +989,7 @@ public class VanillaStandardRecipes {
 
         ASSEMBLER_RECIPES.recipeBuilder()
                 .inputs(new ItemStack(Items.STRING, 4))
-                .notConsumable(new IntCircuitIngredient(4))
+                .notConsumable(IntCircuitIngredient.create(4))
                 .outputs(new ItemStack(Blocks.WOOL, 1, 0))
                 .duration(100).EUt(4).buildAndRegister();
 
@@ -1161,19 +1161,19 @@ public class VanillaStandardRecipes {
 
         PACKER_RECIPES.recipeBuilder()
                 .inputs(new ItemStack(Items.NETHER_WART, 9))
-                .notConsumable(new IntCircuitIngredient(9))
+                .notConsumable(IntCircuitIngredient.create(9))
                 .outputs(new ItemStack(Blocks.NETHER_WART_BLOCK))
                 .duration(200).EUt(2).buildAndRegister();
 
         PACKER_RECIPES.recipeBuilder()
                 .inputs(new ItemStack(Items.PRISMARINE_SHARD, 4))
-                .notConsumable(new IntCircuitIngredient(4))
+                .notConsumable(IntCircuitIngredient.create(4))
                 .outputs(new ItemStack(Blocks.PRISMARINE))
                 .duration(100).EUt(2).buildAndRegister();
 
         PACKER_RECIPES.recipeBuilder()
                 .inputs(new ItemStack(Items.PRISMARINE_SHARD, 9))
-                .notConsumable(new IntCircuitIngredient(9))
+                .notConsumable(IntCircuitIngredient.create(9))
                 .outputs(new ItemStack(Blocks.PRISMARINE, 1, 1))
                 .duration(200).EUt(2).buildAndRegister();
 
@@ -25,7 +25,7 @@ public class AssemblerRecipeLoader {
                 .input(plate, Bronze, 4)
                 .input(gear, Bronze, 2)
                 .input(frameGt, Bronze)
-                .notConsumable(new IntCircuitIngredient(4))
+                .notConsumable(IntCircuitIngredient.create(4))
                 .outputs(TURBINE_CASING.getItemVariant(BRONZE_GEARBOX, 2))
                 .duration(50).EUt(16).buildAndRegister();
 
@@ -33,7 +33,7 @@ public class AssemblerRecipeLoader {
                 .input(plate, Steel, 4)
                 .input(gear, Steel, 2)
                 .input(frameGt, Steel)
-                .notConsumable(new IntCircuitIngredient(4))
+                .notConsumable(IntCircuitIngredient.create(4))
                 .outputs(TURBINE_CASING.getItemVariant(STEEL_GEARBOX, 2))
                 .duration(50).EUt(16).buildAndRegister();
 
@@ -41,7 +41,7 @@ public class AssemblerRecipeLoader {
                 .input(plate, StainlessSteel, 4)
                 .input(gear, StainlessSteel, 2)
                 .input(frameGt, StainlessSteel)
-                .notConsumable(new IntCircuitIngredient(4))
+                .notConsumable(IntCircuitIngredient.create(4))
                 .outputs(TURBINE_CASING.getItemVariant(STAINLESS_STEEL_GEARBOX, 2))
                 .duration(50).EUt(16).buildAndRegister();
 
@@ -49,7 +49,7 @@ public class AssemblerRecipeLoader {
                 .input(plate, Titanium, 4)
                 .input(gear, Titanium, 2)
                 .input(frameGt, Titanium)
-                .notConsumable(new IntCircuitIngredient(4))
+                .notConsumable(IntCircuitIngredient.create(4))
                 .outputs(TURBINE_CASING.getItemVariant(TITANIUM_GEARBOX, 2))
                 .duration(50).EUt(16).buildAndRegister();
 
@@ -57,7 +57,7 @@ public class AssemblerRecipeLoader {
                 .input(plate, TungstenSteel, 4)
                 .input(gear, TungstenSteel, 2)
                 .input(frameGt, TungstenSteel)
-                .notConsumable(new IntCircuitIngredient(4))
+                .notConsumable(IntCircuitIngredient.create(4))
                 .outputs(TURBINE_CASING.getItemVariant(TUNGSTENSTEEL_GEARBOX, 2))
                 .duration(50).EUt(16).buildAndRegister();
 
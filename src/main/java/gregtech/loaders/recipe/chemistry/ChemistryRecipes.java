@@ -87,19 +87,19 @@ public class ChemistryRecipes {
                 .duration(80).EUt(48).buildAndRegister();
 
         GAS_COLLECTOR_RECIPES.recipeBuilder()
-                .notConsumable(new IntCircuitIngredient(1))
+                .notConsumable(IntCircuitIngredient.create(1))
                 .fluidOutputs(Air.getFluid(10000))
                 .dimension(0)
                 .duration(200).EUt(16).buildAndRegister();
 
         GAS_COLLECTOR_RECIPES.recipeBuilder()
-                .notConsumable(new IntCircuitIngredient(2))
+                .notConsumable(IntCircuitIngredient.create(2))
                 .fluidOutputs(NetherAir.getFluid(10000))
                 .dimension(-1)
                 .duration(200).EUt(64).buildAndRegister();
 
         GAS_COLLECTOR_RECIPES.recipeBuilder()
-                .notConsumable(new IntCircuitIngredient(3))
+                .notConsumable(IntCircuitIngredient.create(3))
                 .fluidOutputs(EnderAir.getFluid(10000))
                 .dimension(1)
                 .duration(200).EUt(256).buildAndRegister();
@@ -17,7 +17,7 @@ public class FuelRecipeChains {
                 .fluidInputs(RefineryGas.getFluid(2000))
                 .fluidInputs(Methanol.getFluid(1000))
                 .fluidInputs(Acetone.getFluid(1000))
-                .notConsumable(new IntCircuitIngredient(24))
+                .notConsumable(IntCircuitIngredient.create(24))
                 .fluidOutputs(RawGasoline.getFluid(20000))
                 .buildAndRegister();
 
@@ -31,7 +31,7 @@ public class FuelRecipeChains {
         CHEMICAL_RECIPES.recipeBuilder().EUt(VA[LV]).duration(100)
                 .fluidInputs(Nitrogen.getFluid(2000))
                 .fluidInputs(Oxygen.getFluid(1000))
-                .notConsumable(new IntCircuitIngredient(4))
+                .notConsumable(IntCircuitIngredient.create(4))
                 .fluidOutputs(NitrousOxide.getFluid(1000))
                 .buildAndRegister();
 
@@ -48,7 +48,7 @@ public class FuelRecipeChains {
                 .fluidInputs(NitrousOxide.getFluid(2000))
                 .fluidInputs(Toluene.getFluid(1000))
                 .fluidInputs(EthylTertButylEther.getFluid(1000))
-                .notConsumable(new IntCircuitIngredient(24))
+                .notConsumable(IntCircuitIngredient.create(24))
                 .fluidOutputs(HighOctaneGasoline.getFluid(32000))
                 .buildAndRegister();
 
@@ -126,7 +126,7 @@ public class GrowthMediumRecipes {
 
         // Sterile Growth Medium
         FLUID_HEATER_RECIPES.recipeBuilder().EUt(VA[IV]).duration(20)
-                .notConsumable(new IntCircuitIngredient(1))
+                .notConsumable(IntCircuitIngredient.create(1))
                 .fluidInputs(RawGrowthMedium.getFluid(100))
                 .fluidOutputs(SterileGrowthMedium.getFluid(100))
                 .buildAndRegister();
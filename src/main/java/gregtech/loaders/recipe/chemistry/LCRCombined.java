@@ -12,7 +12,7 @@ public class LCRCombined {
     static void init() {
 
         LARGE_CHEMICAL_RECIPES.recipeBuilder()
-                .notConsumable(new IntCircuitIngredient(24))
+                .notConsumable(IntCircuitIngredient.create(24))
                 .fluidInputs(Methane.getFluid(3000))
                 .fluidInputs(Nitrogen.getFluid(4000))
                 .fluidInputs(Oxygen.getFluid(3000))
@@ -23,7 +23,7 @@ public class LCRCombined {
                 .buildAndRegister();
 
         LARGE_CHEMICAL_RECIPES.recipeBuilder()
-                .notConsumable(new IntCircuitIngredient(24))
+                .notConsumable(IntCircuitIngredient.create(24))
                 .fluidInputs(Hydrogen.getFluid(6000))
                 .fluidInputs(CarbonDioxide.getFluid(1000))
                 .fluidOutputs(Methane.getFluid(1000))
@@ -33,7 +33,7 @@ public class LCRCombined {
                 .buildAndRegister();
 
         LARGE_CHEMICAL_RECIPES.recipeBuilder()
-                .notConsumable(new IntCircuitIngredient(24))
+                .notConsumable(IntCircuitIngredient.create(24))
                 .fluidInputs(Propene.getFluid(1000))
                 .fluidInputs(Benzene.getFluid(1000))
                 .fluidInputs(Oxygen.getFluid(1000))
@@ -43,7 +43,7 @@ public class LCRCombined {
                 .duration(480).EUt(VA[LV]).buildAndRegister();
 
         LARGE_CHEMICAL_RECIPES.recipeBuilder()
-                .notConsumable(new IntCircuitIngredient(24))
+                .notConsumable(IntCircuitIngredient.create(24))
                 .fluidInputs(Benzene.getFluid(1000))
                 .fluidInputs(Chlorine.getFluid(2000))
                 .fluidInputs(Water.getFluid(1000))
@@ -53,7 +53,7 @@ public class LCRCombined {
                 .duration(560).EUt(VA[LV]).buildAndRegister();
 
         LARGE_CHEMICAL_RECIPES.recipeBuilder()
-                .notConsumable(new IntCircuitIngredient(24))
+                .notConsumable(IntCircuitIngredient.create(24))
                 .fluidInputs(Benzene.getFluid(2000))
                 .fluidInputs(Chlorine.getFluid(4000))
                 .input(dust, SodiumHydroxide, 6)
@@ -63,21 +63,21 @@ public class LCRCombined {
                 .duration(1120).EUt(VA[LV]).buildAndRegister();
 
         LARGE_CHEMICAL_RECIPES.recipeBuilder()
-                .notConsumable(new IntCircuitIngredient(24))
+                .notConsumable(IntCircuitIngredient.create(24))
                 .fluidInputs(LightFuel.getFluid(20000))
                 .fluidInputs(HeavyFuel.getFluid(4000))
                 .fluidOutputs(Diesel.getFluid(24000))
                 .duration(100).EUt(VA[HV]).buildAndRegister();
 
         LARGE_CHEMICAL_RECIPES.recipeBuilder()
-                .notConsumable(new IntCircuitIngredient(24))
+                .notConsumable(IntCircuitIngredient.create(24))
                 .fluidInputs(Diesel.getFluid(10000))
                 .fluidInputs(Tetranitromethane.getFluid(200))
                 .fluidOutputs(CetaneBoostedDiesel.getFluid(10000))
                 .duration(120).EUt(VA[HV]).buildAndRegister();
 
         LARGE_CHEMICAL_RECIPES.recipeBuilder()
-                .notConsumable(new IntCircuitIngredient(24))
+                .notConsumable(IntCircuitIngredient.create(24))
                 .fluidInputs(BioDiesel.getFluid(10000))
                 .fluidInputs(Tetranitromethane.getFluid(400))
                 .fluidOutputs(CetaneBoostedDiesel.getFluid(7500))
@@ -86,7 +86,7 @@ public class LCRCombined {
         LARGE_CHEMICAL_RECIPES.recipeBuilder()
                 .fluidInputs(AceticAcid.getFluid(3000))
                 .notConsumable(dust, Quicklime)
-                .notConsumable(new IntCircuitIngredient(24))
+                .notConsumable(IntCircuitIngredient.create(24))
                 .fluidOutputs(Acetone.getFluid(2000))
                 .fluidOutputs(Oxygen.getFluid(1000))
                 .duration(400).EUt(VA[HV]).buildAndRegister();
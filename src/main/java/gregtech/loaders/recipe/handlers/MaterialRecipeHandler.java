@@ -129,19 +129,19 @@ public class MaterialRecipeHandler {
             FluidStack gas = CraftingComponent.EBF_GASES.get(gasTier).copy();
 
             blastBuilder.copy()
-                    .notConsumable(new IntCircuitIngredient(1))
+                    .notConsumable(IntCircuitIngredient.create(1))
                     .duration(duration)
                     .buildAndRegister();
 
             blastBuilder.copy()
-                    .notConsumable(new IntCircuitIngredient(2))
+                    .notConsumable(IntCircuitIngredient.create(2))
                     .fluidInputs(gas)
                     .duration((int) (duration * 0.67))
                     .buildAndRegister();
         } else {
             blastBuilder.duration(duration);
             if (material == Materials.Silicon) {
-                blastBuilder.notConsumable(new IntCircuitIngredient(1));
+                blastBuilder.notConsumable(IntCircuitIngredient.create(1));
             }
             blastBuilder.buildAndRegister();
         }
@@ -166,12 +166,12 @@ public class MaterialRecipeHandler {
                 dustStack, "XX", "XX", 'X', new UnificationEntry(orePrefix, material));
 
         RecipeMaps.PACKER_RECIPES.recipeBuilder().input(orePrefix, material, 4)
-                .inputs(new CountableIngredient(new IntCircuitIngredient(1), 0))
+                .inputs(new CountableIngredient(IntCircuitIngredient.create(1), 0))
                 .outputs(dustStack)
                 .buildAndRegister();
 
         RecipeMaps.PACKER_RECIPES.recipeBuilder().input(OrePrefix.dust, material)
-                .inputs(new CountableIngredient(new IntCircuitIngredient(2), 0))
+                .inputs(new CountableIngredient(IntCircuitIngredient.create(2), 0))
                 .outputs(GTUtility.copyAmount(4, smallDustStack))
                 .buildAndRegister();
     }
@@ -186,12 +186,12 @@ public class MaterialRecipeHandler {
                 dustStack, "XXX", "XXX", "XXX", 'X', new UnificationEntry(orePrefix, material));
 
         RecipeMaps.PACKER_RECIPES.recipeBuilder().input(orePrefix, material, 9)
-                .inputs(new CountableIngredient(new IntCircuitIngredient(1), 0))
+                .inputs(new CountableIngredient(IntCircuitIngredient.create(1), 0))
                 .outputs(dustStack)
                 .buildAndRegister();
 
         RecipeMaps.PACKER_RECIPES.recipeBuilder().input(OrePrefix.dust, material)
-                .inputs(new CountableIngredient(new IntCircuitIngredient(1), 0))
+                .inputs(new CountableIngredient(IntCircuitIngredient.create(1), 0))
                 .outputs(GTUtility.copyAmount(9, tinyDustStack))
                 .buildAndRegister();
     }
@@ -199,7 +199,7 @@ public class PipeRecipeHandler {
 
         RecipeMaps.PACKER_RECIPES.recipeBuilder()
                 .inputs(GTUtility.copyAmount(4, smallPipe))
-                .notConsumable(new IntCircuitIngredient(4))
+                .notConsumable(IntCircuitIngredient.create(4))
                 .outputs(quadPipe)
                 .duration(30)
                 .EUt(VA[ULV])
@@ -215,7 +215,7 @@ public class PipeRecipeHandler {
 
         RecipeMaps.PACKER_RECIPES.recipeBuilder()
                 .inputs(GTUtility.copyAmount(9, smallPipe))
-                .notConsumable(new IntCircuitIngredient(9))
+                .notConsumable(IntCircuitIngredient.create(9))
                 .outputs(nonuplePipe)
                 .duration(40)
                 .EUt(VA[ULV])
@@ -14,6 +14,7 @@ import gregtech.api.unification.material.properties.PropertyKey;
 import gregtech.api.unification.material.properties.ToolProperty;
 import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.unification.stack.UnificationEntry;
+import gregtech.api.util.DeferredRegistrations;
 import gregtech.common.ConfigHolder;
 import gregtech.common.items.MetaItems;
 import net.minecraft.init.Enchantments;
@@ -101,7 +102,7 @@ public class ToolRecipeHandler {
             ItemStack powerUnitStack = powerUnitItems[i].getStackForm();
             String recipeNameSecond = String.format("%s_%s_unit", toolItems[i].unlocalizedName, material);
             ModHandler.addShapedEnergyTransferRecipe(recipeNameSecond, drillStack,
-                    Ingredient.fromStacks(powerUnitStack), true, true,
+                    DeferredRegistrations.createIngredient(() -> Ingredient.fromStacks(powerUnitStack)), true, true,
                     "wHd", " U ",
                     'H', new UnificationEntry(toolPrefix, material),
                     'U', powerUnitStack);
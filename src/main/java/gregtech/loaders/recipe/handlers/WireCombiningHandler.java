@@ -79,7 +79,7 @@ public class WireCombiningHandler {
             for (int i = 1; i < 5 - startTier; i++) {
                 PACKER_RECIPES.recipeBuilder()
                         .inputs(OreDictUnifier.get(WIRE_DOUBLING_ORDER[startTier], material, 1 << i))
-                        .notConsumable(new IntCircuitIngredient((int) Math.pow(2, i)))
+                        .notConsumable(IntCircuitIngredient.create((int) Math.pow(2, i)))
                         .outputs(OreDictUnifier.get(WIRE_DOUBLING_ORDER[startTier + i], material, 1))
                         .buildAndRegister();
             }
@@ -88,7 +88,7 @@ public class WireCombiningHandler {
         for (int i = 1; i < 5; i++) {
             PACKER_RECIPES.recipeBuilder()
                     .inputs(OreDictUnifier.get(WIRE_DOUBLING_ORDER[i], material, 1))
-                    .notConsumable(new IntCircuitIngredient(1))
+                    .notConsumable(IntCircuitIngredient.create(1))
                     .outputs(OreDictUnifier.get(WIRE_DOUBLING_ORDER[0], material, (int) Math.pow(2, i)))
                     .buildAndRegister();
         }
@@ -2,6 +2,7 @@ package gregtech.api.recipes;
 
 import gregtech.Bootstrap;
 import gregtech.api.recipes.builders.SimpleRecipeBuilder;
+import gregtech.api.util.ValidationResult;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidRegistry;
@@ -9,12 +10,18 @@ import net.minecraftforge.fluids.FluidStack;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import static gregtech.api.unification.material.Materials.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class RecipeMapTest {
 
@@ -120,4 +127,136 @@ public class RecipeMapTest {
         assertNotNull(r2);
     }
 
+    @Test
+    public void findRecipePrefersMostSharedIngredients() {
+        RecipeMap<SimpleRecipeBuilder> map = new RecipeMap<>("chemical_reactor",
+                0,
+                2,
+                0,
+                2,
+                0,
+                3,
+                0,
+                2,
+                new SimpleRecipeBuilder().EUt(30),
+                false);
+
+        map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.COBBLESTONE))
+                .outputs(new ItemStack(Blocks.STONE))
+                .EUt(1).duration(1)
+                .buildAndRegister();
+
+        map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.COBBLESTONE))
+                .fluidInputs(new FluidStack(FluidRegistry.WATER, 1))
+                .outputs(new ItemStack(Blocks.GRAVEL))
+                .EUt(1).duration(2)
+                .buildAndRegister();
+
+        Recipe r = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1)), 0);
+        assertNotNull(r);
+        assertEquals(1, r.getFluidInputs().size());
+
+        Recipe r2 = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.singletonList(null), 0);
+        assertNotNull(r2);
+        assertEquals(0, r2.getFluidInputs().size());
+
+        // recipes above the given voltage are never considered
+        assertNull(map.findRecipe(0, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.singletonList(null), 0));
+    }
+
+    @Test
+    public void removeRecipe() {
+        RecipeMap<SimpleRecipeBuilder> map = new RecipeMap<>("chemical_reactor",
+                0,
+                2,
+                0,
+                2,
+                0,
+                3,
+                0,
+                2,
+                new SimpleRecipeBuilder().EUt(30),
+                false);
+
+        map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.COBBLESTONE))
+                .fluidInputs(new FluidStack(FluidRegistry.WATER, 1))
+                .outputs(new ItemStack(Blocks.GRAVEL))
+                .EUt(1).duration(2)
+                .buildAndRegister();
+
+        map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.STONE))
+                .fluidInputs(new FluidStack(FluidRegistry.WATER, 1))
+                .outputs(new ItemStack(Blocks.COBBLESTONE))
+                .EUt(1).duration(1)
+                .buildAndRegister();
+
+        Recipe r = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1)), 0);
+        assertNotNull(r);
+        assertEquals(2, map.getRecipesForFluid(new FluidStack(FluidRegistry.WATER, 1)).size());
+
+        assertTrue(map.removeRecipe(r));
+        assertFalse(map.removeRecipe(r));
+        assertEquals(1, map.getRecipeList().size());
+        assertEquals(1, map.getRecipesForFluid(new FluidStack(FluidRegistry.WATER, 1)).size());
+        assertNull(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1)), 0));
+        assertNotNull(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.STONE)), Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1)), 0));
+    }
+
+    @Test
+    public void removeRecipesThenAddPastCapacity() {
+        RecipeMap<SimpleRecipeBuilder> map = new RecipeMap<>("chemical_reactor",
+                0,
+                2,
+                0,
+                2,
+                0,
+                3,
+                0,
+                2,
+                new SimpleRecipeBuilder().EUt(30),
+                false);
+
+        List<Recipe> recipes = new ArrayList<>();
+        for (int duration = 1; duration <= 16; duration++) {
+            recipes.add(addWaterRecipe(map, duration));
+        }
+        // every other ID is freed, so the next recipe renumbers the remaining ones instead of growing the index
+        for (int i = 0; i < 16; i += 2) {
+            assertTrue(map.removeRecipe(recipes.get(i)));
+        }
+        // the renumbered recipes fill the index again, so it grows on the way
+        for (int duration = 17; duration <= 32; duration++) {
+            recipes.add(addWaterRecipe(map, duration));
+        }
+
+        assertEquals(24, map.getRecipeList().size());
+        Collection<Recipe> waterRecipes = map.getRecipesForFluid(new FluidStack(FluidRegistry.WATER, 1));
+        assertEquals(24, waterRecipes.size());
+        for (int i = 0; i < recipes.size(); i++) {
+            boolean removed = i < 16 && i % 2 == 0;
+            assertEquals(!removed, waterRecipes.contains(recipes.get(i)));
+        }
+
+        // removing a renumbered recipe only touches its own buckets
+        assertTrue(map.removeRecipe(recipes.get(1)));
+        assertEquals(23, map.getRecipeList().size());
+        assertEquals(23, map.getRecipesForFluid(new FluidStack(FluidRegistry.WATER, 1)).size());
+        assertFalse(map.getRecipesForFluid(new FluidStack(FluidRegistry.WATER, 1)).contains(recipes.get(1)));
+        assertNotNull(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1)), 0));
+    }
+
+    private static Recipe addWaterRecipe(RecipeMap<SimpleRecipeBuilder> map, int duration) {
+        ValidationResult<Recipe> result = map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.COBBLESTONE))
+                .fluidInputs(new FluidStack(FluidRegistry.WATER, 1))
+                .outputs(new ItemStack(Blocks.GRAVEL))
+                .EUt(1).duration(duration)
+                .build();
+        map.addRecipe(result);
+        return result.getResult();
+    }
 }
@@ -0,0 +1,95 @@
+package gregtech.api.recipes.lookup;
+
+import gregtech.Bootstrap;
+import gregtech.api.recipes.CountableIngredient;
+import gregtech.api.recipes.Recipe;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RecipeLookupSnapshotTest {
+
+    private static final byte[] FINGERPRINT = {1, 2, 3, 4};
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    @Test
+    public void restored_lookup_finds_the_recipes_of_the_new_index() throws IOException {
+        File file = writeSnapshot(createIndex(30));
+        assertTrue(RecipeLookupSnapshot.read(file, FINGERPRINT));
+
+        // the recipes are registered again on every start, so they are new but equal objects
+        RecipeIndex index = createIndex(30);
+        RecipeLookup lookup = RecipeLookupSnapshot.restore("test", index);
+        assertNotNull(lookup);
+
+        List<ItemStack> inputs = Collections.singletonList(new ItemStack(Blocks.COBBLESTONE));
+        List<FluidStack> fluidInputs = Collections.singletonList(new FluidStack(FluidRegistry.WATER, 100));
+        Recipe found = lookup.find(32, inputs, fluidInputs, false);
+        assertNotNull(found);
+        // ties are still resolved like in a freshly compiled lookup
+        assertSame(RecipeLookup.compile(index).find(32, inputs, fluidInputs, false), found);
+        assertNotNull(lookup.find(32, Collections.singletonList(new ItemStack(Items.IRON_INGOT)), Collections.emptyList(), false));
+    }
+
+    @Test
+    public void snapshot_of_another_environment_is_not_read() throws IOException {
+        File file = writeSnapshot(createIndex(30));
+
+        assertFalse(RecipeLookupSnapshot.read(file, new byte[]{4, 3, 2, 1}));
+        assertNull(RecipeLookupSnapshot.restore("test", createIndex(30)));
+    }
+
+    @Test
+    public void changed_recipes_are_not_restored() throws IOException {
+        File file = writeSnapshot(createIndex(30));
+        assertTrue(RecipeLookupSnapshot.read(file, FINGERPRINT));
+
+        assertNull(RecipeLookupSnapshot.restore("test", createIndex(60)));
+    }
+
+    @Test
+    public void missing_snapshot_is_not_read() throws IOException {
+        assertFalse(RecipeLookupSnapshot.read(new File(folder.getRoot(), "missing.bin"), FINGERPRINT));
+    }
+
+    private File writeSnapshot(RecipeIndex index) throws IOException {
+        File file = new File(folder.getRoot(), "recipe_lookups.bin");
+        RecipeLookupSnapshot.write(file, FINGERPRINT, Collections.singletonMap("test", RecipeLookup.compile(index)));
+        return file;
+    }
+
+    private static RecipeIndex createIndex(int EUt) {
+        RecipeIndex index = new RecipeIndex(Comparator.comparingInt(Recipe::getEUt).thenComparingInt(Recipe::getDuration));
+        index.add(createRecipe(new ItemStack(Blocks.COBBLESTONE), new FluidStack(FluidRegistry.WATER, 100), new ItemStack(Blocks.STONE), EUt, 20));
+        index.add(createRecipe(new ItemStack(Blocks.COBBLESTONE), null, new ItemStack(Blocks.GRAVEL), EUt, 40));
+        index.add(createRecipe(new ItemStack(Items.IRON_INGOT), null, new ItemStack(Items.IRON_NUGGET, 9), 8, 60));
+        return index;
+    }
+
+    private static Recipe createRecipe(ItemStack input, FluidStack fluidInput, ItemStack output, int EUt, int duration) {
+        List<FluidStack> fluidInputs = fluidInput == null ? Collections.emptyList() : Collections.singletonList(fluidInput);
+        return new Recipe(Collections.singletonList(CountableIngredient.from(input)), Collections.singletonList(output),
+                Collections.emptyList(), fluidInputs, Collections.emptyList(), duration, EUt, false, false);
+    }
+}
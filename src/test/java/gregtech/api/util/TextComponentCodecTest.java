@@ -0,0 +1,59 @@
+package gregtech.api.util;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.TextComponentKeybind;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.util.text.event.ClickEvent;
+import net.minecraft.util.text.event.HoverEvent;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TextComponentCodecTest {
+
+    private static ITextComponent roundTrip(ITextComponent component) {
+        PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+        TextComponentCodec.writeComponent(buf, component);
+        ITextComponent result = TextComponentCodec.readComponent(buf);
+        assertFalse(buf.isReadable());
+        return result;
+    }
+
+    @Test
+    public void roundTrip_keeps_text_and_inherited_styles() {
+        ITextComponent component = new TextComponentString("Energy: ");
+        component.getStyle().setColor(TextFormatting.GRAY).setBold(true);
+        ITextComponent value = new TextComponentString("512 EU/t");
+        value.getStyle().setBold(false).setInsertion("512");
+        component.appendSibling(value).appendSibling(new TextComponentString(" (inherited)"));
+
+        assertEquals(component, roundTrip(component));
+    }
+
+    @Test
+    public void roundTrip_keeps_translations_and_events() {
+        ITextComponent argument = new TextComponentString("42");
+        argument.getStyle().setColor(TextFormatting.AQUA);
+        ITextComponent component = new TextComponentTranslation("gregtech.multiblock.progress", argument, 7);
+        component.getStyle()
+                .setClickEvent(new ClickEvent(ClickEvent.Action.OPEN_URL, "@!toggle"))
+                .setHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, new TextComponentString("hover")));
+
+        ITextComponent expected = new TextComponentTranslation("gregtech.multiblock.progress", argument, "7");
+        expected.setStyle(component.getStyle());
+        assertEquals(expected, roundTrip(component));
+    }
+
+    @Test
+    public void roundTrip_falls_back_to_json_for_other_components() {
+        ITextComponent component = new TextComponentString("Press ");
+        component.appendSibling(new TextComponentKeybind("key.jump"));
+
+        assertEquals(component, roundTrip(component));
+    }
+}
@@ -0,0 +1,99 @@
+package gregtech.common.covers;
+
+import gregtech.Bootstrap;
+import gregtech.api.capability.impl.NotifiableItemStackHandler;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ItemSlotIndexTest {
+
+    /**
+     * Required. Without this all item-related operations will fail because registries haven't been initialized.
+     */
+    @BeforeClass
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    @Test
+    public void plan_fills_partial_slots_before_empty_ones() {
+        NotifiableItemStackHandler inventory = new NotifiableItemStackHandler(3, null, false);
+        inventory.setStackInSlot(1, new ItemStack(Items.FEATHER, 60));
+        inventory.setStackInSlot(2, new ItemStack(Blocks.STONE, 10));
+        ItemSlotIndex index = new ItemSlotIndex();
+
+        assertEquals(10, index.plan(inventory, new ItemStack(Items.FEATHER, 10)));
+        assertTrue(index.insertPlanned(new ItemStack(Items.FEATHER, 10)).isEmpty());
+
+        assertEquals(6, inventory.getStackInSlot(0).getCount());
+        assertEquals(64, inventory.getStackInSlot(1).getCount());
+        assertEquals(10, inventory.getStackInSlot(2).getCount());
+    }
+
+    @Test
+    public void plan_only_counts_items_which_fit() {
+        NotifiableItemStackHandler inventory = new NotifiableItemStackHandler(2, null, false);
+        inventory.setStackInSlot(0, new ItemStack(Blocks.STONE, 64));
+        inventory.setStackInSlot(1, new ItemStack(Items.FEATHER, 40));
+        ItemSlotIndex index = new ItemSlotIndex();
+
+        assertEquals(24, index.plan(inventory, new ItemStack(Items.FEATHER, 64)));
+        assertEquals(0, index.plan(inventory, new ItemStack(Blocks.STONE, 1)));
+        // planning only simulates
+        assertEquals(40, inventory.getStackInSlot(1).getCount());
+    }
+
+    @Test
+    public void insertPlanned_updates_the_index_in_place() {
+        NotifiableItemStackHandler inventory = new NotifiableItemStackHandler(2, null, false);
+        ItemSlotIndex index = new ItemSlotIndex();
+
+        assertEquals(64, index.plan(inventory, new ItemStack(Items.FEATHER, 64)));
+        assertTrue(index.insertPlanned(new ItemStack(Items.FEATHER, 64)).isEmpty());
+        assertEquals(64, inventory.getStackInSlot(0).getCount());
+
+        // the filled slot is no longer offered, the other one is
+        assertEquals(64, index.plan(inventory, new ItemStack(Items.FEATHER, 64)));
+        assertTrue(index.insertPlanned(new ItemStack(Items.FEATHER, 64)).isEmpty());
+        assertEquals(64, inventory.getStackInSlot(1).getCount());
+
+        assertEquals(0, index.plan(inventory, new ItemStack(Items.FEATHER, 1)));
+    }
+
+    @Test
+    public void index_is_rebuilt_after_changes_made_without_it() {
+        NotifiableItemStackHandler inventory = new NotifiableItemStackHandler(3, null, false);
+        ItemSlotIndex index = new ItemSlotIndex();
+        assertEquals(1, index.plan(inventory, new ItemStack(Blocks.STONE, 1)));
+
+        // the index still has all slots as empty, so it would fill the first one if it wasn't rebuilt
+        inventory.setStackInSlot(2, new ItemStack(Items.FEATHER, 10));
+        assertEquals(60, index.plan(inventory, new ItemStack(Items.FEATHER, 60)));
+        assertTrue(index.insertPlanned(new ItemStack(Items.FEATHER, 60)).isEmpty());
+
+        assertEquals(6, inventory.getStackInSlot(0).getCount());
+        assertTrue(inventory.getStackInSlot(1).isEmpty());
+        assertEquals(64, inventory.getStackInSlot(2).getCount());
+    }
+
+    @Test
+    public void insertPlanned_returns_what_changed_slots_do_not_take() {
+        NotifiableItemStackHandler inventory = new NotifiableItemStackHandler(1, null, false);
+        ItemSlotIndex index = new ItemSlotIndex();
+        assertEquals(64, index.plan(inventory, new ItemStack(Items.FEATHER, 64)));
+
+        inventory.setStackInSlot(0, new ItemStack(Blocks.STONE, 32));
+        ItemStack remainder = index.insertPlanned(new ItemStack(Items.FEATHER, 64));
+
+        assertEquals(Items.FEATHER, remainder.getItem());
+        assertEquals(64, remainder.getCount());
+        assertEquals(32, inventory.getStackInSlot(0).getCount());
+        // the change was noticed, so the index doesn't offer the slot anymore
+        assertEquals(0, index.plan(inventory, new ItemStack(Items.FEATHER, 1)));
+    }
+}
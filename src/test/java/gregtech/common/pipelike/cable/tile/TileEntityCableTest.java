@@ -0,0 +1,81 @@
+package gregtech.common.pipelike.cable.tile;
+
+import gregtech.Bootstrap;
+import gregtech.api.util.world.DummyWorld;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TileEntityCableTest {
+
+    @BeforeClass
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    @Test
+    public void batched_amperage_heats_like_single_transfers() {
+        long[] transferAmps = {1, 3, 2, 4, 1};
+        HeatRecordingCable single = new HeatRecordingCable(4);
+        HeatRecordingCable batched = new HeatRecordingCable(4);
+
+        boolean singleOverAmped = false;
+        for (long amps : transferAmps) {
+            singleOverAmped |= single.incrementAmperage(amps, 32);
+        }
+        boolean batchedOverAmped = batched.incrementAmperage(new LongArrayList(transferAmps), 32, 32 * transferAmps.length);
+
+        // running amperage 1, 4, 6, 10, 11 against a max of 4
+        assertEquals(40 * (2 + 6 + 7), single.heat);
+        assertEquals(single.heat, batched.heat);
+        assertEquals(singleOverAmped, batchedOverAmped);
+        assertEquals(single.getAverageAmperage(), batched.getAverageAmperage(), 0);
+        assertEquals(single.getAverageVoltage(), batched.getAverageVoltage(), 0);
+    }
+
+    @Test
+    public void batched_amperage_continues_from_the_current_tick() {
+        HeatRecordingCable single = new HeatRecordingCable(8);
+        HeatRecordingCable batched = new HeatRecordingCable(8);
+        single.incrementAmperage(7, 32);
+        batched.incrementAmperage(7, 32);
+
+        single.incrementAmperage(1, 32);
+        single.incrementAmperage(2, 32);
+        batched.incrementAmperage(new LongArrayList(new long[]{1, 2}), 32, 64);
+
+        assertEquals(40 * 2, single.heat);
+        assertEquals(single.heat, batched.heat);
+    }
+
+    @Test
+    public void batched_amperage_below_max_does_not_heat() {
+        HeatRecordingCable batched = new HeatRecordingCable(8);
+
+        assertFalse(batched.incrementAmperage(new LongArrayList(new long[]{2, 2, 4}), 32, 96));
+        assertEquals(0, batched.heat);
+    }
+
+    private static class HeatRecordingCable extends TileEntityCable {
+
+        private final long maxAmperage;
+        private int heat;
+
+        private HeatRecordingCable(long maxAmperage) {
+            this.maxAmperage = maxAmperage;
+            setWorld(DummyWorld.INSTANCE);
+        }
+
+        @Override
+        public long getMaxAmperage() {
+            return maxAmperage;
+        }
+
+        @Override
+        public void applyHeat(int amount) {
+            this.heat += amount;
+        }
+    }
+}